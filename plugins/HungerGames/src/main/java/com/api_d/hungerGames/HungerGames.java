@@ -7,11 +7,19 @@ import com.api_d.hungerGames.commands.SpectateCommand;
 import com.api_d.hungerGames.commands.AdminCommand;
 import com.api_d.hungerGames.config.GameConfig;
 import com.api_d.hungerGames.database.DatabaseManager;
+import com.api_d.hungerGames.events.GameEventBus;
+import com.api_d.hungerGames.game.ArenaManager;
 import com.api_d.hungerGames.game.GameManager;
 import com.api_d.hungerGames.game.GameState;
 import com.api_d.hungerGames.kits.KitManager;
 import com.api_d.hungerGames.player.PlayerManager;
+import com.api_d.hungerGames.replay.ReplayViewer;
+import com.api_d.hungerGames.world.BlockPlacementEngine;
+import com.api_d.hungerGames.world.ChunkTickets;
 import com.api_d.hungerGames.world.PlatformGenerator;
+import com.api_d.hungerGames.loot.LootChestRegistry;
+import com.api_d.hungerGames.loot.LootGenerator;
+import com.api_d.hungerGames.world.schematic.SchematicLoader;
 import com.api_d.hungerGames.util.HGLogger;
 import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
@@ -26,11 +34,14 @@ import org.bukkit.entity.Arrow;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.Sound;
 import org.bukkit.plugin.java.JavaPlugin;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 import java.util.logging.Level;
+import com.api_d.hungerGames.util.TemporaryEntities;
+import com.api_d.hungerGames.util.TickProfiler;
 
 /**
  * Main plugin class for the Hunger Games plugin
@@ -42,8 +53,13 @@ public final class HungerGames extends JavaPlugin implements Listener {
     private DatabaseManager databaseManager;
     private PlayerManager playerManager;
     private KitManager kitManager;
-    private GameManager gameManager;
+    private ArenaManager arenaManager;
     private PlatformGenerator platformGenerator;
+    private BlockPlacementEngine blockPlacementEngine;
+    private SchematicLoader schematicLoader;
+    private LootGenerator lootGenerator;
+    private LootChestRegistry lootChestRegistry;
+    private ReplayViewer replayViewer;
     
     // Custom logger with [HG] prefix
     private HGLogger hgLogger;
@@ -87,6 +103,10 @@ public final class HungerGames extends JavaPlugin implements Listener {
     private void initializeConfig() {
         hgLogger.info("Initializing configuration...");
         config = new GameConfig(this);
+        TickProfiler.get().initialize(this, config.isProfilerEnabled(), config.getProfilerSpikeThresholdMs(),
+                                      config.getProfilerWindowSize(), config.getProfilerDumpCooldown());
+        TemporaryEntities.get().initialize(this, config.getMaxTemporaryEntities());
+        ChunkTickets.get().initialize(this);
         hgLogger.info("Configuration initialized");
     }
     
@@ -124,11 +144,24 @@ public final class HungerGames extends JavaPlugin implements Listener {
         // Initialize kit manager
         kitManager = KitManager.create();
         
-        // Initialize platform generator
-        platformGenerator = new PlatformGenerator(config, hgLogger.getBukkitLogger());
+        // Initialize block placement engine, schematics and platform generator
+        blockPlacementEngine = new BlockPlacementEngine(this, config);
+        schematicLoader = new SchematicLoader(this);
+        if (config.useSchematics()) {
+            // Parse (or read from cache) before the server starts ticking
+            schematicLoader.get(config.getSpawnSchematicFile());
+            schematicLoader.get(config.getFeastSchematicFile());
+        }
+        lootGenerator = new LootGenerator(config, hgLogger);
+        lootChestRegistry = new LootChestRegistry(lootGenerator);
+        platformGenerator = new PlatformGenerator(config, hgLogger.getBukkitLogger(), blockPlacementEngine, schematicLoader,
+                                                  lootChestRegistry);
+        
+        // Initialize arenas (one game manager each)
+        arenaManager = new ArenaManager(this, config, databaseManager, playerManager, kitManager);
         
-        // Initialize game manager
-        gameManager = GameManager.create(this, config, databaseManager, playerManager, kitManager);
+        // Initialize replay playback for admins
+        replayViewer = new ReplayViewer(this, config);
         
         hgLogger.info("All managers initialized");
     }
@@ -140,7 +173,8 @@ public final class HungerGames extends JavaPlugin implements Listener {
         hgLogger.info("Registering event listeners...");
         
         // Register this plugin as a listener for basic events
-        Bukkit.getPluginManager().registerEvents(this, this);
+        TickProfiler.get().registerEvents(this, this);
+        TickProfiler.get().registerEvents(lootChestRegistry, this);
         
         // Game manager is already registered in its constructor
         
@@ -175,9 +209,20 @@ public final class HungerGames extends JavaPlugin implements Listener {
     private void initializeWorld() {
         hgLogger.info("Setting up world for Hunger Games...");
         
-        // Generate spawn platform
-        if (Bukkit.getWorlds().size() > 0) {
-            platformGenerator.generateSpawnPlatform(Bukkit.getWorlds().get(0).getSpawnLocation());
+        for (GameManager arena : arenaManager.getArenas()) {
+            // In template mode matches run in a separate arena world restored from its template
+            if (arena.getArenaWorldManager().isTemplateMode()) {
+                arena.getArenaWorldManager().loadArena();
+            }
+            
+            // Generate spawn platform
+            if (Bukkit.getWorlds().size() > 0) {
+                World world = arena.getGameWorld();
+                platformGenerator.generateSpawnPlatform(world.getSpawnLocation());
+                
+                // Pre-generate the arena in the background while players join
+                arena.prepareArena(world);
+            }
         }
         
         hgLogger.info("World setup completed");
@@ -186,42 +231,42 @@ public final class HungerGames extends JavaPlugin implements Listener {
     /**
      * Start the hunger games
      */
-    private void startGame() {
-        hgLogger.info("Starting Hunger Games match...");
-        gameManager.initializeGame();
+    private void startGame(GameManager arena) {
+        hgLogger.info("Starting Hunger Games match in " + arena.getArenaId() + "...");
+        arena.initializeGame();
     }
     
     /**
-     * Check if we should start the game and start it if conditions are met
+     * Check if we should start the arena's game and start it if conditions are met
      */
-    private void checkAndStartGame() {
+    private void checkAndStartGame(GameManager arena) {
         // Only start the game if it hasn't been started yet
-        if (!gameManager.isGameRunning()) {
-            int onlinePlayers = Bukkit.getOnlinePlayers().size();
-            hgLogger.info("Player joined. Online players: " + onlinePlayers);
+        if (!arena.isGameRunning()) {
+            int onlinePlayers = arena.getPlayers().size();
+            hgLogger.info("Player joined " + arena.getArenaId() + ". Online players: " + onlinePlayers);
             
             // Start the game when the first player joins
             if (onlinePlayers >= 1) {
                 hgLogger.info("First player joined. Starting Hunger Games match...");
-                startGame();
+                startGame(arena);
             }
         }
     }
     
     /**
-     * Check if we should cancel the game due to insufficient players
+     * Check if we should cancel the arena's game due to insufficient players
      */
-    private void checkAndCancelGame() {
-        if (gameManager.isGameRunning()) {
-            GameState currentState = gameManager.getCurrentState();
+    private void checkAndCancelGame(GameManager arena) {
+        if (arena.isGameRunning()) {
+            GameState currentState = arena.getCurrentState();
             if (currentState.canPlayersJoin()) {
-                int onlinePlayers = Bukkit.getOnlinePlayers().size();
-                hgLogger.info("Player left. Online players: " + onlinePlayers);
+                int onlinePlayers = arena.getPlayers().size();
+                hgLogger.info("Player left " + arena.getArenaId() + ". Online players: " + onlinePlayers);
                 
                 // If we have less than 2 players and the game is still in waiting state, cancel it
                 if (onlinePlayers < 2) {
                     hgLogger.info("Not enough players to continue. Cancelling game...");
-                    gameManager.cancelGame();
+                    arena.cancelGame();
                 }
             }
         }
@@ -232,6 +277,25 @@ public final class HungerGames extends JavaPlugin implements Listener {
         hgLogger.info("Shutting down HungerGames plugin...");
         
         try {
+            // Despawn kit arrows, mobs and items that were waiting for removal
+            TemporaryEntities.get().removeAll();
+            
+            // Drop internal event subscribers, a reload creates new arenas
+            GameEventBus.get().clear();
+            
+            // Remove replay entities before the worlds are saved
+            if (replayViewer != null) {
+                replayViewer.stopAll();
+            }
+            
+            // Write the events and replays of matches still running
+            if (arenaManager != null) {
+                for (GameManager arena : arenaManager.getArenas()) {
+                    arena.getEventLog().finishNow();
+                    arena.getReplayRecorder().stop(true);
+                }
+            }
+            
             // Save all player data
             if (playerManager != null) {
                 playerManager.saveAllPlayers().join();
@@ -288,17 +352,22 @@ public final class HungerGames extends JavaPlugin implements Listener {
                 }
             });
             
+            // Route the player to an arena; in template mode each arena is a separate world
+            GameManager arena = arenaManager.assign(event.getPlayer());
+            World gameWorld = arena.getGameWorld();
+            if (event.getPlayer().getWorld() != gameWorld) {
+                event.getPlayer().teleport(gameWorld.getSpawnLocation().add(0, 2, 0));
+            }
+            
             // Check if we should start the game
-            checkAndStartGame();
+            checkAndStartGame(arena);
             
             // Set custom join message - using modern API
             String joinMessage = config.getPrefix() + "&e" + event.getPlayer().getName() + " joined the Hunger Games!";
             event.joinMessage(LegacyComponentSerializer.legacySection().deserialize(joinMessage));
             
             // Update player flight and game mode through protection manager
-            if (gameManager != null) {
-                gameManager.getProtectionManager().updateAllPlayersFlight();
-            }
+            arena.getProtectionManager().updateAllPlayersFlight();
             
         } catch (Exception e) {
             hgLogger.log(Level.SEVERE, "Error handling player join: " + event.getPlayer().getName(), e);
@@ -315,16 +384,21 @@ public final class HungerGames extends JavaPlugin implements Listener {
         }
         
         try {
+            GameManager arena = arenaManager.getArena(event.getPlayer());
+            
             // Handle player leaving during the game
-            if (gameManager.getAlivePlayers().contains(event.getPlayer().getUniqueId())) {
-                gameManager.handlePlayerDeath(event.getPlayer(), null, "Disconnected");
+            if (arena != null && arena.getAlivePlayers().contains(event.getPlayer().getUniqueId())) {
+                arena.handlePlayerDeath(event.getPlayer(), null, "Disconnected");
             }
             
             // Unload player data
             playerManager.unloadPlayer(event.getPlayer().getUniqueId());
             
             // Check if we should cancel the game due to insufficient players
-            checkAndCancelGame();
+            if (arena != null) {
+                checkAndCancelGame(arena);
+                arenaManager.remove(event.getPlayer());
+            }
             
             // Set custom quit message - using modern API
             String quitMessage = config.getPrefix() + "&7" + event.getPlayer().getName() + " left the Hunger Games!";
@@ -340,11 +414,12 @@ public final class HungerGames extends JavaPlugin implements Listener {
      */
     @EventHandler
     public void onPlayerDeath(PlayerDeathEvent event) {
-        if (!initialized || gameManager == null) {
+        if (!initialized || arenaManager == null) {
             return;
         }
         
         Player player = event.getEntity();
+        GameManager gameManager = getGameManager(player);
         
         // Check if this player is in an active game
         if (gameManager.getAlivePlayers().contains(player.getUniqueId())) {
@@ -382,7 +457,7 @@ public final class HungerGames extends JavaPlugin implements Listener {
      */
     @EventHandler
     public void onProjectileHit(ProjectileHitEvent event) {
-        if (!initialized || gameManager == null) {
+        if (!initialized || arenaManager == null) {
             return;
         }
         
@@ -402,35 +477,10 @@ public final class HungerGames extends JavaPlugin implements Listener {
         
         // Check if the shooter has the Archer Pro kit
         if (kitManager.getPlayerKit(shooter.getUniqueId()) instanceof com.api_d.hungerGames.kits.premium.ArcherProKit) {
-            // Create explosion at arrow location unless at spawn or feast
+            // Create explosion at arrow location unless inside a protected zone (spawn, feast)
             Location hitLocation = arrow.getLocation();
 
-            boolean isAtSpawn = false;
-            boolean isAtFeast = false;
-            try {
-                GameManager gm = this.gameManager;
-                if (gm != null) {
-                    // Spawn area: within spawn radius from spawnLocation
-                    java.lang.reflect.Field spawnField = GameManager.class.getDeclaredField("spawnLocation");
-                    spawnField.setAccessible(true);
-                    Location spawnLoc = (Location) spawnField.get(gm);
-                    if (spawnLoc != null) {
-                        int spawnRadius = config.getSpawnRadius();
-                        isAtSpawn = hitLocation.getWorld().equals(spawnLoc.getWorld()) && hitLocation.distance(spawnLoc) <= spawnRadius + 3;
-                    }
-
-                    // Feast area: within feast radius from feastLocation
-                    java.lang.reflect.Field feastField = GameManager.class.getDeclaredField("feastLocation");
-                    feastField.setAccessible(true);
-                    Location feastLoc = (Location) feastField.get(gm);
-                    if (feastLoc != null) {
-                        int feastRadius = config.getFeastRadius();
-                        isAtFeast = hitLocation.getWorld().equals(feastLoc.getWorld()) && hitLocation.distance(feastLoc) <= feastRadius + 3;
-                    }
-                }
-            } catch (Exception ignore) {}
-
-            if (isAtSpawn || isAtFeast) {
+            if (getGameManager(shooter).getProtectedZones().isProtected(hitLocation)) {
                 arrow.remove();
                 return;
             }
@@ -490,11 +540,12 @@ public final class HungerGames extends JavaPlugin implements Listener {
      */
     @EventHandler
     public void onPlayerRespawn(PlayerRespawnEvent event) {
-        if (!initialized || gameManager == null) {
+        if (!initialized || arenaManager == null) {
             return;
         }
         
         Player player = event.getPlayer();
+        GameManager gameManager = getGameManager(player);
         
         // Check if this player was in an active game and is now dead
         if (gameManager.getDeadPlayers().contains(player.getUniqueId())) {
@@ -502,14 +553,14 @@ public final class HungerGames extends JavaPlugin implements Listener {
             event.setRespawnLocation(player.getLocation());
             
             // Schedule a task to ensure they stay in spectator mode
-            Bukkit.getScheduler().runTaskLater(this, () -> {
+            Bukkit.getScheduler().runTaskLater(this, TickProfiler.wrap("HungerGames.respawn", () -> {
                 if (player.isOnline()) {
                     player.setGameMode(org.bukkit.GameMode.SPECTATOR);
                     player.setAllowFlight(true);
                     player.setFlying(true);
                     hgLogger.info("Forced " + player.getName() + " to stay in spectator mode after respawn attempt");
                 }
-            }, 1L);
+            }), 1L);
         }
     }
     
@@ -518,11 +569,12 @@ public final class HungerGames extends JavaPlugin implements Listener {
      */
     @EventHandler
     public void onPlayerGameModeChange(PlayerGameModeChangeEvent event) {
-        if (!initialized || gameManager == null) {
+        if (!initialized || arenaManager == null) {
             return;
         }
         
         Player player = event.getPlayer();
+        GameManager gameManager = getGameManager(player);
         
         // Check if this player is dead and trying to change from spectator mode
         if (gameManager.getDeadPlayers().contains(player.getUniqueId()) && 
@@ -557,14 +609,49 @@ public final class HungerGames extends JavaPlugin implements Listener {
         return kitManager;
     }
     
+    public ArenaManager getArenaManager() {
+        return arenaManager;
+    }
+    
+    /**
+     * Get the default arena (for callers without a player to route by)
+     */
     public GameManager getGameManager() {
-        return gameManager;
+        return arenaManager.getDefaultArena();
+    }
+    
+    /**
+     * Get the arena a player is routed to, falling back to the default arena
+     */
+    public GameManager getGameManager(Player player) {
+        GameManager arena = arenaManager.getArena(player);
+        return arena != null ? arena : arenaManager.getDefaultArena();
     }
     
     public PlatformGenerator getPlatformGenerator() {
         return platformGenerator;
     }
     
+    public BlockPlacementEngine getBlockPlacementEngine() {
+        return blockPlacementEngine;
+    }
+    
+    public SchematicLoader getSchematicLoader() {
+        return schematicLoader;
+    }
+    
+    public LootGenerator getLootGenerator() {
+        return lootGenerator;
+    }
+    
+    public LootChestRegistry getLootChestRegistry() {
+        return lootChestRegistry;
+    }
+    
+    public ReplayViewer getReplayViewer() {
+        return replayViewer;
+    }
+    
     /**
      * Get the plugin instance (singleton pattern)
      */
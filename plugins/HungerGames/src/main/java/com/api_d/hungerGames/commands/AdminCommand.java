@@ -1,11 +1,20 @@
 package com.api_d.hungerGames.commands;
 
 import com.api_d.hungerGames.HungerGames;
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.game.BorderManager;
 import com.api_d.hungerGames.game.GameManager;
 import com.api_d.hungerGames.game.GameState;
+import com.api_d.hungerGames.game.MatchTimeline;
+import com.api_d.hungerGames.replay.ReplayFormat;
+import com.api_d.hungerGames.replay.ReplayRecorder;
+import com.api_d.hungerGames.replay.ReplayViewer;
+import com.api_d.hungerGames.util.TickProfiler;
+import com.api_d.hungerGames.world.ChunkPregenerator;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
@@ -14,6 +23,8 @@ import org.bukkit.entity.Player;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -67,6 +78,10 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
                 return handleDebugLootChest(sender, args);
             case "bypass":
                 return handleBypass(sender, args);
+            case "perf":
+                return handlePerf(sender, args);
+            case "replay":
+                return handleReplay(sender, args);
             default:
                 showHelp(sender);
                 return true;
@@ -79,7 +94,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleStart(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.start")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (gameManager.isGameRunning()) {
             GameState currentState = gameManager.getCurrentState();
@@ -99,7 +114,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aGame has been force started!");
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §aAn administrator has started the game!", NamedTextColor.GREEN));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §aAn administrator has started the game!", NamedTextColor.GREEN));
         
         return true;
     }
@@ -110,7 +125,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleNext(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.next")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -123,6 +138,14 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
             return true;
         }
         
+        // Once the countdown has started, fast-forward the match timeline to its next event
+        MatchTimeline.Action skipped = gameManager.skipToNextPhase();
+        if (skipped != null) {
+            sendMessage(sender, "§aSkipped to the next timeline event: §e" + skipped.getDisplayName());
+            gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §eAn administrator skipped ahead to: §a" + skipped.getDisplayName(), NamedTextColor.YELLOW));
+            return true;
+        }
+        
         // Determine next state based on current state
         GameState nextState = getNextState(currentState);
         if (nextState == null) {
@@ -135,7 +158,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aGame has been forced to proceed to: §e" + nextState.getDisplayName());
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §eGame phase changed to: §a" + nextState.getDisplayName(), NamedTextColor.YELLOW));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §eGame phase changed to: §a" + nextState.getDisplayName(), NamedTextColor.YELLOW));
         
         return true;
     }
@@ -152,7 +175,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
             return true;
         }
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -175,7 +198,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aGame state has been forced to: §e" + targetState.getDisplayName());
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §eGame state changed to: §a" + targetState.getDisplayName(), NamedTextColor.YELLOW));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §eGame state changed to: §a" + targetState.getDisplayName(), NamedTextColor.YELLOW));
         
         return true;
     }
@@ -186,7 +209,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleCancel(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.cancel")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -198,7 +221,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aGame has been cancelled!");
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §cThe game has been cancelled by an administrator!", NamedTextColor.RED));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §cThe game has been cancelled by an administrator!", NamedTextColor.RED));
         
         return true;
     }
@@ -211,6 +234,15 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         
         try {
             plugin.getGameConfig().reload();
+            GameConfig config = plugin.getGameConfig();
+            plugin.getSchematicLoader().reload(config.useSchematics()
+                ? List.of(config.getSpawnSchematicFile(), config.getFeastSchematicFile())
+                : List.of());
+            plugin.getLootGenerator().reload();
+            for (GameManager arena : plugin.getArenaManager().getArenas()) {
+                arena.getProtectionManager().loadWorldRules();
+                arena.getProtectionManager().applyWorldRules(arena.getCurrentState());
+            }
             sendMessage(sender, "§aConfiguration reloaded successfully!");
         } catch (Exception e) {
             sendMessage(sender, "§cFailed to reload configuration: " + e.getMessage());
@@ -225,10 +257,12 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleStatus(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.status")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         sendMessage(sender, "§6=== Hunger Games Status ===");
         sendMessage(sender, "§ePlugin enabled: §a" + plugin.isEnabled());
+        sendMessage(sender, "§eArena: §a" + gameManager.getArenaId() + " §7(" +
+                    plugin.getArenaManager().getArenas().size() + " hosted)");
         sendMessage(sender, "§eGame running: §a" + gameManager.isGameRunning());
         
         if (gameManager.isGameRunning()) {
@@ -238,11 +272,35 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
             sendMessage(sender, "§eDead players: §a" + gameManager.getDeadPlayers().size());
             sendMessage(sender, "§ePvP enabled: §a" + gameManager.isPvpEnabled());
             sendMessage(sender, "§eFeast spawned: §a" + gameManager.isFeastSpawned());
+            
+            MatchTimeline timeline = gameManager.getTimeline();
+            if (timeline.isRunning()) {
+                sendMessage(sender, "§eNext phase: §a" + timeline.getNextAction().getDisplayName() + " §7in " +
+                            timeline.getSecondsUntilNext() + "s");
+            }
+            
+            BorderManager border = gameManager.getBorderManager();
+            sendMessage(sender, "§eBorder size: §a" + Math.round(border.getCurrentBorderSize()) +
+                        (border.isBorderShrinking() ? " §7(final size in " + border.getRemainingSeconds() + "s)" : ""));
         }
         
         sendMessage(sender, "§eOnline players: §a" + Bukkit.getOnlinePlayers().size());
         sendMessage(sender, "§eTotal worlds: §a" + Bukkit.getWorlds().size());
         
+        ChunkPregenerator pregenerator = gameManager.getChunkPregenerator();
+        if (pregenerator.getTotalChunks() > 0) {
+            sendMessage(sender, "§eArena pre-generation: §a" + pregenerator.getProgressPercent() + "% §7(" +
+                        pregenerator.getCompletedChunks() + "/" + pregenerator.getTotalChunks() + " chunks)");
+        }
+        
+        if (gameManager.getArenaWorldManager().isTemplateMode()) {
+            sendMessage(sender, "§eModified arena chunks: §a" + gameManager.getArenaWorldManager().getDirtyChunks().size());
+        }
+        
+        World gameWorld = gameManager.getGameWorld();
+        sendMessage(sender, "§eUnopened loot chests: §a" + plugin.getLootChestRegistry().size(gameWorld));
+        sendMessage(sender, "§eEntities culled this match: §a" + gameManager.getEntityCuller().getRemoved());
+        
         return true;
     }
     
@@ -252,7 +310,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleForcePvp(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.forcepvp")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -264,7 +322,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aPvP has been force enabled!");
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §cPvP has been force enabled by an administrator!", NamedTextColor.RED));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §cPvP has been force enabled by an administrator!", NamedTextColor.RED));
         
         return true;
     }
@@ -275,7 +333,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleForceFeast(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.forcefeast")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -287,7 +345,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aFeast has been force spawned!");
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §6The feast has been force spawned by an administrator!", NamedTextColor.GOLD));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §6The feast has been force spawned by an administrator!", NamedTextColor.GOLD));
         
         return true;
     }
@@ -298,7 +356,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleForceBorder(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.forceborder")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -310,7 +368,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aBorder shrinking has been force started!");
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §eThe world border is now force shrinking!", NamedTextColor.YELLOW));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §eThe world border is now force shrinking!", NamedTextColor.YELLOW));
         
         return true;
     }
@@ -321,7 +379,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleForceFinal(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.forcefinal")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -333,7 +391,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aFinal fight has been force started!");
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §cThe final fight has been force started by an administrator!", NamedTextColor.RED));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §cThe final fight has been force started by an administrator!", NamedTextColor.RED));
         
         return true;
     }
@@ -344,7 +402,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleEnd(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.end")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         if (!gameManager.isGameRunning()) {
             sendMessage(sender, "§cNo game is currently running!");
@@ -356,7 +414,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§aGame has been force ended!");
         
         // Broadcast to all players
-        Bukkit.broadcast(Component.text("§8[§cHG§8] §cThe game has been force ended by an administrator!", NamedTextColor.RED));
+        gameManager.getPlayers().sendMessage(Component.text("§8[§cHG§8] §cThe game has been force ended by an administrator!", NamedTextColor.RED));
         
         return true;
     }
@@ -376,18 +434,9 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         }
         
         String lootType = args[1].toLowerCase();
-        List<String> lootItems;
-        
-        switch (lootType) {
-            case "spawn":
-                lootItems = plugin.getGameConfig().getSpawnItems();
-                break;
-            case "feast":
-                lootItems = plugin.getGameConfig().getFeastItems();
-                break;
-            default:
-                sendMessage(sender, "§cInvalid loot type. Use 'spawn' or 'feast'.");
-                return true;
+        if (!plugin.getLootGenerator().hasTable(lootType)) {
+            sendMessage(sender, "§cInvalid loot type. Use 'spawn' or 'feast'.");
+            return true;
         }
         
         // Get the block the player is looking at
@@ -408,7 +457,7 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         
         try {
             // Create and fill the chest using PlatformGenerator
-            plugin.getPlatformGenerator().createAndFillChest(chestLocation, lootItems);
+            plugin.getPlatformGenerator().createAndFillChest(chestLocation, lootType);
             sendMessage(sender, "§aSuccessfully created and filled chest with " + lootType + " loot at " + chestLocation.getBlockX() + ", " + chestLocation.getBlockY() + ", " + chestLocation.getBlockZ());
         } catch (Exception e) {
             sendMessage(sender, "§cError creating chest: " + e.getMessage());
@@ -424,9 +473,10 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
     private boolean handleDebug(CommandSender sender, String[] args) {
         if (!checkPermission(sender, "hungergames.admin.debug")) return true;
         
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = getArena(sender);
         
         sendMessage(sender, "§6=== Hunger Games Debug Info ===");
+        sendMessage(sender, "§eArena: §a" + gameManager.getArenaId());
         sendMessage(sender, "§eGame running: §a" + gameManager.isGameRunning());
         sendMessage(sender, "§eCurrent state: §a" + (gameManager.getCurrentState() != null ? gameManager.getCurrentState().getDisplayName() : "Unknown"));
         sendMessage(sender, "§eAlive players: §a" + gameManager.getAlivePlayers().size());
@@ -491,13 +541,113 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         return true;
     }
     
+    /**
+     * Handle the perf command - show profiler top offenders or control the profiler
+     */
+    private boolean handlePerf(CommandSender sender, String[] args) {
+        if (!checkPermission(sender, "hungergames.admin.perf")) return true;
+        
+        TickProfiler profiler = TickProfiler.get();
+        
+        if (args.length >= 2) {
+            switch (args[1].toLowerCase()) {
+                case "on":
+                    profiler.setEnabled(true);
+                    sendMessage(sender, "§aProfiler enabled.");
+                    return true;
+                case "off":
+                    profiler.setEnabled(false);
+                    sendMessage(sender, "§eProfiler disabled.");
+                    return true;
+                case "reset":
+                    profiler.reset();
+                    sendMessage(sender, "§aProfiler statistics reset.");
+                    return true;
+                case "dump":
+                    profiler.dumpWindow("manual", 0.0);
+                    sendMessage(sender, "§aProfiler window is being written to the perf folder.");
+                    return true;
+                default:
+                    sendUsage(sender, "/hga perf [on|off|reset|dump]");
+                    return true;
+            }
+        }
+        
+        sendMessage(sender, "§6=== Hunger Games Profiler ===");
+        sendMessage(sender, "§eEnabled: §a" + profiler.isEnabled() + " §7(spike threshold: " + profiler.getSpikeThresholdMs() + "ms)");
+        
+        List<TickProfiler.Subsystem> top = profiler.getTopOffenders(10);
+        if (top.isEmpty()) {
+            sendMessage(sender, "§7No samples recorded yet.");
+            return true;
+        }
+        
+        for (TickProfiler.Subsystem subsystem : top) {
+            sendMessage(sender, "§e" + subsystem.getName() + " §7- calls: §f" + subsystem.getCount() +
+                        " §7total: §f" + String.format("%.1f", subsystem.getTotalNanos() / 1_000_000.0) + "ms" +
+                        " §7p99: §f" + subsystem.getPercentileMicros(0.99) + "us" +
+                        " §7max: §f" + String.format("%.2f", subsystem.getMaxNanos() / 1_000_000.0) + "ms");
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Handle the replay command - play a recorded match back to the sender, or stop watching
+     */
+    private boolean handleReplay(CommandSender sender, String[] args) {
+        if (!checkPermission(sender, "hungergames.admin.replay")) return true;
+        
+        Player player = getPlayer(sender);
+        if (player == null) return true;
+        
+        if (args.length < 2) {
+            sendUsage(sender, "/hga replay <game id> [speed] | /hga replay stop");
+            return true;
+        }
+        
+        ReplayViewer viewer = plugin.getReplayViewer();
+        if (args[1].equalsIgnoreCase("stop")) {
+            if (viewer.stop(player)) {
+                sendMessage(sender, "§aReplay stopped.");
+            } else {
+                sendMessage(sender, "§cYou are not watching a replay.");
+            }
+            return true;
+        }
+        
+        int gameId;
+        double speed = 1.0;
+        try {
+            gameId = Integer.parseInt(args[1]);
+            if (args.length >= 3) {
+                speed = Double.parseDouble(args[2]);
+            }
+        } catch (NumberFormatException e) {
+            sendUsage(sender, "/hga replay <game id> [speed] | /hga replay stop");
+            return true;
+        }
+        if (speed <= 0 || speed > 20) {
+            sendMessage(sender, "§cSpeed must be between 0 and 20.");
+            return true;
+        }
+        
+        try {
+            viewer.play(player, gameId, speed);
+            sendMessage(sender, "§aPlaying game " + gameId + " at " + speed + "x. §7Use /hga replay stop to stop.");
+        } catch (IOException e) {
+            sendMessage(sender, "§cCould not play replay: " + e.getMessage());
+        }
+        return true;
+    }
+    
     /**
      * Show help information
      */
     private void showHelp(CommandSender sender) {
         sendMessage(sender, "§6=== Hunger Games Admin Commands ===");
         sendMessage(sender, "§e/hgadmin start §7- Force start the game");
-        sendMessage(sender, "§e/hgadmin next §7- Proceed to next game phase");
+        sendMessage(sender, "§e/hgadmin next §7- Skip to the next timeline event (or game phase)");
         sendMessage(sender, "§e/hgadmin state <state> §7- Set specific game state");
         sendMessage(sender, "§e/hgadmin cancel §7- Cancel the current game");
         sendMessage(sender, "§e/hgadmin reload §7- Reload configuration");
@@ -510,6 +660,8 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
         sendMessage(sender, "§e/hgadmin debug §7- Show debug information about the game state");
         sendMessage(sender, "§e/hgadmin debuglootchest <spawn|feast> §7- Create and fill a chest with loot on top of the block you're looking at");
         sendMessage(sender, "§e/hgadmin bypass §7- Show players with admin bypass permissions");
+        sendMessage(sender, "§e/hgadmin perf [on|off|reset|dump] §7- Show profiler top offenders or control the profiler");
+        sendMessage(sender, "§e/hgadmin replay <game id> [speed] §7- Watch a recorded match (replay stop to stop)");
         sendMessage(sender, "");
         sendMessage(sender, "§eAvailable states: WAITING, STARTING, ACTIVE, FEAST, BORDER_SHRINKING, FINAL_FIGHT, ENDING, FINISHED");
     }
@@ -523,7 +675,8 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
             String partial = args[0].toLowerCase();
             List<String> subCommands = Arrays.asList(
                 "start", "next", "state", "cancel", "reload", "status",
-                "forcepvp", "forcefeast", "forceborder", "forcefinal", "end", "debug", "debuglootchest", "bypass"
+                "forcepvp", "forcefeast", "forceborder", "forcefinal", "end", "debug", "debuglootchest", "bypass",
+                "perf", "replay"
             );
             
             for (String subCommand : subCommands) {
@@ -553,8 +706,40 @@ public class AdminCommand extends BaseCommand implements TabCompleter {
                     completions.add(lootType);
                 }
             }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("perf")) {
+            String partial = args[1].toLowerCase();
+            for (String option : Arrays.asList("on", "off", "reset", "dump")) {
+                if (option.startsWith(partial)) {
+                    completions.add(option);
+                }
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("replay")) {
+            // Tab complete recorded game ids
+            String partial = args[1].toLowerCase();
+            if ("stop".startsWith(partial)) {
+                completions.add("stop");
+            }
+            File[] files = ReplayRecorder.getReplayDirectory(plugin, plugin.getGameConfig()).listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    String name = file.getName();
+                    if (name.endsWith(ReplayFormat.EXTENSION) && name.startsWith(partial)) {
+                        completions.add(name.substring(0, name.length() - ReplayFormat.EXTENSION.length()));
+                    }
+                }
+            }
         }
         
         return completions;
     }
+
+    /**
+     * Arena an admin command applies to: the sender's own arena, or the default one from the console
+     */
+    private GameManager getArena(CommandSender sender) {
+        if (sender instanceof Player player) {
+            return plugin.getGameManager(player);
+        }
+        return plugin.getGameManager();
+    }
 }
@@ -29,7 +29,7 @@ public class CompassCommand extends BaseCommand implements TabCompleter {
         if (!checkPermission(sender, "hungergames.compass.select")) return true;
         
         // Check if game is running
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = plugin.getGameManager(player);
         if (gameManager == null || !gameManager.isGameRunning()) {
             player.sendMessage("§cNo game is currently running!");
             return true;
@@ -77,6 +77,7 @@ public class CompassCommand extends BaseCommand implements TabCompleter {
         player.sendMessage("§8- §7feast §8- Track feast location (if spawned)");
         player.sendMessage("§8- §7party §8- Track closest party member");
         player.sendMessage("§8- §7enemy §8- Track closest enemy");
+        player.sendMessage("§8- §7safe_zone §8- Track the closest spot inside the next border zone");
     }
     
     @Override
@@ -86,7 +87,7 @@ public class CompassCommand extends BaseCommand implements TabCompleter {
         if (args.length == 1) {
             // Tab complete compass tracking modes
             String partial = args[0].toLowerCase();
-            List<String> modes = Arrays.asList("spawn", "feast", "party", "enemy");
+            List<String> modes = Arrays.asList("spawn", "feast", "party", "enemy", "safe_zone");
             
             for (String mode : modes) {
                 if (mode.toLowerCase().startsWith(partial)) {
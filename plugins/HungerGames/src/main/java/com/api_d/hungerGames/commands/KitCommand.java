@@ -1,6 +1,7 @@
 package com.api_d.hungerGames.commands;
 
 import com.api_d.hungerGames.HungerGames;
+import com.api_d.hungerGames.events.GameEventBus;
 import com.api_d.hungerGames.events.KitSelectionEvent;
 import com.api_d.hungerGames.gui.KitSelectionGUI;
 import com.api_d.hungerGames.kits.Kit;
@@ -16,6 +17,7 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import com.api_d.hungerGames.util.TickProfiler;
 
 /**
  * Command for managing kit selection
@@ -92,7 +94,7 @@ public class KitCommand extends BaseCommand implements TabCompleter {
             
             // Check if game allows kit selection
             hgLogger.info("Step 4: Checking if game allows kit selection...");
-            if (!plugin.getGameManager().getCurrentState().canSelectKits()) {
+            if (!plugin.getGameManager(player).getCurrentState().canSelectKits()) {
                 hgLogger.warning("Game does not allow kit selection at this time");
                 sender.sendMessage(Component.text("You cannot select kits at this time!", NamedTextColor.RED));
                 hgLogger.exit("execute", false);
@@ -124,8 +126,7 @@ public class KitCommand extends BaseCommand implements TabCompleter {
             
             // Fire kit selection event
             hgLogger.info("Step 7: Firing kit selection event...");
-            KitSelectionEvent event = new KitSelectionEvent(player, kitId);
-            Bukkit.getPluginManager().callEvent(event);
+            KitSelectionEvent event = GameEventBus.get().post(new KitSelectionEvent(player, kitId));
             
             if (event.isCancelled()) {
                 String reason = event.getCancelReason();
@@ -148,23 +149,23 @@ public class KitCommand extends BaseCommand implements TabCompleter {
                             // Persist unlock on successful purchase
                             plugin.getPlayerManager().unlockKit(player.getUniqueId(), kitId);
                             // Credits deducted successfully, select the kit
-                            Bukkit.getScheduler().runTask(plugin, () -> {
+                            Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("KitCommand", () -> {
                                 completeKitSelection(player, kitId, sender);
-                            });
+                            }));
                         } else {
                             // Failed to deduct credits
-                            Bukkit.getScheduler().runTask(plugin, () -> {
+                            Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("KitCommand", () -> {
                                 sendMessage(sender, "§cFailed to purchase kit! Please try again.");
                                 hgLogger.warning("Failed to deduct credits for kit purchase");
-                            });
+                            }));
                         }
                     })
                     .exceptionally(throwable -> {
                         // Handle any errors
-                        Bukkit.getScheduler().runTask(plugin, () -> {
+                        Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("KitCommand", () -> {
                             sendMessage(sender, "§cAn error occurred while purchasing the kit. Please try again.");
                             hgLogger.error("Error deducting credits for kit purchase", throwable);
-                        });
+                        }));
                         return null;
                     });
                 return true; // Exit early, kit selection will be handled in the callback
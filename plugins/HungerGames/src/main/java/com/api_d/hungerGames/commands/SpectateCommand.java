@@ -31,7 +31,7 @@ public class SpectateCommand extends BaseCommand implements TabCompleter {
         if (!checkPermission(sender, "hungergames.spectate")) return true;
         
         // Check if game is running
-        GameManager gameManager = plugin.getGameManager();
+        GameManager gameManager = plugin.getGameManager(player);
         if (gameManager == null || !gameManager.isGameRunning()) {
             player.sendMessage("§cNo game is currently running!");
             return true;
@@ -83,7 +83,7 @@ public class SpectateCommand extends BaseCommand implements TabCompleter {
         if (args.length == 1) {
             // Tab complete player names (only alive players)
             String partial = args[0].toLowerCase();
-            GameManager gameManager = plugin.getGameManager();
+            GameManager gameManager = sender instanceof Player player ? plugin.getGameManager(player) : plugin.getGameManager();
             
             if (gameManager != null && gameManager.isGameRunning()) {
                 List<String> alivePlayerNames = gameManager.getAlivePlayers().stream()
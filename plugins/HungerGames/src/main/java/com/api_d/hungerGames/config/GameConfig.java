@@ -1,10 +1,12 @@
 package com.api_d.hungerGames.config;
 
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
 import com.api_d.hungerGames.util.HGLogger;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Manages plugin configuration settings
@@ -12,7 +14,7 @@ import java.util.List;
 public class GameConfig {
     
     private final Plugin plugin;
-    private final FileConfiguration config;
+    private FileConfiguration config;
     private final HGLogger logger;
     
     public GameConfig(Plugin plugin) {
@@ -52,6 +54,32 @@ public class GameConfig {
         return config.getString("server.server_id", "hungergames-1");
     }
     
+    // Event log settings
+    public boolean isEventLogEnabled() {
+        return config.getBoolean("events.enabled", true);
+    }
+    
+    public int getEventLogBufferSize() {
+        return config.getInt("events.buffer_size", 4096);
+    }
+    
+    public int getEventLogFlushSeconds() {
+        return config.getInt("events.flush_interval_seconds", 30);
+    }
+    
+    // Replay settings
+    public boolean isReplayEnabled() {
+        return config.getBoolean("replay.enabled", true);
+    }
+    
+    public int getReplaySampleTicks() {
+        return config.getInt("replay.sample_ticks", 4);
+    }
+    
+    public String getReplayDirectory() {
+        return config.getString("replay.directory", "replays");
+    }
+    
     // Timing settings
     public int getMaxWaitTime() {
         return config.getInt("timing.max_wait_time", 300);
@@ -61,6 +89,10 @@ public class GameConfig {
         return config.getInt("timing.spawn_teleport_delay", 10);
     }
     
+    public int getSpawnTeleportsPerTick() {
+        return config.getInt("timing.spawn_teleports_per_tick", 10);
+    }
+    
     public int getPvpDelay() {
         return config.getInt("timing.pvp_delay", 30);
     }
@@ -73,6 +105,25 @@ public class GameConfig {
         return config.getInt("timing.max_game_time", 45);
     }
     
+    /**
+     * Timeline events as "seconds:action", derived from the legacy timing settings when not configured
+     */
+    public List<String> getTimelineEvents() {
+        if (config.isList("timeline.events")) {
+            return config.getStringList("timeline.events");
+        }
+        int pvp = getPvpDelay();
+        int feast = pvp + getFeastAppearsAfter();
+        return List.of(pvp + ":pvp", feast + ":feast", feast + ":border", (feast + getMaxGameTime() * 60) + ":final_fight");
+    }
+    
+    public List<Integer> getTimelineAnnounceSeconds() {
+        if (config.isList("timeline.announce_before")) {
+            return config.getIntegerList("timeline.announce_before");
+        }
+        return List.of(600, 300, 120, 60, 30, 10, 5, 4, 3, 2, 1);
+    }
+    
     // World settings
     public int getSpawnRadius() {
         return config.getInt("world.spawn_radius", 15);
@@ -90,11 +141,99 @@ public class GameConfig {
         return config.getDouble("world.world_border_shrink_speed", 3.5);
     }
     
-    // Protection settings
-    public boolean isForcedDaytimeEnabled() {
-        return config.getBoolean("protection.forced_daytime", true);
+    // Border phase settings
+    public List<String> getBorderPhases() {
+        return config.getStringList("border.phases");
+    }
+    
+    public boolean isBorderCenterMoving() {
+        return config.getBoolean("border.move_center", true);
+    }
+    
+    public int getBorderCenterStepSeconds() {
+        return config.getInt("border.center_step_seconds", 10);
+    }
+    
+    public int getBorderWarningSeconds() {
+        return config.getInt("border.warning_seconds", 30);
+    }
+    
+    public int getBorderThreatCheckTicks() {
+        return config.getInt("border.threat_check_ticks", 5);
+    }
+    
+    // World rule settings
+    public boolean isWorldRulesEnabled() {
+        return config.getBoolean("world_rules.enabled", true);
+    }
+    
+    /**
+     * Name of the world rule profile applied when entering a phase (null if none)
+     */
+    public String getWorldRuleProfileName(String phase) {
+        return config.getString("world_rules.phases." + phase);
+    }
+    
+    public List<String> getWorldRuleProfile(String profile) {
+        return config.getStringList("world_rules.profiles." + profile);
+    }
+    
+    public Set<String> getWorldRuleProfileNames() {
+        ConfigurationSection section = config.getConfigurationSection("world_rules.profiles");
+        return section != null ? section.getKeys(false) : Set.of();
+    }
+    
+    /**
+     * Profile applied to the lobby world in template mode (empty to leave it untouched)
+     */
+    public String getLobbyWorldRuleProfileName() {
+        return config.getString("world_rules.lobby_world", "lobby");
+    }
+    
+    // Pre-generation settings
+    public boolean isPregenerationEnabled() {
+        return config.getBoolean("pregeneration.enabled", true);
+    }
+    
+    public int getPregenMaxConcurrentChunks() {
+        return config.getInt("pregeneration.max_concurrent_chunks", 8);
+    }
+    
+    public int getPregenRequiredPercent() {
+        return config.getInt("pregeneration.required_percent", 0);
+    }
+    
+    public int getPregenReportInterval() {
+        return config.getInt("pregeneration.report_interval_percent", 10);
+    }
+    
+    // Reset settings
+    public String getResetMode() {
+        return config.getString("reset.mode", "shutdown");
+    }
+    
+    public String getArenaWorldName() {
+        return config.getString("reset.arena_world", "hg_arena");
+    }
+    
+    public String getArenaTemplateDirectory() {
+        return config.getString("reset.template_directory", "templates/hg_arena");
+    }
+    
+    public boolean isSelectiveRestoreEnabled() {
+        return config.getBoolean("reset.selective_restore", true);
+    }
+    
+    // Arena settings
+    public int getArenaCount() {
+        return config.getInt("arenas.count", 1);
     }
     
+    public int getArenaMaxPlayers() {
+        return config.getInt("arenas.max_players", 0);
+    }
+    
+    // Protection settings
     public boolean isWorldInteractionBlocked() {
         return config.getBoolean("protection.block_world_interaction", true);
     }
@@ -124,6 +263,10 @@ public class GameConfig {
         return config.getInt("feast.border_distance", 50);
     }
     
+    public int getFeastSiteCandidates() {
+        return config.getInt("feast.site_candidates", 24);
+    }
+    
     // Party settings
     public int getMaximumPartySize() {
         return config.getInt("party.maximum_party_size", 4);
@@ -146,6 +289,10 @@ public class GameConfig {
         return config.getString("platforms.feast_schematic_file", "schematics/feast.schem");
     }
     
+    public int getBlocksPerTick() {
+        return config.getInt("platforms.blocks_per_tick", 2000);
+    }
+    
     // Loot settings
     public List<String> getSpawnItems() {
         return config.getStringList("loot.spawn_items");
@@ -155,6 +302,75 @@ public class GameConfig {
         return config.getStringList("loot.feast_items");
     }
     
+    public List<String> getExtraLootItems() {
+        return config.getStringList("loot.extra_items");
+    }
+    
+    public int getMinLootItems() {
+        return config.getInt("loot.min_items", 6);
+    }
+    
+    public int getMaxLootItems() {
+        return config.getInt("loot.max_items", 10);
+    }
+    
+    public boolean isLootSeedingEnabled() {
+        return config.getBoolean("loot.seeding.enabled", true);
+    }
+    
+    public int getSeededLootChestCount() {
+        return config.getInt("loot.seeding.chest_count", 120);
+    }
+    
+    public int getLootSeedingBorderMargin() {
+        return config.getInt("loot.seeding.border_margin", 16);
+    }
+    
+    public List<String> getLootSeedingRegions() {
+        return config.getStringList("loot.seeding.regions");
+    }
+    
+    // Entity culling settings
+    public boolean isEntityCullingEnabled() {
+        return config.getBoolean("entities.culling_enabled", true);
+    }
+    
+    public int getCullingChunksPerTick() {
+        return config.getInt("entities.chunks_per_tick", 8);
+    }
+    
+    public double getItemMergeRadius() {
+        return config.getDouble("entities.item_merge_radius", 1.5);
+    }
+    
+    public int getStaleArrowSeconds() {
+        return config.getInt("entities.stale_arrow_seconds", 30);
+    }
+    
+    public int getItemGraceSeconds() {
+        return config.getInt("entities.item_grace_seconds", 60);
+    }
+    
+    public int getMaxItemsPerChunk() {
+        return config.getInt("entities.max_items_per_chunk", 64);
+    }
+    
+    public int getMaxArrowsPerChunk() {
+        return config.getInt("entities.max_arrows_per_chunk", 32);
+    }
+    
+    public int getMaxOrbsPerChunk() {
+        return config.getInt("entities.max_orbs_per_chunk", 32);
+    }
+    
+    public int getMaxMobsPerChunk() {
+        return config.getInt("entities.max_mobs_per_chunk", 16);
+    }
+    
+    public int getMaxTemporaryEntities() {
+        return config.getInt("entities.max_temporary", 256);
+    }
+    
     // Credit settings
     public int getGameStartedCredits() {
         return config.getInt("credits.game_started", 3);
@@ -225,11 +441,29 @@ public class GameConfig {
         return config.getBoolean("debug.log_database_operations", false);
     }
     
+    // Profiler settings
+    public boolean isProfilerEnabled() {
+        return config.getBoolean("profiler.enabled", false);
+    }
+    
+    public double getProfilerSpikeThresholdMs() {
+        return config.getDouble("profiler.spike_threshold_ms", 50.0);
+    }
+    
+    public int getProfilerWindowSize() {
+        return config.getInt("profiler.window_size", 4096);
+    }
+    
+    public int getProfilerDumpCooldown() {
+        return config.getInt("profiler.dump_cooldown_seconds", 30);
+    }
+    
     /**
      * Reload the configuration from disk
      */
     public void reload() {
         plugin.reloadConfig();
+        config = plugin.getConfig();
         logger.info("Configuration reloaded");
     }
 }
\ No newline at end of file
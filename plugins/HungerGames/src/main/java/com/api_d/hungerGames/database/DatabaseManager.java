@@ -124,6 +124,19 @@ public class DatabaseManager {
                 )
                 """);
 
+            // Create GameEvent table (written in batches with COPY)
+            executeUpdate(connection, """
+                CREATE TABLE IF NOT EXISTS game_events (
+                    id BIGSERIAL PRIMARY KEY,
+                    server_id VARCHAR(100) NOT NULL,
+                    game_id INTEGER NOT NULL REFERENCES games(id) ON DELETE CASCADE,
+                    tick INTEGER NOT NULL,
+                    event_type VARCHAR(32) NOT NULL,
+                    payload JSONB NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+
             // Create Player Unlocked Kits table
             executeUpdate(connection, """
                 CREATE TABLE IF NOT EXISTS player_unlocked_kits (
@@ -140,6 +153,7 @@ public class DatabaseManager {
             executeUpdate(connection, "CREATE INDEX IF NOT EXISTS idx_game_logs_game_id ON game_logs(game_id)");
             executeUpdate(connection, "CREATE INDEX IF NOT EXISTS idx_game_logs_player_id ON game_logs(player_id)");
             executeUpdate(connection, "CREATE INDEX IF NOT EXISTS idx_game_parties_game_id ON game_parties(game_id)");
+            executeUpdate(connection, "CREATE INDEX IF NOT EXISTS idx_game_events_game_id ON game_events(game_id, tick)");
             executeUpdate(connection, "CREATE INDEX IF NOT EXISTS idx_unlocked_kits_player_id ON player_unlocked_kits(player_id)");
             executeUpdate(connection, "CREATE INDEX IF NOT EXISTS idx_unlocked_kits_kit_id ON player_unlocked_kits(kit_id)");
             
@@ -0,0 +1,300 @@
+package com.api_d.hungerGames.database;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.postgresql.PGConnection;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records what happens during a match and stores it in the game_events table.
+ *
+ * Events are appended to a fixed-size ring buffer on the main thread. Every few seconds, and when the
+ * match ends, the buffer is drained and the rows are written asynchronously with a single COPY. Rows
+ * whose COPY failed are written again with the next flush. If the buffer wraps around before a flush,
+ * or more rows than it holds are waiting for a retry, the oldest events are dropped and counted.
+ *
+ * Each event type has a fixed list of payload fields, stored as a JSON object in the payload column.
+ */
+public class GameEventLog {
+
+    public enum Type {
+        STATE_CHANGE("from", "to"),
+        PVP_ENABLED("cause"),
+        FEAST_SPAWNED("x", "y", "z", "forced"),
+        BORDER_PHASE("phase", "size", "center_x", "center_z", "seconds"),
+        KILL("victim", "killer", "alive"),
+        KIT_SELECTED("player", "kit"),
+        GAME_ENDED("outcome", "winner");
+
+        private final String[] fields;
+
+        Type(String... fields) {
+            this.fields = fields;
+        }
+
+        /**
+         * Payload field names, in the order record expects their values
+         */
+        public String[] getFields() {
+            return fields.clone();
+        }
+    }
+
+    /**
+     * Rows already converted to CSV, each row carrying its own game id
+     */
+    private static final class Batch {
+        private final String csv;
+        private final int count;
+
+        private Batch(String csv, int count) {
+            this.csv = csv;
+            this.count = count;
+        }
+    }
+
+    private static final String COPY_SQL =
+        "COPY game_events (server_id, game_id, tick, event_type, payload, created_at) FROM STDIN WITH (FORMAT csv)";
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final DatabaseManager databaseManager;
+    private final HGLogger logger;
+
+    // Ring buffer, head is the oldest event
+    private Type[] types = new Type[0];
+    private int[] ticks = new int[0];
+    private long[] times = new long[0];
+    private Object[][] payloads = new Object[0][];
+    private int head;
+    private int size;
+    private long dropped;
+    // Batches whose COPY failed, oldest first, filled from the writer threads
+    private final Queue<Batch> failed = new ConcurrentLinkedQueue<>();
+
+    private int gameId = -1;
+    private int startTick;
+    private BukkitTask flushTask;
+
+    public GameEventLog(Plugin plugin, GameConfig config, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.config = config;
+        this.databaseManager = databaseManager;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Start recording a match, ticks are counted from now
+     */
+    public void start(int gameId) {
+        stopTask();
+        if (!config.isEventLogEnabled()) {
+            this.gameId = -1;
+            return;
+        }
+
+        int capacity = Math.max(16, config.getEventLogBufferSize());
+        if (types.length != capacity) {
+            types = new Type[capacity];
+            ticks = new int[capacity];
+            times = new long[capacity];
+            payloads = new Object[capacity][];
+        }
+        this.gameId = gameId;
+        this.startTick = Bukkit.getCurrentTick();
+        this.head = 0;
+        this.size = 0;
+        this.dropped = 0;
+
+        long period = Math.max(1, config.getEventLogFlushSeconds()) * 20L;
+        flushTask = new ProfiledRunnable("GameEventLog.flush") {
+            @Override
+            protected void process() {
+                flush(false);
+            }
+        }.runTaskTimer(plugin, period, period);
+    }
+
+    /**
+     * Append an event to the current match (ignored when no match is being recorded).
+     * Values are given in the order of the type's fields; numbers and booleans are stored as such,
+     * null as null and anything else as a string.
+     */
+    public void record(Type type, Object... values) {
+        if (values.length != type.fields.length) {
+            throw new IllegalArgumentException(type + " expects " + type.fields.length + " values, got " + values.length);
+        }
+        if (gameId < 0) {
+            return;
+        }
+        if (size == types.length) {
+            // Full, overwrite the oldest event
+            head = (head + 1) % types.length;
+            size--;
+            dropped++;
+        }
+        int index = (head + size) % types.length;
+        types[index] = type;
+        ticks[index] = Bukkit.getCurrentTick() - startTick;
+        times[index] = System.currentTimeMillis();
+        payloads[index] = values;
+        size++;
+    }
+
+    /**
+     * Flush the remaining events and stop recording the match
+     */
+    public void finish() {
+        stopTask();
+        flush(false);
+        if (dropped > 0) {
+            logger.warning("Game " + gameId + " event log dropped " + dropped + " events, consider raising events.buffer_size");
+        }
+        gameId = -1;
+    }
+
+    /**
+     * Write the remaining events on the calling thread (plugin shutdown, when async tasks no longer run)
+     */
+    public void finishNow() {
+        stopTask();
+        flush(true);
+        if (!failed.isEmpty()) {
+            logger.warning("Game " + gameId + " event log lost " + getPending() + " events that could not be written before shutdown");
+        }
+        gameId = -1;
+    }
+
+    /**
+     * Drain the buffer into CSV rows on the main thread and COPY them to the database, along with
+     * the rows of earlier failed writes
+     */
+    private void flush(boolean synchronous) {
+        boolean hasEvents = gameId >= 0 && size > 0;
+        if (!hasEvents && failed.isEmpty()) {
+            return;
+        }
+
+        // Retry the failed rows first, keeping at most one buffer worth of them
+        Deque<Batch> retries = new ArrayDeque<>();
+        int retryCount = 0;
+        Batch batch;
+        while ((batch = failed.poll()) != null) {
+            retries.addLast(batch);
+            retryCount += batch.count;
+        }
+        while (retryCount > types.length && !retries.isEmpty()) {
+            Batch oldest = retries.removeFirst();
+            retryCount -= oldest.count;
+            dropped += oldest.count;
+            logger.warning("Dropped " + oldest.count + " events that could not be written to the database");
+        }
+
+        StringBuilder csv = new StringBuilder(size * 96);
+        for (Batch retry : retries) {
+            csv.append(retry.csv);
+        }
+        if (hasEvents) {
+            String serverId = quote(config.getServerId());
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) % types.length;
+                csv.append(serverId).append(',')
+                   .append(gameId).append(',')
+                   .append(ticks[index]).append(',')
+                   .append(types[index].name()).append(',')
+                   .append(quote(toJson(types[index], payloads[index]))).append(',')
+                   .append(new Timestamp(times[index])).append('\n');
+                payloads[index] = null;
+            }
+        }
+        int count = retryCount + (hasEvents ? size : 0);
+        head = 0;
+        size = 0;
+
+        Batch rows = new Batch(csv.toString(), count);
+        Runnable write = () -> {
+            try (Connection connection = databaseManager.getConnection()) {
+                // COPY is all or nothing, so a retry never duplicates rows
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(rows.csv));
+            } catch (Exception e) {
+                logger.warning("Failed to write " + rows.count + " events, retrying with the next flush: " + e.getMessage());
+                failed.add(rows);
+            }
+        };
+        if (synchronous) {
+            write.run();
+        } else {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, write);
+        }
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Build the JSON payload of an event from its type's fields
+     */
+    private static String toJson(Type type, Object[] values) {
+        StringBuilder json = new StringBuilder(16 + values.length * 24).append('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(type.fields[i]).append("\":");
+            Object value = values[i];
+            if (value == null) {
+                json.append("null");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                json.append(value);
+            } else {
+                appendJsonString(json, value.toString());
+            }
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private void stopTask() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+    }
+
+    /**
+     * Number of events waiting for the next flush, failed writes included
+     */
+    public int getPending() {
+        int pending = size;
+        for (Batch batch : failed) {
+            pending += batch.count;
+        }
+        return pending;
+    }
+}
@@ -1,12 +1,15 @@
 package com.api_d.hungerGames.events;
 
 import org.bukkit.Location;
+import org.bukkit.event.HandlerList;
 
 /**
  * Event fired when the feast spawns
  */
 public class FeastSpawnEvent extends GameEvent {
     
+    private static final HandlerList HANDLERS = new HandlerList();
+    
     private final Location feastLocation;
     
     public FeastSpawnEvent(Location feastLocation) {
@@ -17,4 +20,18 @@ public class FeastSpawnEvent extends GameEvent {
     public Location getFeastLocation() {
         return feastLocation;
     }
+    
+    @Override
+    public Type getType() {
+        return Type.FEAST_SPAWN;
+    }
+    
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
 }
\ No newline at end of file
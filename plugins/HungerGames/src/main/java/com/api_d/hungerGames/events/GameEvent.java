@@ -1,14 +1,44 @@
 package com.api_d.hungerGames.events;
 
 import org.bukkit.event.Event;
-import org.bukkit.event.HandlerList;
 
 /**
- * Base class for all custom HungerGames events
+ * Base class for all custom HungerGames events.
+ * Each event type has its own handler list, so the event bus can tell whether another plugin listens to it.
  */
 public abstract class GameEvent extends Event {
     
-    private static final HandlerList handlers = new HandlerList();
+    /**
+     * Event types, used by the event bus to index its subscribers
+     */
+    public enum Type {
+        STATE_CHANGE(GameStateChangeEvent.class),
+        PLAYER_DEATH(PlayerDeathEvent.class),
+        FEAST_SPAWN(FeastSpawnEvent.class),
+        KIT_SELECTION(KitSelectionEvent.class);
+        
+        private final Class<? extends GameEvent> eventClass;
+        
+        Type(Class<? extends GameEvent> eventClass) {
+            this.eventClass = eventClass;
+        }
+        
+        public Class<? extends GameEvent> getEventClass() {
+            return eventClass;
+        }
+        
+        /**
+         * Type of an event class, null if it is not a concrete HungerGames event
+         */
+        public static Type of(Class<? extends GameEvent> eventClass) {
+            for (Type type : values()) {
+                if (type.eventClass == eventClass) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
     
     public GameEvent() {
         super();
@@ -18,12 +48,5 @@ public abstract class GameEvent extends Event {
         super(isAsync);
     }
     
-    @Override
-    public HandlerList getHandlers() {
-        return handlers;
-    }
-    
-    public static HandlerList getHandlerList() {
-        return handlers;
-    }
-}
\ No newline at end of file
+    public abstract Type getType();
+}
@@ -0,0 +1,107 @@
+package com.api_d.hungerGames.events;
+
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.TickProfiler;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Cancellable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Delivers HungerGames events to the plugin's own classes.
+ *
+ * Subscribers are kept in one array per event type and called directly, in subscription order. The
+ * Bukkit event is only fired when another plugin registered a listener for that event type. Cancellable
+ * events are offered to those plugins first, and subscribers do not see them once cancelled; other
+ * events reach subscribers first.
+ */
+public final class GameEventBus {
+
+    private static final GameEventBus INSTANCE = new GameEventBus();
+
+    private final HGLogger logger = new HGLogger(java.util.logging.Logger.getLogger("HungerGames"));
+    private final Subscriber[][] subscribers = new Subscriber[GameEvent.Type.values().length][];
+
+    private GameEventBus() {
+        clear();
+    }
+
+    /**
+     * Get the shared event bus
+     */
+    public static GameEventBus get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribe to an event type, the name is used to attribute the subscriber's time in the profiler
+     */
+    public <T extends GameEvent> void subscribe(Class<T> eventClass, String name, Consumer<? super T> consumer) {
+        GameEvent.Type type = GameEvent.Type.of(eventClass);
+        if (type == null) {
+            throw new IllegalArgumentException(eventClass.getSimpleName() + " is not a HungerGames event type");
+        }
+        Subscriber[] current = subscribers[type.ordinal()];
+        Subscriber[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = new Subscriber(name, event -> consumer.accept(eventClass.cast(event)));
+        subscribers[type.ordinal()] = updated;
+    }
+
+    /**
+     * Deliver an event to subscribers, and to other plugins listening to it
+     */
+    public <T extends GameEvent> T post(T event) {
+        boolean external = event.getHandlers().getRegisteredListeners().length > 0;
+        if (event instanceof Cancellable cancellable) {
+            if (external) {
+                Bukkit.getPluginManager().callEvent(event);
+            }
+            if (!cancellable.isCancelled()) {
+                dispatch(event);
+            }
+        } else {
+            dispatch(event);
+            if (external) {
+                Bukkit.getPluginManager().callEvent(event);
+            }
+        }
+        return event;
+    }
+
+    private void dispatch(GameEvent event) {
+        Subscriber[] current = subscribers[event.getType().ordinal()];
+        TickProfiler profiler = TickProfiler.get();
+        for (Subscriber subscriber : current) {
+            long start = profiler.isEnabled() ? System.nanoTime() : 0L;
+            try {
+                subscriber.consumer.accept(event);
+            } catch (RuntimeException e) {
+                // Same as Bukkit: one failing subscriber must not stop the others
+                logger.log(Level.SEVERE, "Subscriber " + subscriber.name + " failed to handle " + event.getEventName(), e);
+            } finally {
+                if (start != 0L) {
+                    profiler.record(subscriber.name, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop every subscriber (plugin disable)
+     */
+    public void clear() {
+        Arrays.fill(subscribers, new Subscriber[0]);
+    }
+
+    private static final class Subscriber {
+        private final String name;
+        private final Consumer<GameEvent> consumer;
+
+        private Subscriber(String name, Consumer<GameEvent> consumer) {
+            this.name = name;
+            this.consumer = consumer;
+        }
+    }
+}
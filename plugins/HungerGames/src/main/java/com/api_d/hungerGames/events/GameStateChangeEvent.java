@@ -1,21 +1,34 @@
 package com.api_d.hungerGames.events;
 
 import com.api_d.hungerGames.game.GameState;
+import com.api_d.hungerGames.game.GameStateMachine;
+import org.bukkit.event.HandlerList;
 
 /**
  * Event fired when the game state changes
  */
 public class GameStateChangeEvent extends GameEvent {
     
+    private static final HandlerList HANDLERS = new HandlerList();
+    
+    private final GameStateMachine stateMachine;
     private final GameState previousState;
     private final GameState newState;
     
-    public GameStateChangeEvent(GameState previousState, GameState newState) {
+    public GameStateChangeEvent(GameStateMachine stateMachine, GameState previousState, GameState newState) {
         super();
+        this.stateMachine = stateMachine;
         this.previousState = previousState;
         this.newState = newState;
     }
     
+    /**
+     * State machine (and therefore arena) that changed state
+     */
+    public GameStateMachine getStateMachine() {
+        return stateMachine;
+    }
+    
     public GameState getPreviousState() {
         return previousState;
     }
@@ -23,4 +36,18 @@ public class GameStateChangeEvent extends GameEvent {
     public GameState getNewState() {
         return newState;
     }
+    
+    @Override
+    public Type getType() {
+        return Type.STATE_CHANGE;
+    }
+    
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package com.api_d.hungerGames.events;
 
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
+import org.bukkit.event.HandlerList;
 
 /**
  * Event fired when a player selects a kit
  */
 public class KitSelectionEvent extends GameEvent implements Cancellable {
     
+    private static final HandlerList HANDLERS = new HandlerList();
+    
     private final Player player;
     private final String kitId;
     private boolean cancelled = false;
@@ -44,4 +47,18 @@ public class KitSelectionEvent extends GameEvent implements Cancellable {
     public void setCancelReason(String cancelReason) {
         this.cancelReason = cancelReason;
     }
+    
+    @Override
+    public Type getType() {
+        return Type.KIT_SELECTION;
+    }
+    
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package com.api_d.hungerGames.events;
 
 import com.api_d.hungerGames.database.models.GameLog;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 
 /**
  * Event fired when a player dies in the hunger games
  */
 public class PlayerDeathEvent extends GameEvent {
     
+    private static final HandlerList HANDLERS = new HandlerList();
+    
     private final Player victim;
     private final Player killer; // Can be null
     private final GameLog.DeathReason deathReason;
@@ -36,4 +39,18 @@ public class PlayerDeathEvent extends GameEvent {
     public String getDeathMessage() {
         return deathMessage;
     }
+    
+    @Override
+    public Type getType() {
+        return Type.PLAYER_DEATH;
+    }
+    
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.api_d.hungerGames.game;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.database.DatabaseManager;
+import com.api_d.hungerGames.kits.KitManager;
+import com.api_d.hungerGames.player.PlayerManager;
+import com.api_d.hungerGames.util.HGLogger;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hosts the arenas of this server and routes players between them.
+ *
+ * Each arena is a {@link GameManager} with its own world, state machine, tasks, border, feast,
+ * compass and protection, so several games can run side by side in one JVM. All arenas still tick
+ * on the server's single main thread and share its 50 ms budget; only pre-generation, chunk loading,
+ * file and database work run off-thread.
+ */
+public class ArenaManager {
+
+    private final HGLogger logger;
+    private final List<GameManager> arenas = new ArrayList<>();
+    private final Map<UUID, GameManager> playerArenas = new ConcurrentHashMap<>();
+
+    public ArenaManager(Plugin plugin, GameConfig config, DatabaseManager databaseManager,
+                        PlayerManager playerManager, KitManager kitManager) {
+        this.logger = new HGLogger(plugin);
+
+        int count = Math.max(1, config.getArenaCount());
+        if (count > 1 && !"template".equalsIgnoreCase(config.getResetMode())) {
+            // Without template mode every arena would share the main world
+            logger.warning("arenas.count is " + count + " but reset.mode is not \"template\", hosting a single arena");
+            count = 1;
+        }
+
+        for (int i = 1; i <= count; i++) {
+            String worldName = i == 1 ? config.getArenaWorldName() : config.getArenaWorldName() + "_" + i;
+            arenas.add(GameManager.create("arena-" + i, worldName, plugin, config, databaseManager,
+                                          playerManager, kitManager));
+        }
+
+        logger.info("Hosting " + arenas.size() + " arena(s)");
+    }
+
+    /**
+     * Get every arena hosted by this server
+     */
+    public List<GameManager> getArenas() {
+        return Collections.unmodifiableList(arenas);
+    }
+
+    /**
+     * Get the first arena (used when there is no player to route by, e.g. console commands)
+     */
+    public GameManager getDefaultArena() {
+        return arenas.get(0);
+    }
+
+    /**
+     * Get an arena by id, or null if it does not exist
+     */
+    public GameManager getArena(String arenaId) {
+        for (GameManager arena : arenas) {
+            if (arena.getArenaId().equalsIgnoreCase(arenaId)) {
+                return arena;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the arena a player is routed to, or null if the player is not routed
+     */
+    public GameManager getArena(Player player) {
+        return playerArenas.get(player.getUniqueId());
+    }
+
+    /**
+     * Route a player to the fullest arena still accepting players, so games fill up one at a time.
+     * If every arena is full or mid-game the player joins the least crowded one.
+     */
+    public GameManager assign(Player player) {
+        GameManager current = playerArenas.get(player.getUniqueId());
+        if (current != null) {
+            return current;
+        }
+
+        GameManager target = null;
+        for (GameManager arena : arenas) {
+            if (isJoinable(arena) && (target == null || arena.getPlayers().size() > target.getPlayers().size())) {
+                target = arena;
+            }
+        }
+        if (target == null) {
+            for (GameManager arena : arenas) {
+                if (target == null || arena.getPlayers().size() < target.getPlayers().size()) {
+                    target = arena;
+                }
+            }
+        }
+
+        target.getPlayers().add(player);
+        playerArenas.put(player.getUniqueId(), target);
+        logger.info("Routed " + player.getName() + " to " + target.getArenaId());
+        return target;
+    }
+
+    /**
+     * Remove a player from their arena, returning the arena they were in
+     */
+    public GameManager remove(Player player) {
+        GameManager arena = playerArenas.remove(player.getUniqueId());
+        if (arena != null) {
+            arena.getPlayers().remove(player.getUniqueId());
+        }
+        return arena;
+    }
+
+    private boolean isJoinable(GameManager arena) {
+        GameState state = arena.getCurrentState();
+        return (state == null || state.canPlayersJoin()) && arena.getPlayers().size() < arena.getMaxPlayers();
+    }
+}
@@ -0,0 +1,64 @@
+package com.api_d.hungerGames.game;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Players routed to one arena.
+ *
+ * Also an audience, so arena-wide messages only reach the players of that arena.
+ */
+public class ArenaPlayers implements ForwardingAudience {
+
+    private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+
+    public void add(Player player) {
+        members.add(player.getUniqueId());
+    }
+
+    public void remove(UUID playerId) {
+        members.remove(playerId);
+    }
+
+    public boolean contains(Player player) {
+        return members.contains(player.getUniqueId());
+    }
+
+    public boolean contains(UUID playerId) {
+        return members.contains(playerId);
+    }
+
+    /**
+     * Number of routed players that are currently online
+     */
+    public int size() {
+        return getOnline().size();
+    }
+
+    /**
+     * Routed players that are currently online
+     */
+    public List<Player> getOnline() {
+        List<Player> online = new ArrayList<>(members.size());
+        for (UUID playerId : members) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                online.add(player);
+            }
+        }
+        return online;
+    }
+
+    @Override
+    public Iterable<? extends Audience> audiences() {
+        return getOnline();
+    }
+}
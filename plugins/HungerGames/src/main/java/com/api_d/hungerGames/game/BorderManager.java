@@ -1,14 +1,19 @@
 package com.api_d.hungerGames.game;
 
 import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.database.GameEventLog;
 import com.api_d.hungerGames.util.HGLogger;
+import net.kyori.adventure.audience.Audience;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldBorder;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.ProfiledRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.List;
+import java.util.Random;
+
 /**
  * Manages world border shrinking and related functionality
  */
@@ -16,6 +21,8 @@ public class BorderManager {
     
     private final Plugin plugin;
     private final GameConfig config;
+    private final Audience audience;
+    private final GameEventLog eventLog;
     private final HGLogger logger;
     
     private WorldBorder worldBorder;
@@ -23,18 +30,48 @@ public class BorderManager {
     private BukkitTask borderShrinkTask;
     private boolean borderShrinking = false;
     
-    public BorderManager(Plugin plugin, GameConfig config) {
+    // Match plan, and the segments being played: each one is sent to clients once and interpolated by them
+    private BorderSchedule plan;
+    private List<BorderSegment> schedule = List.of();
+    private int segmentIndex = -1;
+    private long segmentStartMillis;
+    
+    public BorderManager(Plugin plugin, GameConfig config, Audience audience, GameEventLog eventLog) {
         this.plugin = plugin;
         this.config = config;
+        this.audience = audience;
+        this.eventLog = eventLog;
         this.logger = new HGLogger(plugin);
     }
     
+    /**
+     * Plan the border phases of the next match around the given center
+     */
+    public BorderSchedule planSchedule(Location center) {
+        plan = BorderSchedule.plan(config, logger, center.getX(), center.getZ(), new Random());
+        BorderSchedule.Zone finalZone = plan.getFinalZone();
+        logger.info("Border planned: " + (plan.getZones().size() - 1) + " phases over " + plan.getTotalSeconds() +
+                    "s, final zone of " + finalZone.getSize() + " blocks at " + (int) finalZone.getCenterX() + ", " +
+                    (int) finalZone.getCenterZ());
+        return plan;
+    }
+    
+    /**
+     * Border plan of the current or next match (null until planned)
+     */
+    public BorderSchedule getSchedule() {
+        return plan;
+    }
+    
     /**
      * Initialize the world border
      */
     public void initializeBorder(World world, Location center) {
         this.borderCenter = center;
         this.worldBorder = world.getWorldBorder();
+        if (plan == null) {
+            planSchedule(center);
+        }
         
         // Set initial border
         worldBorder.setCenter(center);
@@ -47,7 +84,7 @@ public class BorderManager {
      * Start shrinking the border
      */
     public void startBorderShrinking() {
-        if (borderShrinking) {
+        if (borderShrinking || worldBorder == null) {
             return;
         }
         
@@ -55,45 +92,72 @@ public class BorderManager {
         logger.info("Starting border shrinking...");
         
         // Broadcast message
-        plugin.getServer().broadcast(
+        audience.sendMessage(
             net.kyori.adventure.text.Component.text(config.getMessage("border_shrinking"))
         );
         
-        // Start shrinking task
-        borderShrinkTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                shrinkBorder();
-            }
-        }.runTaskTimer(plugin, 20, 20); // Every second
+        schedule = plan.getSegments();
+        segmentIndex = -1;
+        startNextSegment();
     }
     
     /**
-     * Shrink the border by one step
+     * Send the next segment to the world border and wake up when it ends
      */
-    private void shrinkBorder() {
-        if (worldBorder == null) {
+    private void startNextSegment() {
+        segmentIndex++;
+        if (segmentIndex >= schedule.size()) {
+            borderShrinking = false;
+            borderShrinkTask = null;
+            logger.info("Border shrinking completed. Final size: " + getCurrentBorderSize());
             return;
         }
         
-        double currentSize = worldBorder.getSize();
-        double shrinkAmount = config.getWorldBorderShrinkSpeed();
-        double newSize = Math.max(currentSize - shrinkAmount, config.getWorldBorderMinimumSize());
+        BorderSegment segment = schedule.get(segmentIndex);
+        segmentStartMillis = System.currentTimeMillis();
+        recordPhase(segment);
         
-        if (newSize > config.getWorldBorderMinimumSize()) {
-            worldBorder.setSize(newSize, 1L); // Shrink over 1 second
-            logger.info("Border shrunk to size: " + newSize);
-        } else {
-            // Border has reached minimum size
-            worldBorder.setSize(config.getWorldBorderMinimumSize());
-            borderShrinking = false;
-            
-            if (borderShrinkTask != null) {
-                borderShrinkTask.cancel();
+        // Only send what changes: holds send nothing, a moving step sends its center and cut
+        Location center = worldBorder.getCenter();
+        if (center.getX() != segment.getCenterX() || center.getZ() != segment.getCenterZ()) {
+            worldBorder.setCenter(segment.getCenterX(), segment.getCenterZ());
+        }
+        if (Math.abs(worldBorder.getSize() - segment.getStartSize()) > 0.01) {
+            worldBorder.setSize(segment.getStartSize());
+        }
+        if (segment.getEndSize() != segment.getStartSize()) {
+            worldBorder.setSize(segment.getEndSize(), segment.getDurationSeconds());
+        }
+        logger.debug("Border moving from " + segment.getStartSize() + " to " + segment.getEndSize() + " over " +
+                     segment.getDurationSeconds() + "s around " + segment.getCenterX() + ", " + segment.getCenterZ());
+        
+        borderShrinkTask = new ProfiledRunnable("BorderManager.segment") {
+            @Override
+            protected void process() {
+                startNextSegment();
             }
-            
-            logger.info("Border shrinking completed. Final size: " + config.getWorldBorderMinimumSize());
+        }.runTaskLater(plugin, Math.max(1L, segment.getDurationSeconds() * 20L));
+    }
+    
+    /**
+     * Log the start of a hold or a shrink, the steps of a moving shrink are not logged individually
+     */
+    private void recordPhase(BorderSegment segment) {
+        boolean hold = segment.getStartSize() == segment.getEndSize();
+        if (segmentIndex > 0) {
+            BorderSegment previous = schedule.get(segmentIndex - 1);
+            boolean previousHold = previous.getStartSize() == previous.getEndSize();
+            if (!hold && !previousHold && plan.getSegmentZone(segmentIndex) == plan.getSegmentZone(segmentIndex - 1)) {
+                return;
+            }
+        }
+        BorderSchedule.Zone zone = plan.getSegmentZone(segmentIndex);
+        long seconds = segment.getDurationSeconds();
+        for (int i = segmentIndex + 1; !hold && i < schedule.size() && plan.getSegmentZone(i) == zone; i++) {
+            seconds += schedule.get(i).getDurationSeconds();
         }
+        eventLog.record(GameEventLog.Type.BORDER_PHASE, hold ? "hold" : "shrink", (int) zone.getSize(),
+                        (int) zone.getCenterX(), (int) zone.getCenterZ(), seconds);
     }
     
     /**
@@ -104,10 +168,68 @@ public class BorderManager {
     }
     
     /**
-     * Get current border size
+     * Get current border size, computed from the running segment
      */
     public double getCurrentBorderSize() {
-        return worldBorder != null ? worldBorder.getSize() : config.getWorldBorderInitialSize();
+        if (worldBorder == null) {
+            return config.getWorldBorderInitialSize();
+        }
+        if (!borderShrinking || segmentIndex < 0 || segmentIndex >= schedule.size()) {
+            return worldBorder.getSize();
+        }
+        return schedule.get(segmentIndex).sizeAt(System.currentTimeMillis() - segmentStartMillis);
+    }
+    
+    /**
+     * Seconds until the border reaches its final size (0 when it is not moving)
+     */
+    public long getRemainingSeconds() {
+        if (!borderShrinking || segmentIndex < 0 || segmentIndex >= schedule.size()) {
+            return 0;
+        }
+        long elapsed = (System.currentTimeMillis() - segmentStartMillis) / 1000L;
+        long remaining = Math.max(0, schedule.get(segmentIndex).getDurationSeconds() - elapsed);
+        for (int i = segmentIndex + 1; i < schedule.size(); i++) {
+            remaining += schedule.get(i).getDurationSeconds();
+        }
+        return remaining;
+    }
+    
+    /**
+     * Seconds until the border passes over a point: 0 if it is already outside, -1 if the border never reaches it
+     */
+    public double getSecondsUntilOutside(double x, double z) {
+        if (worldBorder == null) {
+            return -1;
+        }
+        if (borderShrinking && segmentIndex >= 0 && segmentIndex < schedule.size()) {
+            double elapsed = (System.currentTimeMillis() - segmentStartMillis) / 1000.0;
+            return plan.secondsUntilOutside(x, z, segmentIndex, elapsed);
+        }
+        // Border standing still
+        Location center = worldBorder.getCenter();
+        double half = worldBorder.getSize() / 2.0;
+        return Math.abs(x - center.getX()) > half || Math.abs(z - center.getZ()) > half ? 0 : -1;
+    }
+    
+    /**
+     * Zone the border is heading to: the first planned zone before shrinking starts, the final one after it ends
+     */
+    public BorderSchedule.Zone getTargetZone() {
+        if (plan == null) {
+            return null;
+        }
+        if (borderShrinking && segmentIndex >= 0 && segmentIndex < schedule.size()) {
+            return plan.getSegmentZone(segmentIndex);
+        }
+        return segmentIndex < 0 ? plan.getZones().get(Math.min(1, plan.getZones().size() - 1)) : plan.getFinalZone();
+    }
+    
+    /**
+     * Size the border ends at once every phase is over
+     */
+    public double getFinalSize() {
+        return plan != null ? plan.getFinalZone().getSize() : config.getWorldBorderMinimumSize();
     }
     
     /**
@@ -123,16 +245,24 @@ public class BorderManager {
     public void cleanup() {
         if (borderShrinkTask != null) {
             borderShrinkTask.cancel();
+            borderShrinkTask = null;
+        }
+        if (borderShrinking && worldBorder != null) {
+            // Stop the client-side interpolation where the border currently is
+            worldBorder.setSize(getCurrentBorderSize());
         }
         borderShrinking = false;
+        schedule = List.of();
     }
     
     /**
-     * Reset border state (for new games)
+     * Reset border state (for new games).
+     * The plan is kept: pre-generation and the feast site were based on it, only planSchedule replaces it.
      */
     public void reset() {
         cleanup();
         worldBorder = null;
         borderCenter = null;
+        segmentIndex = -1;
     }
 }
@@ -0,0 +1,243 @@
+package com.api_d.hungerGames.game;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Border plan of a match, computed once before the game starts.
+ *
+ * Each configured phase holds the border, then shrinks it to a smaller zone whose center is picked at
+ * random so that the new zone fits inside the current one. A shrink that moves the center is split
+ * into short steps: each step cuts the border to the largest square around the next center that still
+ * fits inside the previous one, then lets it shrink linearly, so the border never grows back over
+ * ground that was already outside. Phases are written as "hold_seconds:shrink_to:shrink_seconds".
+ */
+public class BorderSchedule {
+
+    /**
+     * Square zone of the border at the end of a phase
+     */
+    public static class Zone {
+
+        private final double centerX;
+        private final double centerZ;
+        private final double size;
+
+        public Zone(double centerX, double centerZ, double size) {
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.size = size;
+        }
+
+        public double getCenterX() {
+            return centerX;
+        }
+
+        public double getCenterZ() {
+            return centerZ;
+        }
+
+        public double getSize() {
+            return size;
+        }
+
+        /**
+         * Check if a point is inside the zone, at least margin blocks away from its edge
+         */
+        public boolean contains(double x, double z, double margin) {
+            double half = size / 2.0 - margin;
+            return Math.abs(x - centerX) <= half && Math.abs(z - centerZ) <= half;
+        }
+    }
+
+    private final List<Zone> zones;
+    private final List<BorderSegment> segments;
+    // Index of the zone reached at the end of the phase each segment belongs to
+    private final int[] segmentZones;
+
+    private BorderSchedule(List<Zone> zones, List<BorderSegment> segments, int[] segmentZones) {
+        this.zones = Collections.unmodifiableList(zones);
+        this.segments = Collections.unmodifiableList(segments);
+        this.segmentZones = segmentZones;
+    }
+
+    /**
+     * Plan the border from the configured phases, starting from the initial border around the given center.
+     * Without any valid phase, the border shrinks straight to the minimum size at the configured speed.
+     */
+    public static BorderSchedule plan(GameConfig config, HGLogger logger, double centerX, double centerZ, Random random) {
+        List<Zone> zones = new ArrayList<>();
+        List<BorderSegment> segments = new ArrayList<>();
+        List<Integer> segmentZones = new ArrayList<>();
+        Zone current = new Zone(centerX, centerZ, config.getWorldBorderInitialSize());
+        zones.add(current);
+
+        for (String line : config.getBorderPhases()) {
+            String[] parts = line.split(":");
+            long hold;
+            double target;
+            long duration;
+            try {
+                if (parts.length != 3) {
+                    throw new NumberFormatException("expected hold_seconds:shrink_to:shrink_seconds");
+                }
+                hold = Long.parseLong(parts[0].trim());
+                target = Double.parseDouble(parts[1].trim());
+                duration = Long.parseLong(parts[2].trim());
+            } catch (NumberFormatException e) {
+                logger.warning("Ignoring invalid border phase '" + line + "': " + e.getMessage());
+                continue;
+            }
+            if (target < 1 || target >= current.getSize() || hold < 0 || duration < 0) {
+                logger.warning("Ignoring border phase '" + line + "': it must shrink the border (current size " +
+                               current.getSize() + ")");
+                continue;
+            }
+
+            if (hold > 0) {
+                segments.add(new BorderSegment(current.getSize(), current.getSize(), hold,
+                                               current.getCenterX(), current.getCenterZ()));
+            }
+
+            // The next zone may be shifted by up to the size difference on each axis and still fit
+            double slack = config.isBorderCenterMoving() ? (current.getSize() - target) / 2.0 : 0;
+            Zone next = new Zone(current.getCenterX() + (random.nextDouble() * 2 - 1) * slack,
+                                 current.getCenterZ() + (random.nextDouble() * 2 - 1) * slack,
+                                 target);
+            addShrink(segments, current, next, duration, config.getBorderCenterStepSeconds());
+            zones.add(next);
+            while (segmentZones.size() < segments.size()) {
+                segmentZones.add(zones.size() - 1);
+            }
+            current = next;
+        }
+
+        if (zones.size() == 1) {
+            double minimumSize = config.getWorldBorderMinimumSize();
+            if (current.getSize() > minimumSize) {
+                segments.add(BorderSegment.atSpeed(current.getSize(), minimumSize, config.getWorldBorderShrinkSpeed(),
+                                                   centerX, centerZ));
+                zones.add(new Zone(centerX, centerZ, minimumSize));
+                segmentZones.add(1);
+            }
+        }
+        return new BorderSchedule(zones, segments, segmentZones.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Segments taking the border from one zone to the next over the given duration
+     */
+    private static void addShrink(List<BorderSegment> segments, Zone from, Zone to, long duration, int stepSeconds) {
+        boolean moving = from.getCenterX() != to.getCenterX() || from.getCenterZ() != to.getCenterZ();
+        int steps = moving ? (int) Math.max(1, duration / Math.max(1, stepSeconds)) : 1;
+
+        double stepX = (to.getCenterX() - from.getCenterX()) / steps;
+        double stepZ = (to.getCenterZ() - from.getCenterZ()) / steps;
+        double stepSize = (to.getSize() - from.getSize()) / steps;
+        double cut = 2 * Math.max(Math.abs(stepX), Math.abs(stepZ));
+
+        for (int i = 0; i < steps; i++) {
+            double size = from.getSize() + stepSize * i;
+            // Spread the remaining seconds over the first steps so the phase keeps its exact duration
+            long seconds = duration / steps + (i < duration % steps ? 1 : 0);
+            segments.add(new BorderSegment(size - cut, from.getSize() + stepSize * (i + 1), seconds,
+                                           from.getCenterX() + stepX * (i + 1), from.getCenterZ() + stepZ * (i + 1)));
+        }
+    }
+
+    /**
+     * Segments to send to the world border, in order
+     */
+    public List<BorderSegment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Zones reached at the end of each phase, the first one being the initial border
+     */
+    public List<Zone> getZones() {
+        return zones;
+    }
+
+    public Zone getInitialZone() {
+        return zones.get(0);
+    }
+
+    public Zone getFinalZone() {
+        return zones.get(zones.size() - 1);
+    }
+
+    /**
+     * Zone the border is heading to while the given segment plays
+     */
+    public Zone getSegmentZone(int segmentIndex) {
+        return zones.get(segmentZones[segmentIndex]);
+    }
+
+    /**
+     * Seconds until the border passes over a point, given the segment playing and the seconds spent in it:
+     * 0 if the point is already outside, -1 if the border never reaches it. Each segment shrinks linearly
+     * around a fixed center, so the crossing time inside a segment is solved directly from the distance.
+     */
+    public double secondsUntilOutside(double x, double z, int segmentIndex, double secondsIntoSegment) {
+        double total = 0;
+        for (int i = Math.max(0, segmentIndex); i < segments.size(); i++) {
+            BorderSegment segment = segments.get(i);
+            double elapsed = i == segmentIndex ? Math.max(0, secondsIntoSegment) : 0;
+            double remaining = Math.max(0, segment.getDurationSeconds() - elapsed);
+            // Square border, so the distance that matters is the largest axis offset from the center
+            double distance = Math.max(Math.abs(x - segment.getCenterX()), Math.abs(z - segment.getCenterZ()));
+            double fromHalf = segment.sizeAt((long) (elapsed * 1000)) / 2.0;
+            double toHalf = segment.getEndSize() / 2.0;
+
+            if (distance > fromHalf) {
+                return total;
+            }
+            if (distance > toHalf) {
+                return total + remaining * (fromHalf - distance) / (fromHalf - toHalf);
+            }
+            total += remaining;
+        }
+        return -1;
+    }
+
+    /**
+     * Number of phases a point stays inside the border for (-1 if it is outside the initial border)
+     */
+    public int getPhasesInside(double x, double z, double margin) {
+        for (int i = zones.size() - 1; i >= 0; i--) {
+            if (zones.get(i).contains(x, z, margin)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Smallest planned zone still leaving the given margin inside it, or the initial zone if none does
+     */
+    public Zone getInnermostZone(double margin) {
+        for (int i = zones.size() - 1; i > 0; i--) {
+            if (zones.get(i).getSize() / 2.0 > margin) {
+                return zones.get(i);
+            }
+        }
+        return zones.get(0);
+    }
+
+    /**
+     * Total length of the schedule in seconds
+     */
+    public long getTotalSeconds() {
+        long total = 0;
+        for (BorderSegment segment : segments) {
+            total += segment.getDurationSeconds();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,65 @@
+package com.api_d.hungerGames.game;
+
+/**
+ * One linear stretch of the border schedule: around a fixed center, the border moves from a start
+ * size to an end size over a fixed duration (a hold when both sizes are equal). The client
+ * interpolates it from a single border update, and the size at any moment is computed from the
+ * segment instead of being polled.
+ */
+public class BorderSegment {
+
+    private final double startSize;
+    private final double endSize;
+    private final long durationSeconds;
+    private final double centerX;
+    private final double centerZ;
+
+    public BorderSegment(double startSize, double endSize, long durationSeconds, double centerX, double centerZ) {
+        this.startSize = startSize;
+        this.endSize = endSize;
+        this.durationSeconds = Math.max(0, durationSeconds);
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+    }
+
+    /**
+     * Segment from one size to another at a constant speed (blocks per second), rounded up to whole seconds
+     */
+    public static BorderSegment atSpeed(double startSize, double endSize, double speed, double centerX, double centerZ) {
+        long seconds = speed > 0 ? (long) Math.ceil(Math.abs(startSize - endSize) / speed) : 0;
+        return new BorderSegment(startSize, endSize, seconds, centerX, centerZ);
+    }
+
+    public double getStartSize() {
+        return startSize;
+    }
+
+    public double getEndSize() {
+        return endSize;
+    }
+
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterZ() {
+        return centerZ;
+    }
+
+    /**
+     * Border size the given number of milliseconds after the segment started
+     */
+    public double sizeAt(long elapsedMillis) {
+        if (durationSeconds == 0 || elapsedMillis >= durationSeconds * 1000L) {
+            return endSize;
+        }
+        if (elapsedMillis <= 0) {
+            return startSize;
+        }
+        return startSize + (endSize - startSize) * elapsedMillis / (durationSeconds * 1000.0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.api_d.hungerGames.game;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Warns alive players before the border reaches them.
+ *
+ * A few times per second, the time until the border passes over each alive player is solved from the
+ * border plan and the player's current coordinates, without touching chunks or nearby entities. Players
+ * about to be caught, or already outside, get an action bar warning, and every player's compass safe
+ * zone target is moved to the closest spot inside the zone the border is heading to.
+ */
+public class BorderThreatPredictor {
+
+    // Keep the safe zone target a few blocks inside the zone edge
+    private static final double SAFE_MARGIN = 4.0;
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final BorderManager borderManager;
+    private final CompassTracker compassTracker;
+    private final Set<UUID> alivePlayers;
+
+    private World world;
+    private BukkitTask task;
+
+    public BorderThreatPredictor(Plugin plugin, GameConfig config, BorderManager borderManager,
+                                 CompassTracker compassTracker, Set<UUID> alivePlayers) {
+        this.plugin = plugin;
+        this.config = config;
+        this.borderManager = borderManager;
+        this.compassTracker = compassTracker;
+        this.alivePlayers = alivePlayers;
+    }
+
+    /**
+     * Start predicting for the alive players of a world
+     */
+    public void start(World world) {
+        stop();
+        this.world = world;
+        long period = Math.max(1, config.getBorderThreatCheckTicks());
+        task = new ProfiledRunnable("BorderThreatPredictor") {
+            @Override
+            protected void process() {
+                tick();
+            }
+        }.runTaskTimer(plugin, period, period);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void tick() {
+        BorderSchedule.Zone zone = borderManager.getTargetZone();
+        int warningSeconds = config.getBorderWarningSeconds();
+
+        for (UUID playerId : alivePlayers) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null || player.getWorld() != world) {
+                continue;
+            }
+            double x = player.getX();
+            double z = player.getZ();
+
+            int distance = 0;
+            if (zone != null) {
+                // Closest point of the zone shrunk by the margin, the zone center if it is too small for it
+                double half = Math.max(0, zone.getSize() / 2.0 - SAFE_MARGIN);
+                double safeX = Math.clamp(x, zone.getCenterX() - half, zone.getCenterX() + half);
+                double safeZ = Math.clamp(z, zone.getCenterZ() - half, zone.getCenterZ() + half);
+                distance = (int) Math.ceil(Math.max(Math.abs(x - safeX), Math.abs(z - safeZ)));
+                compassTracker.setSafeZoneTarget(player, new Location(world, safeX, player.getY(), safeZ));
+            }
+
+            double seconds = borderManager.getSecondsUntilOutside(x, z);
+            if (seconds == 0) {
+                player.sendActionBar(Component.text(config.getMessage("border_outside", "distance", String.valueOf(distance))));
+            } else if (seconds > 0 && seconds <= warningSeconds) {
+                player.sendActionBar(Component.text(config.getMessage("border_threat",
+                    "seconds", String.valueOf((int) Math.ceil(seconds)), "distance", String.valueOf(distance))));
+            }
+        }
+    }
+}
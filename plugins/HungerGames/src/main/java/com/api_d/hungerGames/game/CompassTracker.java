@@ -19,6 +19,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import net.kyori.adventure.text.Component;
 import java.util.Arrays;
 import java.util.List;
+import com.api_d.hungerGames.util.TickProfiler;
 
 /**
  * Manages compass tracking for players
@@ -29,12 +30,14 @@ public class CompassTracker implements Listener {
         SPAWN,
         FEAST,
         PARTY_MEMBER,
-        ENEMY
+        ENEMY,
+        SAFE_ZONE
     }
     
     private final Plugin plugin;
     private final Map<UUID, TrackingMode> playerTrackingModes = new ConcurrentHashMap<>();
     private final Map<UUID, GameParty> playerParties;
+    private final ArenaPlayers arenaPlayers;
     
     // Tracking targets
     private Location spawnLocation;
@@ -44,16 +47,20 @@ public class CompassTracker implements Listener {
     // Cache for last known target locations to prevent unnecessary updates
     private final Map<UUID, Location> lastKnownTargets = new ConcurrentHashMap<>();
     
-    public CompassTracker(Plugin plugin, Map<UUID, GameParty> playerParties) {
+    // Closest safe spot inside the zone the border is heading to, per player
+    private final Map<UUID, Location> safeZoneTargets = new ConcurrentHashMap<>();
+    
+    public CompassTracker(Plugin plugin, Map<UUID, GameParty> playerParties, ArenaPlayers arenaPlayers) {
         this.plugin = plugin;
         this.playerParties = playerParties;
+        this.arenaPlayers = arenaPlayers;
     }
     
     /**
      * Create and initialize a new CompassTracker
      */
-    public static CompassTracker create(Plugin plugin, Map<UUID, GameParty> playerParties) {
-        CompassTracker tracker = new CompassTracker(plugin, playerParties);
+    public static CompassTracker create(Plugin plugin, Map<UUID, GameParty> playerParties, ArenaPlayers arenaPlayers) {
+        CompassTracker tracker = new CompassTracker(plugin, playerParties, arenaPlayers);
         tracker.initializeEventListeners();
         return tracker;
     }
@@ -63,7 +70,7 @@ public class CompassTracker implements Listener {
      */
     private void initializeEventListeners() {
         // Register event listeners
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        TickProfiler.get().registerEvents(this, plugin);
     }
     
     /**
@@ -81,6 +88,16 @@ public class CompassTracker implements Listener {
         this.feastSpawned = true;
     }
     
+    /**
+     * Set the safe zone target of a player, refreshing the compass if it is tracking the safe zone
+     */
+    public void setSafeZoneTarget(Player player, Location location) {
+        safeZoneTargets.put(player.getUniqueId(), location);
+        if (playerTrackingModes.get(player.getUniqueId()) == TrackingMode.SAFE_ZONE) {
+            updateCompass(player, TrackingMode.SAFE_ZONE);
+        }
+    }
+    
     /**
      * Give a compass to a player
      */
@@ -97,7 +114,7 @@ public class CompassTracker implements Listener {
                 Component.text("§7Right-click to change tracking mode"),
                 Component.text(""),
                 Component.text("§eCurrent mode: §aSPAWN"),
-                Component.text("§7Modes: SPAWN, FEAST, PARTY, ENEMY")
+                Component.text("§7Modes: SPAWN, FEAST, PARTY, ENEMY, SAFE ZONE")
             );
             meta.lore(lore);
             
@@ -190,6 +207,8 @@ public class CompassTracker implements Listener {
                 return getClosestPartyMemberLocation(player);
             case ENEMY:
                 return getClosestEnemyLocation(player);
+            case SAFE_ZONE:
+                return safeZoneTargets.getOrDefault(player.getUniqueId(), spawnLocation);
             default:
                 return spawnLocation;
         }
@@ -236,7 +255,7 @@ public class CompassTracker implements Listener {
         Location closestLocation = null;
         double closestDistance = Double.MAX_VALUE;
         
-        for (Player onlinePlayer : plugin.getServer().getOnlinePlayers()) {
+        for (Player onlinePlayer : player.getWorld().getPlayers()) {
             // Skip if it's the same player or if they're dead
             if (onlinePlayer.equals(player) || onlinePlayer.isDead()) {
                 continue;
@@ -273,6 +292,8 @@ public class CompassTracker implements Listener {
                 return "Party Member";
             case ENEMY:
                 return "Enemy";
+            case SAFE_ZONE:
+                return "Safe Zone";
             default:
                 return "Unknown";
         }
@@ -290,13 +311,13 @@ public class CompassTracker implements Listener {
         Player player = event.getPlayer();
         ItemStack item = event.getItem();
         
-        if (item == null || item.getType() != Material.COMPASS) {
+        if (item == null || item.getType() != Material.COMPASS || !arenaPlayers.contains(player)) {
             return;
         }
         
         // Cycle through tracking modes
         TrackingMode currentMode = playerTrackingModes.getOrDefault(player.getUniqueId(), TrackingMode.SPAWN);
-        TrackingMode newMode = getNextTrackingMode(currentMode);
+        TrackingMode newMode = getNextTrackingMode(player, currentMode);
         
         // Update player's tracking mode
         playerTrackingModes.put(player.getUniqueId(), newMode);
@@ -336,7 +357,7 @@ public class CompassTracker implements Listener {
     /**
      * Get the next tracking mode in the cycle
      */
-    private TrackingMode getNextTrackingMode(TrackingMode currentMode) {
+    private TrackingMode getNextTrackingMode(Player player, TrackingMode currentMode) {
         switch (currentMode) {
             case SPAWN:
                 return feastSpawned ? TrackingMode.FEAST : TrackingMode.PARTY_MEMBER;
@@ -345,6 +366,8 @@ public class CompassTracker implements Listener {
             case PARTY_MEMBER:
                 return TrackingMode.ENEMY;
             case ENEMY:
+                return safeZoneTargets.containsKey(player.getUniqueId()) ? TrackingMode.SAFE_ZONE : TrackingMode.SPAWN;
+            case SAFE_ZONE:
                 return TrackingMode.SPAWN;
             default:
                 return TrackingMode.SPAWN;
@@ -370,6 +393,7 @@ public class CompassTracker implements Listener {
         if (playerId != null) {
             playerTrackingModes.remove(playerId);
             lastKnownTargets.remove(playerId);
+            safeZoneTargets.remove(playerId);
         }
     }
 
@@ -379,6 +403,7 @@ public class CompassTracker implements Listener {
     public void clearAllPlayers() {
         playerTrackingModes.clear();
         lastKnownTargets.clear();
+        safeZoneTargets.clear();
     }
 
     /**
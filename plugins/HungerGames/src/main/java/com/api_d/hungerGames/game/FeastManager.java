@@ -2,15 +2,20 @@ package com.api_d.hungerGames.game;
 
 import com.api_d.hungerGames.config.GameConfig;
 import com.api_d.hungerGames.events.FeastSpawnEvent;
+import com.api_d.hungerGames.events.GameEventBus;
+import com.api_d.hungerGames.world.ArenaHeightmap;
+import com.api_d.hungerGames.world.ChunkTickets;
+import com.api_d.hungerGames.world.FeastSiteSelector;
 import com.api_d.hungerGames.world.PlatformGenerator;
+import com.api_d.hungerGames.world.ProtectedZoneRegistry;
 import com.api_d.hungerGames.util.HGLogger;
+import net.kyori.adventure.audience.Audience;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.WorldBorder;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
-
 
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages feast spawning and related functionality
@@ -20,66 +25,112 @@ public class FeastManager {
     private final Plugin plugin;
     private final GameConfig config;
     private final PlatformGenerator platformGenerator;
+    private final ProtectedZoneRegistry protectedZones;
+    private final FeastSiteSelector siteSelector;
+    private final Audience audience;
     private final HGLogger logger;
     
+    private FeastSiteSelector.FeastSite preparedSite;
+    private World preparedWorld;
+    private int siteRequest = 0;
+    // Completes with the prepared site (null if none was found) once this game's selection is over
+    private CompletableFuture<Location> siteSelection = new CompletableFuture<>();
     private Location feastLocation;
     private boolean feastSpawned = false;
-    private BukkitTask feastReminderTask;
     
-    public FeastManager(Plugin plugin, GameConfig config, PlatformGenerator platformGenerator) {
+    public FeastManager(Plugin plugin, GameConfig config, PlatformGenerator platformGenerator,
+                        ProtectedZoneRegistry protectedZones, ArenaHeightmap heightmap, Audience audience) {
         this.plugin = plugin;
         this.config = config;
+        this.audience = audience;
         this.platformGenerator = platformGenerator;
+        this.protectedZones = protectedZones;
+        this.siteSelector = new FeastSiteSelector(plugin, heightmap);
         this.logger = new HGLogger(plugin);
     }
     
     /**
-     * Schedule feast spawn reminders
+     * Select the feast site in the background and keep its chunks loaded until the feast spawns.
+     * With a border plan, the site is picked in the smallest planned zone that fits the platform.
      */
-    public void startFeastReminders() {
-        if (!config.isFeastEnabled()) {
-            return;
-        }
-        
-        // Don't start reminders if feast has already spawned
-        if (feastSpawned) {
-            logger.info("Feast already spawned, not starting reminders");
+    public void prepareFeastSite(World world, Location worldCenter, BorderSchedule schedule) {
+        if (!config.isFeastEnabled() || feastSpawned) {
+            siteSelection.complete(null);
             return;
         }
         
-        // Cancel any existing reminder task to prevent duplicates
-        if (feastReminderTask != null) {
-            feastReminderTask.cancel();
-            logger.info("Cancelled existing feast reminder task");
-        }
+        releasePreparedSite();
+        int request = ++siteRequest;
+        int radius = config.getFeastRadius();
+        int borderDistance = config.getFeastBorderDistance();
         
-        logger.info("Starting feast reminder task");
+        WorldBorder border = world.getWorldBorder();
+        BorderSchedule.Zone zone = schedule != null
+            ? schedule.getInnermostZone(borderDistance + radius)
+            : new BorderSchedule.Zone(border.getCenter().getX(), border.getCenter().getZ(), border.getSize());
+        Location zoneCenter = new Location(world, zone.getCenterX(), worldCenter.getY(), zone.getCenterZ());
         
-        // Send reminders every 2 minutes
-        feastReminderTask = new BukkitRunnable() {
-            int timeUntilFeast = config.getFeastAppearsAfter();
-            
-            @Override
-            public void run() {
-                if (feastSpawned) {
-                    this.cancel();
-                    feastReminderTask = null;
-                    logger.info("Feast reminder task cancelled - feast spawned");
+        siteSelector.select(world, zoneCenter, zone.getSize(), borderDistance, radius, config.getFeastSiteCandidates())
+            .thenAccept(site -> {
+                // Ignore results from a previous game or an outdated request
+                if (request != siteRequest || feastSpawned) {
                     return;
                 }
-                
-                timeUntilFeast -= 120; // 2 minutes
-                
-                if (timeUntilFeast > 0) {
-                    int minutes = timeUntilFeast / 60;
-                    
-                    logger.info("Sending feast reminder: " + minutes + " minutes remaining");
-                    plugin.getServer().broadcast(
-                        net.kyori.adventure.text.Component.text(config.getMessage("feast_spawning", "minutes", String.valueOf(minutes)))
-                    );
+                if (site == null) {
+                    logger.warning("No suitable feast site found in advance, will search at feast time");
+                    siteSelection.complete(null);
+                    return;
                 }
+                
+                preparedSite = site;
+                preparedWorld = world;
+                forEachSiteChunk(site, radius, (chunkX, chunkZ) -> ChunkTickets.get().acquire(world, chunkX, chunkZ));
+                logger.info("Feast site prepared at " + site.getX() + ", " + site.getSurfaceY() + ", " + site.getZ() +
+                           " (score " + site.getScore() + ")");
+                siteSelection.complete(new Location(world, site.getX(), site.getSurfaceY(), site.getZ()));
+            });
+    }
+    
+    /**
+     * Selection of this game's feast site, replaced (and completed with null) when the feast is reset
+     */
+    public CompletableFuture<Location> getSiteSelection() {
+        return siteSelection;
+    }
+    
+    /**
+     * Check if the prepared site is still fully inside the current border
+     */
+    private boolean isPreparedSiteUsable(World world) {
+        if (preparedSite == null || preparedWorld != world) {
+            return false;
+        }
+        
+        WorldBorder border = world.getWorldBorder();
+        double margin = border.getSize() / 2.0 - config.getFeastRadius();
+        return Math.abs(preparedSite.getX() - border.getCenter().getX()) <= margin &&
+               Math.abs(preparedSite.getZ() - border.getCenter().getZ()) <= margin;
+    }
+    
+    /**
+     * Drop the prepared site and release its chunk tickets
+     */
+    private void releasePreparedSite() {
+        if (preparedSite != null && preparedWorld != null) {
+            World world = preparedWorld;
+            forEachSiteChunk(preparedSite, config.getFeastRadius(),
+                             (chunkX, chunkZ) -> ChunkTickets.get().release(world, chunkX, chunkZ));
+        }
+        preparedSite = null;
+        preparedWorld = null;
+    }
+    
+    private void forEachSiteChunk(FeastSiteSelector.FeastSite site, int radius, java.util.function.BiConsumer<Integer, Integer> action) {
+        for (int chunkX = (site.getX() - radius) >> 4; chunkX <= (site.getX() + radius) >> 4; chunkX++) {
+            for (int chunkZ = (site.getZ() - radius) >> 4; chunkZ <= (site.getZ() + radius) >> 4; chunkZ++) {
+                action.accept(chunkX, chunkZ);
             }
-        }.runTaskTimer(plugin, 2400, 2400); // Every 2 minutes
+        }
     }
     
     /**
@@ -93,27 +144,26 @@ public class FeastManager {
         logger.info("Spawning feast...");
         
         try {
-            // Generate feast platform
-            feastLocation = platformGenerator.generateFeastPlatform(world, worldCenter, config.getWorldBorderInitialSize());
+            // Generate feast platform, on the pre-selected site when it is ready
+            if (isPreparedSiteUsable(world)) {
+                feastLocation = platformGenerator.generateFeastPlatform(world, preparedSite);
+            } else {
+                logger.info("No prepared feast site available, searching synchronously");
+                feastLocation = platformGenerator.generateFeastPlatform(world, worldCenter, config.getWorldBorderInitialSize());
+            }
+            releasePreparedSite();
             
             // Mark feast as spawned
             feastSpawned = true;
+            protectedZones.register(ProtectedZoneRegistry.FEAST_ZONE, feastLocation, config.getFeastRadius());
             
             // Fire event
-            FeastSpawnEvent event = new FeastSpawnEvent(feastLocation);
-            plugin.getServer().getPluginManager().callEvent(event);
-            
-            // Cancel reminder task
-            if (feastReminderTask != null) {
-                feastReminderTask.cancel();
-                feastReminderTask = null;
-                logger.info("Feast reminder task cancelled after feast spawned");
-            }
+            GameEventBus.get().post(new FeastSpawnEvent(feastLocation));
             
             // Broadcast feast location
             int x = feastLocation.getBlockX();
             int z = feastLocation.getBlockZ();
-            plugin.getServer().broadcast(
+            audience.sendMessage(
                 net.kyori.adventure.text.Component.text(config.getMessage("feast_spawned", "x", String.valueOf(x), "z", String.valueOf(z)))
             );
             
@@ -142,24 +192,18 @@ public class FeastManager {
         return feastLocation;
     }
     
-    /**
-     * Clean up feast-related tasks
-     */
-    public void cleanup() {
-        if (feastReminderTask != null) {
-            feastReminderTask.cancel();
-            feastReminderTask = null;
-            logger.info("Feast reminder task cleaned up");
-        }
-    }
-    
     /**
      * Reset feast state (for new games)
      */
     public void reset() {
         feastSpawned = false;
         feastLocation = null;
-        cleanup();
+        siteRequest++;
+        releasePreparedSite();
+        CompletableFuture<Location> previous = siteSelection;
+        siteSelection = new CompletableFuture<>();
+        previous.complete(null);
+        protectedZones.unregister(ProtectedZoneRegistry.FEAST_ZONE);
         logger.info("Feast state reset");
     }
 }
@@ -5,7 +5,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.ProfiledRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Set;
@@ -43,9 +43,9 @@ public class FinalFightManager {
         logger.info("Starting final fight phase...");
         
         // Start poison application task
-        poisonTask = new BukkitRunnable() {
+        poisonTask = new ProfiledRunnable("FinalFightManager.poison") {
             @Override
-            public void run() {
+            protected void process() {
                 applyPoisonEffects();
             }
         }.runTaskTimer(plugin, 1200, 1200); // Every minute
@@ -3,21 +3,27 @@ package com.api_d.hungerGames.game;
 import com.api_d.hungerGames.HungerGames;
 import com.api_d.hungerGames.config.GameConfig;
 import com.api_d.hungerGames.database.DatabaseManager;
+import com.api_d.hungerGames.database.GameEventLog;
 import com.api_d.hungerGames.database.models.Game;
 import com.api_d.hungerGames.database.models.GameParty;
 import com.api_d.hungerGames.events.*;
 import com.api_d.hungerGames.kits.KitManager;
+import com.api_d.hungerGames.loot.LootChestSeeder;
 import com.api_d.hungerGames.player.PlayerManager;
+import com.api_d.hungerGames.replay.ReplayRecorder;
+import com.api_d.hungerGames.world.ArenaHeightmap;
+import com.api_d.hungerGames.world.ArenaWorldManager;
+import com.api_d.hungerGames.world.ChunkPregenerator;
+import com.api_d.hungerGames.world.EntityCuller;
 import com.api_d.hungerGames.world.PlatformGenerator;
+import com.api_d.hungerGames.world.ProtectedZoneRegistry;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.ProfiledRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import com.api_d.hungerGames.util.HGLogger;
 import net.kyori.adventure.text.Component;
@@ -26,15 +32,18 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import com.api_d.hungerGames.kits.Kit;
+import com.api_d.hungerGames.util.TickProfiler;
 
 /**
- * Main game manager that coordinates the entire Hunger Games flow
+ * Main game manager that coordinates the entire Hunger Games flow of one arena
  */
-public class GameManager implements Listener {
+public class GameManager {
     
+    private final String arenaId;
     private final Plugin plugin;
     private final GameConfig config;
     private final DatabaseManager databaseManager;
@@ -50,8 +59,22 @@ public class GameManager implements Listener {
     private final BorderManager borderManager;
     private final FinalFightManager finalFightManager;
     private final SpectatorManager spectatorManager;
+    private final ProtectedZoneRegistry protectedZones;
+    private final ChunkPregenerator chunkPregenerator;
+    private final ArenaHeightmap arenaHeightmap;
+    private final ArenaWorldManager arenaWorldManager;
+    private final LootChestSeeder lootChestSeeder;
+    private final SpawnTeleporter spawnTeleporter;
+    private final EntityCuller entityCuller;
+    private final BorderThreatPredictor borderThreatPredictor;
+    private final GameEventLog eventLog;
+    private final ReplayRecorder replayRecorder;
+    private final MatchTimeline timeline;
     private GameProtectionManager protectionManager;
     
+    // Players routed to this arena
+    private final ArenaPlayers players = new ArenaPlayers();
+    
     // Game state
     private Game currentGame;
     private final Map<UUID, GameParty> playerParties = new ConcurrentHashMap<>();
@@ -61,10 +84,6 @@ public class GameManager implements Listener {
     
     // Game timing
     private BukkitTask gameStartTask;
-    private BukkitTask pvpEnableTask;
-    private BukkitTask feastSpawnTask;
-    private BukkitTask borderShrinkTask;
-    private BukkitTask finalFightTask;
     private BukkitTask survivalTask;
     
     // Game mechanics
@@ -75,8 +94,9 @@ public class GameManager implements Listener {
     private long gameStartTime;
     private ScoreboardManager scoreboardManager;
     
-    public GameManager(Plugin plugin, GameConfig config, DatabaseManager databaseManager, 
+    public GameManager(String arenaId, String worldName, Plugin plugin, GameConfig config, DatabaseManager databaseManager,
                       PlayerManager playerManager, KitManager kitManager) {
+        this.arenaId = arenaId;
         this.plugin = plugin;
         this.config = config;
         this.databaseManager = databaseManager;
@@ -84,12 +104,29 @@ public class GameManager implements Listener {
         this.kitManager = kitManager;
         this.logger = new HGLogger(plugin);
         this.stateMachine = new GameStateMachine(config.shouldLogStateChanges());
+        this.eventLog = new GameEventLog(plugin, config, databaseManager);
+        this.replayRecorder = new ReplayRecorder(plugin, config);
+        this.timeline = new MatchTimeline(plugin, config);
         
         // Initialize game managers
-        this.platformGenerator = new PlatformGenerator(config, plugin.getLogger());
-        this.compassTracker = CompassTracker.create(plugin, playerParties);
-        this.feastManager = new FeastManager(plugin, config, platformGenerator);
-        this.borderManager = new BorderManager(plugin, config);
+        this.arenaHeightmap = new ArenaHeightmap(plugin);
+        this.arenaWorldManager = new ArenaWorldManager(plugin, config, worldName);
+        this.platformGenerator = new PlatformGenerator(config, plugin.getLogger(),
+                                                       ((HungerGames) plugin).getBlockPlacementEngine(),
+                                                       ((HungerGames) plugin).getSchematicLoader(),
+                                                       ((HungerGames) plugin).getLootChestRegistry(), arenaHeightmap);
+        this.protectedZones = new ProtectedZoneRegistry();
+        this.lootChestSeeder = new LootChestSeeder(plugin, config, arenaHeightmap,
+                                                   ((HungerGames) plugin).getBlockPlacementEngine(),
+                                                   ((HungerGames) plugin).getLootChestRegistry(),
+                                                   ((HungerGames) plugin).getLootGenerator(), protectedZones);
+        this.spawnTeleporter = new SpawnTeleporter(plugin);
+        this.entityCuller = new EntityCuller(plugin, config);
+        this.compassTracker = CompassTracker.create(plugin, playerParties, players);
+        this.chunkPregenerator = new ChunkPregenerator(plugin, config);
+        this.feastManager = new FeastManager(plugin, config, platformGenerator, protectedZones, arenaHeightmap, players);
+        this.borderManager = new BorderManager(plugin, config, players, eventLog);
+        this.borderThreatPredictor = new BorderThreatPredictor(plugin, config, borderManager, compassTracker, alivePlayers);
         this.finalFightManager = new FinalFightManager(plugin, alivePlayers);
         this.spectatorManager = new SpectatorManager((HungerGames) plugin, config, kitManager);
         // Initialize managers after construction to avoid this-escape
@@ -100,9 +137,9 @@ public class GameManager implements Listener {
     /**
      * Create and initialize a new GameManager
      */
-    public static GameManager create(Plugin plugin, GameConfig config, DatabaseManager databaseManager, 
-                                   PlayerManager playerManager, KitManager kitManager) {
-        GameManager manager = new GameManager(plugin, config, databaseManager, playerManager, kitManager);
+    public static GameManager create(String arenaId, String worldName, Plugin plugin, GameConfig config,
+                                   DatabaseManager databaseManager, PlayerManager playerManager, KitManager kitManager) {
+        GameManager manager = new GameManager(arenaId, worldName, plugin, config, databaseManager, playerManager, kitManager);
         manager.initializeEventListeners();
         manager.initializeProtectionManager();
         manager.initializeScoreboardManager();
@@ -113,8 +150,19 @@ public class GameManager implements Listener {
      * Initialize event listeners after construction
      */
     private void initializeEventListeners() {
+        // Subscribe to our own events directly, Bukkit listeners are only for server events
+        GameEventBus.get().subscribe(GameStateChangeEvent.class, "GameManager.onGameStateChange", this::onGameStateChange);
+        GameEventBus.get().subscribe(KitSelectionEvent.class, "GameManager.onKitSelection", this::onKitSelection);
+        
         // Register event listeners
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        TickProfiler.get().registerEvents(arenaHeightmap, plugin);
+        TickProfiler.get().registerEvents(replayRecorder, plugin);
+        
+        // Track modified chunks so the arena reset only restores those
+        if (arenaWorldManager.isTemplateMode()) {
+            TickProfiler.get().registerEvents(arenaWorldManager.getDirtyChunks(), plugin);
+            ((HungerGames) plugin).getBlockPlacementEngine().addWriteListener(arenaWorldManager.getDirtyChunks());
+        }
     }
     
     /**
@@ -144,11 +192,12 @@ public class GameManager implements Listener {
             return;
         }
         
-        logger.info("Initializing new Hunger Games match...");
+        logger.info("Initializing new Hunger Games match in arena " + arenaId + "...");
         
         try {
             // Create game record in database
             currentGame = createGameRecord();
+            eventLog.start(currentGame.getId());
             
             // Initialize game state
             alivePlayers.clear();
@@ -205,26 +254,98 @@ public class GameManager implements Listener {
      * Set up the world for the game
      */
     private void setupWorld() {
-        World world = Bukkit.getWorlds().get(0); // Main world
+        World world = getGameWorld();
         spawnLocation = world.getSpawnLocation();
         
         // Generate spawn platform
         platformGenerator.generateSpawnPlatform(spawnLocation);
+        protectedZones.register(ProtectedZoneRegistry.SPAWN_ZONE, spawnLocation, config.getSpawnRadius());
         
         // Initialize world border
         borderManager.initializeBorder(world, spawnLocation);
         
+        // Pick the feast site in the background while players are waiting, inside the zone the border closes on
+        feastManager.prepareFeastSite(world, spawnLocation, borderManager.getSchedule());
+        
         // Set compass tracker spawn location
         compassTracker.setSpawnLocation(spawnLocation);
         
-        // Clear weather
-        world.setStorm(false);
-        world.setThundering(false);
-        world.setTime(6000); // Set to day
+        // In template mode players wait in the lobby world, bring them to the arena
+        for (Player player : players.getOnline()) {
+            if (player.getWorld() != world) {
+                player.teleport(spawnLocation.clone().add(0, 2, 0));
+            }
+        }
         
         logger.info("World setup completed");
     }
     
+    /**
+     * Get the world matches are played in (the arena world in template mode, otherwise the main world)
+     */
+    public World getGameWorld() {
+        World arena = arenaWorldManager.getArenaWorld();
+        return arena != null ? arena : Bukkit.getWorlds().get(0);
+    }
+    
+    /**
+     * Plan the border, pre-generate the arena in the background while players join (chunks the border keeps
+     * longest first), then scan its heightmap and seed loot chests
+     */
+    public void prepareArena(World world) {
+        Location spawn = world.getSpawnLocation();
+        int size = config.getWorldBorderInitialSize();
+        BorderSchedule schedule = borderManager.planSchedule(spawn);
+        
+        // The arena world may be new (template reset), bring it to the current phase rules
+        protectionManager.applyWorldRules(getCurrentState());
+        Runnable buildHeightmap = () -> {
+            arenaHeightmap.build(world, spawn.getBlockX(), spawn.getBlockZ(), size, config.getPregenMaxConcurrentChunks());
+            arenaHeightmap.getCompletion().thenRun(() -> seedLootChests(world, spawn));
+        };
+        if (config.isPregenerationEnabled()) {
+            chunkPregenerator.start(world, spawn.getBlockX(), spawn.getBlockZ(), size, schedule);
+            chunkPregenerator.getCompletion().thenRun(buildHeightmap);
+        } else {
+            buildHeightmap.run();
+        }
+    }
+    
+    /**
+     * Scatter loot chests across the arena once the feast site is known, only while the arena is still
+     * waiting for players
+     */
+    private void seedLootChests(World world, Location center) {
+        if (!config.isLootSeedingEnabled()) {
+            return;
+        }
+        if (!config.isFeastEnabled()) {
+            startLootSeeding(world, center, null);
+            return;
+        }
+        CompletableFuture<Location> feastSite = feastManager.getSiteSelection();
+        feastSite.thenAccept(site -> {
+            if (feastSite != feastManager.getSiteSelection()) {
+                // The game was reset before its feast site was picked, wait for the next one
+                seedLootChests(world, center);
+                return;
+            }
+            startLootSeeding(world, center, site);
+        });
+    }
+    
+    private void startLootSeeding(World world, Location center, Location feastSite) {
+        if (isSeedingAllowed(world)) {
+            // Checked again before the chests are written, the match may have started meanwhile
+            lootChestSeeder.seed(world, center, feastSite, () -> isSeedingAllowed(world));
+        }
+    }
+    
+    private boolean isSeedingAllowed(World world) {
+        GameState state = stateMachine.getCurrentState();
+        return (state == null || state == GameState.WAITING) && getGameWorld() == world;
+    }
+    
     /**
      * Start the waiting phase
      */
@@ -232,13 +353,30 @@ public class GameManager implements Listener {
         logger.info("Starting waiting phase. Max wait time: " + config.getMaxWaitTime() + " seconds");
         
         // Schedule game start if we have enough players or time runs out
-        gameStartTask = new BukkitRunnable() {
-            int timeLeft = config.getMaxWaitTime();
-            int lastLogTime = timeLeft; // Track when we last logged the message
+        gameStartTask = new ProfiledRunnable("GameManager.waiting") {
+            // Wall clock deadline, so a lagging server does not stretch the wait
+            long deadline = System.currentTimeMillis() + config.getMaxWaitTime() * 1000L;
+            long lastRun = System.currentTimeMillis();
+            int lastLogTime = config.getMaxWaitTime(); // Track when we last logged the message
+            int lastAnnounced = -1;
+            int preparingRuns = 0;
             
             @Override
-            public void run() {
-                int onlinePlayers = Bukkit.getOnlinePlayers().size();
+            protected void process() {
+                long now = System.currentTimeMillis();
+                // Hold the countdown until enough of the arena has been pre-generated
+                if (!chunkPregenerator.isReady(config.getPregenRequiredPercent())) {
+                    deadline += now - lastRun;
+                    lastRun = now;
+                    if (preparingRuns++ % 10 == 0) {
+                        broadcastMessage("§7Preparing arena... §e" + chunkPregenerator.getProgressPercent() + "%");
+                    }
+                    return;
+                }
+                lastRun = now;
+                int timeLeft = (int) Math.ceil((deadline - now) / 1000.0);
+                
+                int onlinePlayers = players.size();
                 boolean shouldStart = shouldStartGame();
                 
                 if (shouldStart || timeLeft <= 0) {
@@ -252,7 +390,8 @@ public class GameManager implements Listener {
                             return;
                         } else {
                             logger.info("Max wait time reached but only " + onlinePlayers + " players. Waiting for more players...");
-                            timeLeft = 30; // Reset timer to wait another 30 seconds
+                            deadline = System.currentTimeMillis() + 30_000L; // Wait another 30 seconds
+                            timeLeft = 30;
                         }
                     } else {
                         logger.info("Game start conditions met. Starting game with " + onlinePlayers + " players.");
@@ -268,11 +407,10 @@ public class GameManager implements Listener {
                     lastLogTime = timeLeft;
                 }
                 
-                if (timeLeft % 30 == 0 || timeLeft <= 10) {
+                if ((timeLeft % 30 == 0 || timeLeft <= 10) && timeLeft != lastAnnounced) {
                     broadcastMessage(config.getMessage("game_starting_soon", "seconds", String.valueOf(timeLeft)));
+                    lastAnnounced = timeLeft;
                 }
-                
-                timeLeft--;
             }
         }.runTaskTimer(plugin, 0, 20); // Every second
     }
@@ -281,8 +419,8 @@ public class GameManager implements Listener {
      * Check if the game should start
      */
     private boolean shouldStartGame() {
-        int onlinePlayers = Bukkit.getOnlinePlayers().size();
-        int maxPlayers = Bukkit.getMaxPlayers();
+        int onlinePlayers = players.size();
+        int maxPlayers = getMaxPlayers();
         
         // Don't start if we have less than 2 players
         if (onlinePlayers < 2) {
@@ -300,14 +438,14 @@ public class GameManager implements Listener {
      * Check if all online players have selected kits
      */
     private boolean allPlayersReady() {
-        int onlinePlayers = Bukkit.getOnlinePlayers().size();
+        int onlinePlayers = players.size();
         
         // If no players are online, they can't be ready
         if (onlinePlayers == 0) {
             return false;
         }
         
-        return Bukkit.getOnlinePlayers().stream()
+        return players.getOnline().stream()
             .allMatch(kitManager::hasPlayerSelectedKit);
     }
     
@@ -328,27 +466,30 @@ public class GameManager implements Listener {
         }
         
         // Force start the game by directly calling the setup methods
-        int onlinePlayers = Bukkit.getOnlinePlayers().size();
+        int onlinePlayers = players.size();
         logger.info("Force starting Hunger Games with " + onlinePlayers + " players");
+        ((HungerGames) plugin).getLootGenerator().newGame(getGameWorld());
         
         // Update game record
         updateGameStartTime();
         
-        // Set up players
-        setupPlayersForGame();
+        // Set up players, the countdown starts once everyone is on the platform
+        Game game = currentGame;
+        setupPlayersForGame().thenRun(() -> {
+            if (currentGame == game) {
+                startCountdown();
+            }
+        });
         
         // Award starting credits
         awardStartingCredits();
-        
-        // Start countdown
-        startCountdown();
     }
     
     /**
      * Start the game
      */
     public void startGame() {
-        int onlinePlayers = Bukkit.getOnlinePlayers().size();
+        int onlinePlayers = players.size();
         
         // Additional safety check - don't start with less than 2 players
         if (onlinePlayers < 2) {
@@ -367,6 +508,7 @@ public class GameManager implements Listener {
         }
         
         logger.info("Starting Hunger Games with " + onlinePlayers + " players");
+        ((HungerGames) plugin).getLootGenerator().newGame(getGameWorld());
         
         // Cancel waiting task
         if (gameStartTask != null) {
@@ -377,14 +519,16 @@ public class GameManager implements Listener {
         // Update game record
         updateGameStartTime();
         
-        // Set up players
-        setupPlayersForGame();
+        // Set up players, the countdown starts once everyone is on the platform
+        Game game = currentGame;
+        setupPlayersForGame().thenRun(() -> {
+            if (currentGame == game) {
+                startCountdown();
+            }
+        });
         
         // Award starting credits
         awardStartingCredits();
-        
-        // Start countdown
-        startCountdown();
     }
     
     /**
@@ -401,12 +545,14 @@ public class GameManager implements Listener {
     }
     
     /**
-     * Set up all players for the game
+     * Set up all players for the game and move them to their spawn slots.
+     * The future completes once every player has been teleported.
      */
-    private void setupPlayersForGame() {
+    private CompletableFuture<Void> setupPlayersForGame() {
         gameStartTime = System.currentTimeMillis();
+        List<Player> participants = players.getOnline();
         
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : participants) {
             // Clear inventory completely
             player.getInventory().clear();
             player.getInventory().setArmorContents(null);
@@ -430,9 +576,6 @@ public class GameManager implements Listener {
             // Set survival start time
             playerSurvivalTimes.put(player.getUniqueId(), gameStartTime);
             
-            // Teleport to spawn platform
-            teleportToSpawn(player);
-            
             // Apply kit (this will give them their starting items and effects)
             kitManager.applyKitToPlayer(player);
             
@@ -450,6 +593,11 @@ public class GameManager implements Listener {
         }
         
         logger.info("Set up " + alivePlayers.size() + " players for the game");
+        
+        // One slot per player inside the platform, above the floor
+        List<Location> slots = SpawnTeleporter.computeSlots(spawnLocation, config.getSpawnRadius() - 2, 2,
+                                                            participants.size());
+        return spawnTeleporter.teleport(participants, slots, config.getSpawnTeleportsPerTick());
     }
     
     /**
@@ -501,60 +649,89 @@ public class GameManager implements Listener {
         return "The " + blockName + " " + mobName;
     }
     
-    /**
-     * Teleport a player to the spawn platform
-     */
-    private void teleportToSpawn(Player player) {
-        // Teleport to a random location on the spawn circle
-        double angle = Math.random() * Math.PI * 2;
-        double radius = config.getSpawnRadius() - 2; // Inside the platform
-        
-        double x = spawnLocation.getX() + Math.cos(angle) * radius;
-        double z = spawnLocation.getZ() + Math.sin(angle) * radius;
-        double y = spawnLocation.getY() + 2; // Above the platform
-        
-        Location teleportLocation = new Location(spawnLocation.getWorld(), x, y, z);
-        player.teleport(teleportLocation);
-    }
-    
     /**
      * Award starting credits to all players
      */
     private void awardStartingCredits() {
         int credits = config.getGameStartedCredits();
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : players.getOnline()) {
             playerManager.awardCredits(player.getUniqueId(), credits, "Game started");
         }
     }
     
     /**
-     * Start the pre-game countdown
+     * Start the match timeline: the pre-game countdown, then the phases at their configured offsets
      */
     private void startCountdown() {
-        new BukkitRunnable() {
-            int countdown = config.getSpawnTeleportDelay();
+        timeline.start(new MatchTimeline.Handler() {
+            @Override
+            public void run(MatchTimeline.Action action) {
+                runTimelineAction(action);
+            }
             
             @Override
-            public void run() {
-                if (countdown <= 0) {
-                    // Game officially starts
-                    startActivePhase();
-                    this.cancel();
-                    return;
+            public void announce(MatchTimeline.Action action, int secondsLeft) {
+                announceTimelineAction(action, secondsLeft);
+            }
+        });
+    }
+    
+    /**
+     * Start the phase a timeline event stands for (each is a no-op if an admin already forced it)
+     */
+    private void runTimelineAction(MatchTimeline.Action action) {
+        switch (action) {
+            case RELEASE:
+                startActivePhase();
+                break;
+            case PVP:
+                if (!pvpEnabled) {
+                    enablePvp();
                 }
-                
-                // Display countdown
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    player.showTitle(Title.title(
-                        Component.text("§c" + countdown), 
-                        Component.text("§eGet ready to fight!")
-                    ));
-                    player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
+                break;
+            case FEAST:
+                if (!config.isFeastEnabled()) {
+                    logger.info("Feast is disabled, skipping the feast event");
+                } else if (!feastSpawned) {
+                    spawnFeast();
                 }
-                
-                countdown--;
+                break;
+            case BORDER:
+                borderManager.startBorderShrinking();
+                stateMachine.transitionTo(GameState.BORDER_SHRINKING, "Timeline");
+                break;
+            case FINAL_FIGHT:
+                startFinalFightPhase("Timeline");
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Remind players of an upcoming timeline event (the countdown titles before release)
+     */
+    private void announceTimelineAction(MatchTimeline.Action action, int secondsLeft) {
+        if (action == MatchTimeline.Action.RELEASE) {
+            for (Player player : players.getOnline()) {
+                player.showTitle(Title.title(
+                    Component.text("§c" + secondsLeft), 
+                    Component.text("§eGet ready to fight!")
+                ));
+                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
             }
-        }.runTaskTimer(plugin, 0, 20); // Every second
+            return;
+        }
+        // Nothing to announce for phases that are disabled or an admin already forced
+        boolean alreadyStarted = (action == MatchTimeline.Action.PVP && pvpEnabled) ||
+            (action == MatchTimeline.Action.FEAST && (feastSpawned || !config.isFeastEnabled())) ||
+            (action == MatchTimeline.Action.BORDER && borderManager.isBorderShrinking()) ||
+            (action == MatchTimeline.Action.FINAL_FIGHT && finalFightManager.isFinalFightActive());
+        if (alreadyStarted) {
+            return;
+        }
+        String time = secondsLeft >= 60 && secondsLeft % 60 == 0 ? (secondsLeft / 60) + " min" : secondsLeft + "s";
+        broadcastMessage(config.getMessage("phase_upcoming", "phase", action.getDisplayName(), "time", time));
     }
     
     /**
@@ -570,7 +747,7 @@ public class GameManager implements Listener {
         logger.info("Game is now starting!");
         
         // Remove movement restrictions
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : players.getOnline()) {
             player.removePotionEffect(PotionEffectType.RESISTANCE);
             player.removePotionEffect(PotionEffectType.JUMP_BOOST);
             player.setWalkSpeed(0.2f); // Normal speed
@@ -592,14 +769,24 @@ public class GameManager implements Listener {
         
         logger.info("Game is now active!");
         
-        // Schedule PvP enable
-        schedulePvpEnable();
-        
-        // Schedule feast spawn
-        scheduleFeastSpawn();
-        
         // Start survival credit task
         startSurvivalCredits();
+        
+        // Keep dropped items, arrows and mobs bounded for the rest of the match
+        entityCuller.start(getGameWorld());
+        
+        // Warn players the border is about to catch and point their compass to safety
+        borderThreatPredictor.start(getGameWorld());
+        
+        // Record the alive players for /hga replay
+        List<Player> recorded = new ArrayList<>();
+        for (UUID playerId : alivePlayers) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                recorded.add(player);
+            }
+        }
+        replayRecorder.start(currentGame.getId(), getGameWorld(), recorded);
     }
     
     /**
@@ -646,34 +833,6 @@ public class GameManager implements Listener {
         return items + " items";
     }
     
-    /**
-     * Schedule PvP to be enabled
-     */
-    private void schedulePvpEnable() {
-        // Cancel any existing PvP enable task
-        if (pvpEnableTask != null) {
-            pvpEnableTask.cancel();
-        }
-        
-        final int delay = config.getPvpDelay();
-        // Countdown task
-        pvpEnableTask = new BukkitRunnable() {
-            int remaining = delay;
-            @Override
-            public void run() {
-                if (remaining <= 0) {
-                    enablePvp();
-                    this.cancel();
-                    return;
-                }
-                if (remaining <= 10 || remaining % 30 == 0) {
-                    broadcastMessage("§ePvP enabled in §c" + remaining + "§e seconds!");
-                }
-                remaining--;
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
-    }
-    
     /**
      * Enable PvP
      */
@@ -681,58 +840,29 @@ public class GameManager implements Listener {
         pvpEnabled = true;
         broadcastMessage(config.getMessage("pvp_enabled"));
         
-        // Allow all worlds to have PvP
-        for (World world : Bukkit.getWorlds()) {
-            world.setPVP(true);
-        }
+        // Allow PvP in the arena world
+        getGameWorld().setPVP(true);
+        eventLog.record(GameEventLog.Type.PVP_ENABLED, "scheduled");
         
         logger.info("PvP has been enabled");
     }
     
-    /**
-     * Schedule feast spawn
-     */
-    private void scheduleFeastSpawn() {
-        if (!config.isFeastEnabled()) {
-            return;
-        }
-        
-        // Cancel any existing feast spawn task
-        if (feastSpawnTask != null) {
-            feastSpawnTask.cancel();
-        }
-        
-        // Start feast reminders
-        feastManager.startFeastReminders();
-        
-        feastSpawnTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                spawnFeast();
-            }
-        }.runTaskLater(plugin, (config.getPvpDelay() + config.getFeastAppearsAfter()) * 20L);
-    }
-    
     /**
      * Spawn the feast
      */
     private void spawnFeast() {
-        World world = Bukkit.getWorlds().get(0);
+        World world = getGameWorld();
         feastLocation = feastManager.spawnFeast(world, spawnLocation);
         
         if (feastLocation != null) {
             feastSpawned = true;
+            eventLog.record(GameEventLog.Type.FEAST_SPAWNED, feastLocation.getBlockX(), feastLocation.getBlockY(),
+                            feastLocation.getBlockZ(), false);
             stateMachine.transitionTo(GameState.FEAST, "Feast spawned");
             
             // Update compass tracker with feast location
             compassTracker.setFeastLocation(feastLocation);
             
-            // Start border shrinking
-            borderManager.startBorderShrinking();
-            
-            // Start final fight timer
-            startFinalFightTimer();
-            
             logger.info("Feast spawned successfully at " + feastLocation.toString());
         } else {
             logger.warning("Failed to spawn feast");
@@ -740,14 +870,12 @@ public class GameManager implements Listener {
     }
     
     /**
-     * Check if final fight should start (when border reaches minimum size)
+     * Check if final fight should start (when border reaches its final size)
      */
     private void checkFinalFightStart() {
-        if (borderManager.getCurrentBorderSize() <= config.getWorldBorderMinimumSize() + 10) {
+        if (borderManager.getCurrentBorderSize() <= borderManager.getFinalSize() + 10) {
             // Border is close to minimum, start final fight
-            if (!finalFightManager.isFinalFightActive()) {
-                finalFightManager.startFinalFight();
-            }
+            startFinalFightPhase("Border closed");
         }
     }
     
@@ -760,9 +888,9 @@ public class GameManager implements Listener {
             survivalTask.cancel();
         }
         
-        survivalTask = new BukkitRunnable() {
+        survivalTask = new ProfiledRunnable("GameManager.survival") {
             @Override
-            public void run() {
+            protected void process() {
                 int credits = config.getSurvivedOneMinuteCredits();
                 for (UUID playerId : alivePlayers) {
                     playerManager.awardCredits(playerId, credits, "Survived one minute");
@@ -778,21 +906,11 @@ public class GameManager implements Listener {
     }
     
     /**
-     * Start the final fight timer
+     * Start the final fight (poison effects) and move to its phase
      */
-    private void startFinalFightTimer() {
-        // Cancel any existing final fight task
-        if (finalFightTask != null) {
-            finalFightTask.cancel();
-        }
-        
-        finalFightTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                // Start final fight phase with poison effects
-                finalFightManager.startFinalFight();
-            }
-        }.runTaskLater(plugin, config.getMaxGameTime() * 60 * 20L); // Convert minutes to ticks
+    private void startFinalFightPhase(String reason) {
+        finalFightManager.startFinalFight();
+        stateMachine.transitionTo(GameState.FINAL_FIGHT, reason);
     }
     
     /**
@@ -808,8 +926,11 @@ public class GameManager implements Listener {
         // Move from alive to dead
         alivePlayers.remove(victimId);
         deadPlayers.add(victimId);
+        replayRecorder.remove(victim);
         
         logger.info("Player died: " + victim.getName() + " (killer: " + (killer != null ? killer.getName() : "none") + ")");
+        eventLog.record(GameEventLog.Type.KILL, victimId, killer != null ? killer.getUniqueId() : null,
+                        alivePlayers.size());
         
         // Award kill credits
         if (killer != null && alivePlayers.contains(killer.getUniqueId())) {
@@ -839,11 +960,10 @@ public class GameManager implements Listener {
         checkWinCondition();
         
         // Fire event
-        PlayerDeathEvent event = new PlayerDeathEvent(victim, killer, 
+        GameEventBus.get().post(new PlayerDeathEvent(victim, killer, 
             killer != null ? com.api_d.hungerGames.database.models.GameLog.DeathReason.PLAYER : 
                            com.api_d.hungerGames.database.models.GameLog.DeathReason.ENVIRONMENT,
-            deathMessage);
-        Bukkit.getPluginManager().callEvent(event);
+            deathMessage));
     }
     
     /**
@@ -887,8 +1007,19 @@ public class GameManager implements Listener {
             } catch (SQLException e) {
                 logger.log(Level.SEVERE, "Failed to update cancelled game in database", e);
             }
+            eventLog.record(GameEventLog.Type.GAME_ENDED, "cancelled", null);
+            eventLog.finish();
         }
         
+        resetGameState();
+        
+        logger.info("Game cancelled successfully");
+    }
+    
+    /**
+     * Clear all per-match state so a new game can be initialized
+     */
+    private void resetGameState() {
         // Reset game state
         currentGame = null;
         alivePlayers.clear();
@@ -907,8 +1038,8 @@ public class GameManager implements Listener {
         
         // Reset state machine
         stateMachine.reset();
-        
-        logger.info("Game cancelled successfully");
+        protectionManager.onPhaseChange(null);
+        chunkPregenerator.setPaused(false);
     }
     
     /**
@@ -941,17 +1072,63 @@ public class GameManager implements Listener {
         
         // Update database
         updateGameEndTime();
+        eventLog.record(GameEventLog.Type.GAME_ENDED, "finished", alivePlayers.size() == 1 ? alivePlayers.iterator().next() : null);
+        eventLog.finish();
         
-        // Schedule server shutdown
-        new BukkitRunnable() {
+        // Schedule server shutdown, or an in-place arena reset in template mode
+        new ProfiledRunnable("GameManager.shutdown") {
             @Override
-            public void run() {
+            protected void process() {
                 stateMachine.transitionTo(GameState.FINISHED, "Cleanup completed");
-                Bukkit.shutdown();
+                if (arenaWorldManager.isTemplateMode()) {
+                    resetForNextGame();
+                } else {
+                    Bukkit.shutdown();
+                }
             }
         }.runTaskLater(plugin, 200); // 10 seconds delay
     }
     
+    /**
+     * Restore the arena from its template and start a new game without restarting the server
+     */
+    private void resetForNextGame() {
+        logger.info("Resetting arena for the next game...");
+        
+        resetGameState();
+        chunkPregenerator.stop();
+        protectedZones.clear();
+        
+        // Send everyone back to the lobby as a clean survival player
+        Location lobby = ArenaWorldManager.getLobby();
+        for (Player player : players.getOnline()) {
+            player.getInventory().clear();
+            player.getInventory().setArmorContents(null);
+            for (PotionEffect effect : player.getActivePotionEffects()) {
+                player.removePotionEffect(effect.getType());
+            }
+            player.setGameMode(GameMode.SURVIVAL);
+            player.setHealth(20.0);
+            player.setFoodLevel(20);
+            player.setFireTicks(0);
+            player.teleport(lobby);
+        }
+        broadcastMessage("§eResetting the arena, the next game starts shortly...");
+        
+        arenaWorldManager.resetArena(lobby).thenAccept(world -> {
+            if (world == null) {
+                logger.severe("Arena reset failed, shutting down instead");
+                Bukkit.shutdown();
+                return;
+            }
+            
+            prepareArena(world);
+            if (!players.getOnline().isEmpty()) {
+                initializeGame();
+            }
+        });
+    }
+    
     /**
      * Update game end time in database
      */
@@ -970,14 +1147,10 @@ public class GameManager implements Listener {
      */
     private void cancelAllTasks() {
         if (gameStartTask != null) gameStartTask.cancel();
-        if (pvpEnableTask != null) pvpEnableTask.cancel();
-        if (feastSpawnTask != null) feastSpawnTask.cancel();
-        if (borderShrinkTask != null) borderShrinkTask.cancel();
-        if (finalFightTask != null) finalFightTask.cancel();
         if (survivalTask != null) survivalTask.cancel();
+        timeline.stop();
         
         // Clean up managers
-        feastManager.cleanup();
         borderManager.cleanup();
         finalFightManager.cleanup();
         spectatorManager.cleanup();
@@ -985,27 +1158,46 @@ public class GameManager implements Listener {
         if (scoreboardManager != null) {
             scoreboardManager.stop();
         }
+        entityCuller.stop();
+        borderThreatPredictor.stop();
+        replayRecorder.stop(false);
     }
     
     /**
-     * Broadcast a message to all players
+     * Broadcast a message to all players of this arena
      */
     private void broadcastMessage(String message) {
         String prefixedMessage = config.getPrefix() + message;
         Component component = LegacyComponentSerializer.legacySection().deserialize(prefixedMessage);
-        Bukkit.broadcast(component);
+        players.sendMessage(component);
     }
     
     // Event handlers
-    @EventHandler
-    public void onGameStateChange(GameStateChangeEvent event) {
-        logger.info("Game state changed: " + event.getPreviousState() + " -> " + event.getNewState());
+    private void onKitSelection(KitSelectionEvent event) {
+        if (players.contains(event.getPlayer())) {
+            eventLog.record(GameEventLog.Type.KIT_SELECTED, event.getPlayer().getUniqueId(), event.getKitId());
+        }
+    }
+    
+    private void onGameStateChange(GameStateChangeEvent event) {
+        if (event.getStateMachine() != stateMachine) {
+            return; // Another arena
+        }
+        
+        logger.info("[" + arenaId + "] Game state changed: " + event.getPreviousState() + " -> " + event.getNewState());
+        eventLog.record(GameEventLog.Type.STATE_CHANGE, event.getPreviousState(), event.getNewState());
+        
+        // Swap phase-scoped protection handlers before anything else reacts
+        protectionManager.onPhaseChange(event.getNewState());
+        
+        // Only pre-generate chunks while nobody is playing
+        chunkPregenerator.setPaused(event.getNewState() != GameState.WAITING);
         
         // Handle specific state transitions
         if (event.getNewState() == GameState.STARTING) {
             // Game is starting, ensure all players are in survival mode
             logger.info("Game starting - transitioning players to survival mode");
-            for (Player player : Bukkit.getOnlinePlayers()) {
+            for (Player player : players.getOnline()) {
                 player.setGameMode(GameMode.SURVIVAL);
                 // Disable flight for all players when game starts
                 player.setAllowFlight(false);
@@ -1031,32 +1223,16 @@ public class GameManager implements Listener {
                 compassTracker.setFeastLocation(feastLocation);
             }
             
-            // Start border shrinking after feast
-            if (borderManager != null && !borderManager.isBorderShrinking()) {
-                borderManager.startBorderShrinking();
-            }
-            
-            // Start final fight timer
-            startFinalFightTimer();
+            // Border and final fight are started by the timeline, not by the phase change
             
         } else if (event.getNewState() == GameState.BORDER_SHRINKING) {
             // Border shrinking state activated
             logger.info("Border shrinking state activated");
             
-            // Ensure border is actually shrinking
-            if (borderManager != null && !borderManager.isBorderShrinking()) {
-                borderManager.startBorderShrinking();
-            }
-            
         } else if (event.getNewState() == GameState.FINAL_FIGHT) {
             // Final fight state activated
             logger.info("Final fight state activated");
             
-            // Ensure final fight is actually active
-            if (finalFightManager != null && !finalFightManager.isFinalFightActive()) {
-                finalFightManager.startFinalFight();
-            }
-            
         } else if (event.getNewState() == GameState.ENDING) {
             // Game ending state activated
             logger.info("Game ending state activated");
@@ -1107,7 +1283,8 @@ public class GameManager implements Listener {
             // Drop inventory
             for (ItemStack item : player.getInventory().getContents()) {
                 if (item != null) {
-                    player.getWorld().dropItemNaturally(player.getLocation(), item);
+                    // Owned by the player, so the entity culler keeps it
+                    player.getWorld().dropItemNaturally(player.getLocation(), item, drop -> drop.setThrower(playerId));
                 }
             }
             
@@ -1169,6 +1346,81 @@ public class GameManager implements Listener {
         return spectatorManager;
     }
 
+    /**
+     * Get the protected zone registry (spawn, feast and safe zones)
+     */
+    public ProtectedZoneRegistry getProtectedZones() {
+        return protectedZones;
+    }
+    
+    /**
+     * Get the world border manager
+     */
+    public BorderManager getBorderManager() {
+        return borderManager;
+    }
+    
+    /**
+     * Get the arena chunk pre-generator
+     */
+    public ChunkPregenerator getChunkPregenerator() {
+        return chunkPregenerator;
+    }
+    
+    public GameEventLog getEventLog() {
+        return eventLog;
+    }
+    
+    public ReplayRecorder getReplayRecorder() {
+        return replayRecorder;
+    }
+    
+    /**
+     * Get the match timeline (countdown and phase events)
+     */
+    public MatchTimeline getTimeline() {
+        return timeline;
+    }
+    
+    public EntityCuller getEntityCuller() {
+        return entityCuller;
+    }
+    
+    /**
+     * Get the arena surface heightmap
+     */
+    public ArenaHeightmap getArenaHeightmap() {
+        return arenaHeightmap;
+    }
+    
+    /**
+     * Get the arena identifier
+     */
+    public String getArenaId() {
+        return arenaId;
+    }
+    
+    /**
+     * Get the players routed to this arena
+     */
+    public ArenaPlayers getPlayers() {
+        return players;
+    }
+    
+    /**
+     * Maximum number of players routed to this arena
+     */
+    public int getMaxPlayers() {
+        return config.getArenaMaxPlayers() > 0 ? config.getArenaMaxPlayers() : Bukkit.getMaxPlayers();
+    }
+    
+    /**
+     * Get the arena world manager
+     */
+    public ArenaWorldManager getArenaWorldManager() {
+        return arenaWorldManager;
+    }
+
     /**
      * Get the protection manager
      */
@@ -1216,12 +1468,26 @@ public class GameManager implements Listener {
         info.append("- Dead Players: ").append(deadPlayers.size()).append("\n");
         info.append("- PvP Enabled: ").append(pvpEnabled).append("\n");
         info.append("- Feast Spawned: ").append(feastSpawned).append("\n");
-        info.append("- Online Players: ").append(Bukkit.getOnlinePlayers().size()).append("\n");
+        info.append("- Online Players: ").append(players.size()).append("\n");
         return info.toString();
     }
     
     // Admin force methods
     
+    /**
+     * Fast-forward the match timeline to its next event, returning it or null if the timeline is not running
+     */
+    public MatchTimeline.Action skipToNextPhase() {
+        if (currentGame == null) {
+            return null;
+        }
+        MatchTimeline.Action action = timeline.fastForward();
+        if (action != null) {
+            logger.info("Admin skipped to the next timeline event: " + action.getDisplayName());
+        }
+        return action;
+    }
+    
     /**
      * Force transition to a specific game state
      */
@@ -1280,11 +1546,7 @@ public class GameManager implements Listener {
         if (!pvpEnabled) {
             pvpEnabled = true;
             logger.info("Admin force enabled PvP");
-            
-            // Cancel any existing PvP task
-            if (pvpEnableTask != null) {
-                pvpEnableTask.cancel();
-            }
+            eventLog.record(GameEventLog.Type.PVP_ENABLED, "forced");
             
             // Broadcast PvP enabled
             broadcastMessage("§cPvP is now enabled!");
@@ -1299,18 +1561,15 @@ public class GameManager implements Listener {
             feastSpawned = true;
             logger.info("Admin force spawned feast");
             
-            // Cancel any existing feast task
-            if (feastSpawnTask != null) {
-                feastSpawnTask.cancel();
-            }
-            
             // Spawn feast immediately
-            World world = Bukkit.getWorlds().get(0);
+            World world = getGameWorld();
             feastLocation = feastManager.spawnFeast(world, spawnLocation);
             
             // Update compass tracker with feast location
             if (feastLocation != null) {
                 compassTracker.setFeastLocation(feastLocation);
+                eventLog.record(GameEventLog.Type.FEAST_SPAWNED, feastLocation.getBlockX(), feastLocation.getBlockY(),
+                                feastLocation.getBlockZ(), true);
             }
             
             // Broadcast feast spawned
@@ -1332,11 +1591,6 @@ public class GameManager implements Listener {
     public void forceStartBorderShrinking() {
         logger.info("Admin force started border shrinking");
         
-        // Cancel any existing border task
-        if (borderShrinkTask != null) {
-            borderShrinkTask.cancel();
-        }
-        
         // Start border shrinking regardless of current state
         if (borderManager != null) {
             borderManager.startBorderShrinking();
@@ -1352,18 +1606,8 @@ public class GameManager implements Listener {
     public void forceStartFinalFight() {
         logger.info("Admin force started final fight");
         
-        // Cancel any existing final fight task
-        if (finalFightTask != null) {
-            finalFightTask.cancel();
-        }
-        
         // Start final fight regardless of current state
-        if (finalFightManager != null) {
-            finalFightManager.startFinalFight();
-        }
-        
-        // Transition to final fight state
-        stateMachine.transitionTo(GameState.FINAL_FIGHT, "Admin force started final fight");
+        startFinalFightPhase("Admin force started final fight");
     }
     
     /**
@@ -7,10 +7,13 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntityTargetEvent;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
@@ -21,12 +24,16 @@ import org.bukkit.event.player.PlayerTeleportEvent.TeleportCause;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.world.ArenaWorldManager;
+import com.api_d.hungerGames.world.ProtectedZoneRegistry;
+import com.api_d.hungerGames.world.WorldRuleProfile;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import com.api_d.hungerGames.util.TickProfiler;
 
 /**
  * Manages game protection features like preventing world interaction,
@@ -42,8 +49,12 @@ public class GameProtectionManager implements Listener {
     // Track players who should have flight enabled
     private final ConcurrentHashMap<UUID, Boolean> playerFlightEnabled = new ConcurrentHashMap<>();
     
-    // Task for forcing daytime
-    private BukkitTask daytimeTask;
+    // World rule profiles by name, compiled on load and reload
+    private final Map<String, WorldRuleProfile> worldRuleProfiles = new HashMap<>();
+    
+    // Handlers that only matter before the match is running (WAITING, STARTING, ENDING)
+    private final PreGameProtectionListener preGameListener = new PreGameProtectionListener();
+    private boolean preGameListenerRegistered = false;
     
     public GameProtectionManager(HungerGames plugin, GameConfig config, GameManager gameManager) {
         this.plugin = plugin;
@@ -57,67 +68,100 @@ public class GameProtectionManager implements Listener {
      */
     public void initialize() {
         // Register event listeners
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
-        
-        // Start daytime management
-        startDaytimeManagement();
+        TickProfiler.get().registerEvents(this, plugin);
+        loadWorldRules();
+        onPhaseChange(gameManager.getCurrentState());
         
         logger.info("Game protection manager initialized");
     }
     
     /**
-     * Start managing daytime to keep it always day
+     * Compile the world rule profiles from the configuration, and apply the lobby profile to the
+     * lobby world in template mode
      */
-    private void startDaytimeManagement() {
-        if (!config.isForcedDaytimeEnabled()) {
+    public void loadWorldRules() {
+        worldRuleProfiles.clear();
+        if (!config.isWorldRulesEnabled()) {
             return;
         }
-        
-        if (daytimeTask != null) {
-            daytimeTask.cancel();
+        for (String name : config.getWorldRuleProfileNames()) {
+            worldRuleProfiles.put(name, WorldRuleProfile.compile(name, config.getWorldRuleProfile(name), logger));
         }
         
-        daytimeTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (World world : plugin.getServer().getWorlds()) {
-                    // Set time to day (6000 ticks = noon)
-                    world.setTime(6000);
-                    // Prevent weather changes
-                    world.setStorm(false);
-                    world.setThundering(false);
-                }
-            }
-        }.runTaskTimer(plugin, 20L, 20L); // Run every second
-        
-        logger.info("Daytime management started");
+        String lobbyProfileName = config.getLobbyWorldRuleProfileName();
+        if (!gameManager.getArenaWorldManager().isTemplateMode() || lobbyProfileName == null || lobbyProfileName.isEmpty()) {
+            return;
+        }
+        World lobby = ArenaWorldManager.getLobby().getWorld();
+        WorldRuleProfile lobbyProfile = worldRuleProfiles.get(lobbyProfileName);
+        if (lobbyProfile == null) {
+            logger.warning("Unknown world rule profile '" + lobbyProfileName + "' for the lobby world");
+        } else if (lobby != null && lobby != gameManager.getGameWorld()) {
+            int changed = lobbyProfile.apply(lobby);
+            logger.info("Applied world rules '" + lobbyProfileName + "' to lobby world " + lobby.getName() +
+                        " (" + changed + " changes)");
+        }
     }
     
     /**
-     * Stop daytime management
+     * Apply the world rule profile of a phase to the arena world, once
      */
-    public void stopDaytimeManagement() {
-        if (daytimeTask != null) {
-            daytimeTask.cancel();
-            daytimeTask = null;
-            logger.info("Daytime management stopped");
+    public void applyWorldRules(GameState state) {
+        if (!config.isWorldRulesEnabled()) {
+            return;
         }
+        
+        // No game running is treated as waiting for players
+        String phase = (state != null ? state : GameState.WAITING).name();
+        String profileName = config.getWorldRuleProfileName(phase);
+        if (profileName == null) {
+            return;
+        }
+        
+        WorldRuleProfile profile = worldRuleProfiles.get(profileName);
+        if (profile == null) {
+            logger.warning("Unknown world rule profile '" + profileName + "' for " + phase);
+            return;
+        }
+        
+        World world = gameManager.getGameWorld();
+        int changed = profile.apply(world);
+        logger.info("Applied world rules '" + profileName + "' for " + phase + " to " + world.getName() +
+                    " (" + changed + " changes)");
     }
     
     /**
-     * Check if world interaction should be blocked
+     * Check if world interaction should be blocked in the given phase
      */
-    private boolean shouldBlockInteraction() {
-        GameState currentState = gameManager.getCurrentState();
-        
+    private boolean shouldBlockInteraction(GameState state) {
         // Block interactions when:
         // 1. World interaction is blocked in config AND game isn't active, OR
         // 2. Game is in STARTING state (players are frozen)
-        return (config.isWorldInteractionBlocked() && 
-               (!gameManager.isGameRunning() || 
-                currentState == null ||
-                !currentState.isGameActive())) ||
-               (currentState == GameState.STARTING);
+        return (config.isWorldInteractionBlocked() && (state == null || !state.isGameActive())) ||
+               state == GameState.STARTING;
+    }
+    
+    /**
+     * Apply the world rules of the phase being entered, then register or unregister the pre-game
+     * protection listener for it.
+     * During active play the handlers are not registered at all, so they add no per-event cost.
+     */
+    public void onPhaseChange(GameState newState) {
+        applyWorldRules(newState);
+        
+        boolean shouldBlock = shouldBlockInteraction(newState);
+        if (shouldBlock == preGameListenerRegistered) {
+            return;
+        }
+        
+        if (shouldBlock) {
+            TickProfiler.get().registerEvents(preGameListener, plugin);
+            logger.info("Pre-game protection handlers registered");
+        } else {
+            HandlerList.unregisterAll(preGameListener);
+            logger.info("Pre-game protection handlers unregistered");
+        }
+        preGameListenerRegistered = shouldBlock;
     }
     
     /**
@@ -157,10 +201,10 @@ public class GameProtectionManager implements Listener {
     }
     
     /**
-     * Update flight status for all online players
+     * Update flight status for all players of this arena
      */
     public void updateAllPlayersFlight() {
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
+        for (Player player : gameManager.getPlayers().getOnline()) {
             if (config.isSetSpectatorModeWhenWaiting() && player.getGameMode() == GameMode.SPECTATOR) {
                 // Spectators should always have flight enabled
                 player.setAllowFlight(true);
@@ -179,6 +223,9 @@ public class GameProtectionManager implements Listener {
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        if (!gameManager.getPlayers().contains(player)) {
+            return;
+        }
         
         // Set player to spectator mode if game isn't started and spectator mode is enabled in config
         if (config.isSetSpectatorModeWhenWaiting()) {
@@ -195,77 +242,12 @@ public class GameProtectionManager implements Listener {
         }
     }
     
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onPlayerInteract(PlayerInteractEvent event) {
-        if (shouldBlockInteraction()) {
-            Player player = event.getPlayer();
-            
-            // Allow compass interaction (for kit selection)
-            if (event.getItem() != null && event.getItem().getType().name().contains("COMPASS")) {
-                return;
-            }
-            
-            // Block all other interactions
-            event.setCancelled(true);
-            
-            // Send message to player
-            if (event.getAction() == Action.RIGHT_CLICK_BLOCK) {
-                player.sendMessage("§cYou cannot interact with the world while the game hasn't started!");
-            }
-        }
-    }
-    
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onBlockBreak(BlockBreakEvent event) {
-        if (shouldBlockInteraction()) {
-            event.setCancelled(true);
-            event.getPlayer().sendMessage("§cYou cannot break blocks while the game hasn't started!");
-        }
-    }
-    
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onBlockPlace(BlockPlaceEvent event) {
-        if (shouldBlockInteraction()) {
-            event.setCancelled(true);
-            event.getPlayer().sendMessage("§cYou cannot place blocks while the game hasn't started!");
-        }
-    }
-    
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityTarget(EntityTargetEvent event) {
-        if (config.isMobTargetingBlocked() && shouldBlockInteraction()) {
-            // Prevent mobs from targeting players
-            if (event.getTarget() instanceof Player) {
-                event.setCancelled(true);
-                event.setTarget(null);
-            }
-        }
-    }
-    
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onPlayerInteractEntity(PlayerInteractEntityEvent event) {
-        if (shouldBlockInteraction()) {
-            Player player = event.getPlayer();
-            
-            // Allow compass interaction (for kit selection)
-            if (player.getInventory().getItemInMainHand().getType().name().contains("COMPASS")) {
-                return;
-            }
-            
-            // Block all other entity interactions
-            event.setCancelled(true);
-            
-            // Send message to player
-            player.sendMessage("§cYou cannot interact with entities while the game hasn't started!");
-        }
-    }
-    
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerToggleFlight(PlayerToggleFlightEvent event) {
         Player player = event.getPlayer();
         
         // Allow spectators to toggle flight freely
-        if (player.getGameMode() == GameMode.SPECTATOR) {
+        if (player.getGameMode() == GameMode.SPECTATOR || !gameManager.getPlayers().contains(player)) {
             return;
         }
         
@@ -279,9 +261,22 @@ public class GameProtectionManager implements Listener {
         }
     }
     
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        // Explosions (explosive arrows, creepers, TNT) never destroy protected zones
+        ProtectedZoneRegistry zones = gameManager.getProtectedZones();
+        event.blockList().removeIf(block -> zones.isProtected(block.getWorld(), block.getX(), block.getY(), block.getZ()));
+    }
+    
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        ProtectedZoneRegistry zones = gameManager.getProtectedZones();
+        event.blockList().removeIf(block -> zones.isProtected(block.getWorld(), block.getX(), block.getY(), block.getZ()));
+    }
+    
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerPortalOrTeleport(PlayerTeleportEvent event) {
-        if (event.getPlayer() == null || event.getTo() == null) {
+        if (event.getPlayer() == null || event.getTo() == null || !gameManager.getPlayers().contains(event.getPlayer())) {
             return;
         }
         TeleportCause cause = event.getCause();
@@ -309,14 +304,87 @@ public class GameProtectionManager implements Listener {
      * Cleanup resources
      */
     public void cleanup() {
-        stopDaytimeManagement();
-        
         // Disable flight for all players
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
+        for (Player player : gameManager.getPlayers().getOnline()) {
             disableFlight(player);
         }
         
         playerFlightEnabled.clear();
         logger.info("Game protection manager cleaned up");
     }
+    
+    /**
+     * World interaction and mob targeting protection, registered only while
+     * the current phase blocks interaction (see {@link #onPhaseChange(GameState)})
+     */
+    private class PreGameProtectionListener implements Listener {
+        
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onPlayerInteract(PlayerInteractEvent event) {
+            Player player = event.getPlayer();
+            if (!gameManager.getPlayers().contains(player)) {
+                return;
+            }
+            
+            // Allow compass interaction (for kit selection)
+            if (event.getItem() != null && event.getItem().getType().name().contains("COMPASS")) {
+                return;
+            }
+            
+            // Block all other interactions
+            event.setCancelled(true);
+            
+            // Send message to player
+            if (event.getAction() == Action.RIGHT_CLICK_BLOCK) {
+                player.sendMessage("§cYou cannot interact with the world while the game hasn't started!");
+            }
+        }
+        
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onBlockBreak(BlockBreakEvent event) {
+            if (!gameManager.getPlayers().contains(event.getPlayer())) {
+                return;
+            }
+            event.setCancelled(true);
+            event.getPlayer().sendMessage("§cYou cannot break blocks while the game hasn't started!");
+        }
+        
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onBlockPlace(BlockPlaceEvent event) {
+            if (!gameManager.getPlayers().contains(event.getPlayer())) {
+                return;
+            }
+            event.setCancelled(true);
+            event.getPlayer().sendMessage("§cYou cannot place blocks while the game hasn't started!");
+        }
+        
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onEntityTarget(EntityTargetEvent event) {
+            if (config.isMobTargetingBlocked() && event.getTarget() instanceof Player target &&
+                gameManager.getPlayers().contains(target)) {
+                // Prevent mobs from targeting players
+                event.setCancelled(true);
+                event.setTarget(null);
+            }
+        }
+        
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onPlayerInteractEntity(PlayerInteractEntityEvent event) {
+            Player player = event.getPlayer();
+            if (!gameManager.getPlayers().contains(player)) {
+                return;
+            }
+            
+            // Allow compass interaction (for kit selection)
+            if (player.getInventory().getItemInMainHand().getType().name().contains("COMPASS")) {
+                return;
+            }
+            
+            // Block all other entity interactions
+            event.setCancelled(true);
+            
+            // Send message to player
+            player.sendMessage("§cYou cannot interact with entities while the game hasn't started!");
+        }
+    }
 }
@@ -1,14 +1,9 @@
 package com.api_d.hungerGames.game;
 
+import com.api_d.hungerGames.events.GameEventBus;
 import com.api_d.hungerGames.events.GameStateChangeEvent;
-import org.bukkit.Bukkit;
 import com.api_d.hungerGames.util.HGLogger;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.Objects;
-
 /**
  * Manages game state transitions and validates state changes
  */
@@ -18,44 +13,49 @@ public class GameStateMachine {
     private GameState currentState;
     private final boolean logStateChanges;
     
-    // Define valid state transitions
-    private static final Set<StateTransition> VALID_TRANSITIONS = new HashSet<>(Arrays.asList(
+    // Valid transitions: one bitmask of target states (bit = ordinal) per source state, index 0 being no state
+    private static final int[] VALID_TRANSITIONS = new int[GameState.values().length + 1];
+    
+    static {
         // From initial state (null)
-        new StateTransition(null, GameState.WAITING),
+        allow(null, GameState.WAITING);
         
-        // From WAITING
-        new StateTransition(GameState.WAITING, GameState.STARTING),
-        new StateTransition(GameState.WAITING, GameState.FINISHED), // Server shutdown
+        // From WAITING (FINISHED is reached on server shutdown from any running state)
+        allow(GameState.WAITING, GameState.STARTING, GameState.FINISHED);
         
         // From STARTING
-        new StateTransition(GameState.STARTING, GameState.ACTIVE),
-        new StateTransition(GameState.STARTING, GameState.FINISHED), // Server shutdown
+        allow(GameState.STARTING, GameState.ACTIVE, GameState.FINISHED);
         
         // From ACTIVE
-        new StateTransition(GameState.ACTIVE, GameState.FEAST),
-        new StateTransition(GameState.ACTIVE, GameState.BORDER_SHRINKING),
-        new StateTransition(GameState.ACTIVE, GameState.FINAL_FIGHT),
-        new StateTransition(GameState.ACTIVE, GameState.ENDING),
-        new StateTransition(GameState.ACTIVE, GameState.FINISHED), // Server shutdown
+        allow(GameState.ACTIVE, GameState.FEAST, GameState.BORDER_SHRINKING, GameState.FINAL_FIGHT, GameState.ENDING,
+              GameState.FINISHED);
         
         // From FEAST
-        new StateTransition(GameState.FEAST, GameState.BORDER_SHRINKING),
-        new StateTransition(GameState.FEAST, GameState.FINAL_FIGHT),
-        new StateTransition(GameState.FEAST, GameState.ENDING),
-        new StateTransition(GameState.FEAST, GameState.FINISHED), // Server shutdown
+        allow(GameState.FEAST, GameState.BORDER_SHRINKING, GameState.FINAL_FIGHT, GameState.ENDING, GameState.FINISHED);
         
         // From BORDER_SHRINKING
-        new StateTransition(GameState.BORDER_SHRINKING, GameState.FINAL_FIGHT),
-        new StateTransition(GameState.BORDER_SHRINKING, GameState.ENDING),
-        new StateTransition(GameState.BORDER_SHRINKING, GameState.FINISHED), // Server shutdown
+        allow(GameState.BORDER_SHRINKING, GameState.FINAL_FIGHT, GameState.ENDING, GameState.FINISHED);
         
         // From FINAL_FIGHT
-        new StateTransition(GameState.FINAL_FIGHT, GameState.ENDING),
-        new StateTransition(GameState.FINAL_FIGHT, GameState.FINISHED), // Server shutdown
+        allow(GameState.FINAL_FIGHT, GameState.ENDING, GameState.FINISHED);
         
         // From ENDING
-        new StateTransition(GameState.ENDING, GameState.FINISHED)
-    ));
+        allow(GameState.ENDING, GameState.FINISHED);
+    }
+    
+    private static void allow(GameState from, GameState... targets) {
+        for (GameState target : targets) {
+            VALID_TRANSITIONS[index(from)] |= 1 << target.ordinal();
+        }
+    }
+    
+    private static int index(GameState state) {
+        return state == null ? 0 : state.ordinal() + 1;
+    }
+    
+    private static boolean isValid(GameState from, GameState to) {
+        return (VALID_TRANSITIONS[index(from)] & (1 << to.ordinal())) != 0;
+    }
     
     public GameStateMachine(boolean logStateChanges) {
         this.logger = new HGLogger(java.util.logging.Logger.getLogger("HungerGames"));
@@ -102,8 +102,7 @@ public class GameStateMachine {
             return true;
         }
         
-        StateTransition transition = new StateTransition(currentState, newState);
-        if (!VALID_TRANSITIONS.contains(transition)) {
+        if (!isValid(currentState, newState)) {
             logger.warning("Invalid state transition attempted: " + currentState + " -> " + newState);
             return false;
         }
@@ -112,8 +111,7 @@ public class GameStateMachine {
         currentState = newState;
         
         // Fire event
-        GameStateChangeEvent event = new GameStateChangeEvent(previousState, newState);
-        Bukkit.getPluginManager().callEvent(event);
+        GameEventBus.get().post(new GameStateChangeEvent(this, previousState, newState));
         
         // Log the transition
         if (logStateChanges) {
@@ -137,8 +135,7 @@ public class GameStateMachine {
             return true;
         }
         
-        StateTransition transition = new StateTransition(currentState, newState);
-        return VALID_TRANSITIONS.contains(transition);
+        return isValid(currentState, newState);
     }
     
     /**
@@ -153,8 +150,7 @@ public class GameStateMachine {
                       (reason != null ? " (" + reason + ")" : ""));
         
         // Still fire the event
-        GameStateChangeEvent event = new GameStateChangeEvent(previousState, newState);
-        Bukkit.getPluginManager().callEvent(event);
+        GameEventBus.get().post(new GameStateChangeEvent(this, previousState, newState));
     }
     
     /**
@@ -168,35 +164,4 @@ public class GameStateMachine {
             logger.info("Game state machine reset from: " + (previousState != null ? previousState.getDisplayName() : "null"));
         }
     }
-    
-    /**
-     * Helper class to represent state transitions
-     */
-    private static class StateTransition {
-        private final GameState from;
-        private final GameState to;
-        
-        public StateTransition(GameState from, GameState to) {
-            this.from = from;
-            this.to = to;
-        }
-        
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (obj == null || getClass() != obj.getClass()) return false;
-            StateTransition that = (StateTransition) obj;
-            return Objects.equals(from, that.from) && Objects.equals(to, that.to);
-        }
-        
-        @Override
-        public int hashCode() {
-            return Objects.hash(from, to);
-        }
-        
-        @Override
-        public String toString() {
-            return from + " -> " + to;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,247 @@
+package com.api_d.hungerGames.game;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Drives the phases of a match from a list of events at game-time offsets.
+ *
+ * Game time is 0 when players are released, and negative during the spawn countdown. It is read from
+ * the system clock rather than counted in ticks, so a lagging server fires phases late by at most one
+ * tick instead of drifting. A single task checks every tick which events and announcements are due and
+ * hands them to the match. Admins can fast-forward to the next event.
+ */
+public class MatchTimeline {
+
+    public enum Action {
+        RELEASE("Start"),
+        PVP("PvP"),
+        FEAST("Feast"),
+        BORDER("Border"),
+        FINAL_FIGHT("Final fight");
+
+        private final String displayName;
+
+        Action(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    /**
+     * What the match does when an event is due, or about to be
+     */
+    public interface Handler {
+        void run(Action action);
+
+        void announce(Action action, int secondsLeft);
+    }
+
+    public static final class Entry {
+        private final int offsetSeconds;
+        private final Action action;
+
+        public Entry(int offsetSeconds, Action action) {
+            this.offsetSeconds = offsetSeconds;
+            this.action = action;
+        }
+
+        public int getOffsetSeconds() {
+            return offsetSeconds;
+        }
+
+        public Action getAction() {
+            return action;
+        }
+    }
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final HGLogger logger;
+
+    private List<Entry> entries = List.of();
+    private int[] announceSeconds = new int[0];
+    private int countdownSeconds;
+    private Handler handler;
+    private BukkitTask task;
+    // Game time 0, in System.nanoTime units
+    private long originNanos;
+    private double lastSeconds;
+    private int nextIndex;
+
+    public MatchTimeline(Plugin plugin, GameConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Parse "seconds:action" entries, sorted by offset (entries at the same offset keep their order)
+     */
+    public static List<Entry> compile(List<String> lines, HGLogger logger) {
+        List<Entry> compiled = new ArrayList<>();
+        for (String line : lines) {
+            String[] parts = line.split(":");
+            try {
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("expected seconds:action");
+                }
+                int offset = Integer.parseInt(parts[0].trim());
+                if (offset < 0) {
+                    throw new IllegalArgumentException("offset must not be negative");
+                }
+                Action action = Action.valueOf(parts[1].trim().toUpperCase(Locale.ROOT));
+                if (action == Action.RELEASE) {
+                    throw new IllegalArgumentException("players are always released at 0");
+                }
+                compiled.add(new Entry(offset, action));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Ignoring timeline event '" + line + "': " + e.getMessage());
+            }
+        }
+        compiled.sort(Comparator.comparingInt(Entry::getOffsetSeconds));
+        return compiled;
+    }
+
+    /**
+     * Start the spawn countdown, players are released when it reaches 0 and the configured events follow
+     */
+    public void start(Handler handler) {
+        stop();
+        this.handler = handler;
+        this.countdownSeconds = Math.max(0, config.getSpawnTeleportDelay());
+
+        List<Entry> timeline = new ArrayList<>();
+        timeline.add(new Entry(0, Action.RELEASE));
+        timeline.addAll(compile(config.getTimelineEvents(), logger));
+        this.entries = timeline;
+        this.announceSeconds = config.getTimelineAnnounceSeconds().stream().mapToInt(Integer::intValue).toArray();
+        this.nextIndex = 0;
+        this.originNanos = System.nanoTime() + countdownSeconds * 1_000_000_000L;
+        // Just before the start, so the first countdown second is announced
+        this.lastSeconds = -countdownSeconds - 0.001;
+
+        task = new ProfiledRunnable("MatchTimeline") {
+            @Override
+            protected void process() {
+                tick();
+            }
+        }.runTaskTimer(plugin, 0L, 1L);
+        logger.info("Match timeline started with " + (entries.size() - 1) + " events after a " + countdownSeconds + "s countdown");
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        entries = List.of();
+        nextIndex = 0;
+        handler = null;
+    }
+
+    /**
+     * Jump to the next event and fire it (with any event at the same offset), returning it or null if none is left
+     */
+    public Action fastForward() {
+        if (!isRunning()) {
+            return null;
+        }
+        int offset = entries.get(nextIndex).getOffsetSeconds();
+        double skipped = offset - getGameSeconds();
+        if (skipped > 0) {
+            originNanos -= (long) Math.ceil(skipped * 1_000_000_000L);
+        }
+        // Skipped announcements are not worth sending
+        lastSeconds = getGameSeconds();
+        Action action = entries.get(nextIndex).getAction();
+        logger.info("Timeline fast-forwarded " + Math.max(0, Math.round(skipped)) + "s to " + action);
+        fireDue();
+        return action;
+    }
+
+    private void tick() {
+        double now = getGameSeconds();
+        announce(lastSeconds, now);
+        lastSeconds = now;
+        fireDue();
+    }
+
+    private void fireDue() {
+        double now = getGameSeconds();
+        while (handler != null && nextIndex < entries.size() && entries.get(nextIndex).getOffsetSeconds() <= now) {
+            Entry entry = entries.get(nextIndex++);
+            handler.run(entry.getAction());
+        }
+        if (handler != null && nextIndex >= entries.size() && task != null) {
+            // Nothing left to fire, the HUD shows no next phase
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Announce the upcoming events whose reminders fall in (from, to]
+     */
+    private void announce(double from, double to) {
+        for (int i = nextIndex; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.getAction() == Action.RELEASE) {
+                // Every countdown second
+                for (int seconds = countdownSeconds; seconds >= 1; seconds--) {
+                    double at = -seconds;
+                    if (at > from && at <= to) {
+                        handler.announce(Action.RELEASE, seconds);
+                    }
+                }
+                continue;
+            }
+            for (int seconds : announceSeconds) {
+                double at = entry.getOffsetSeconds() - seconds;
+                // Only once players are released
+                if (at >= 0 && at > from && at <= to) {
+                    handler.announce(entry.getAction(), seconds);
+                }
+            }
+        }
+    }
+
+    /**
+     * Seconds since players were released, negative during the countdown
+     */
+    public double getGameSeconds() {
+        return (System.nanoTime() - originNanos) / 1_000_000_000.0;
+    }
+
+    public boolean isRunning() {
+        return handler != null && nextIndex < entries.size();
+    }
+
+    /**
+     * Next event to fire, null if none is left
+     */
+    public Action getNextAction() {
+        return isRunning() ? entries.get(nextIndex).getAction() : null;
+    }
+
+    /**
+     * Whole seconds until the next event, -1 if none is left
+     */
+    public int getSecondsUntilNext() {
+        if (!isRunning()) {
+            return -1;
+        }
+        return (int) Math.max(0, Math.ceil(entries.get(nextIndex).getOffsetSeconds() - getGameSeconds()));
+    }
+}
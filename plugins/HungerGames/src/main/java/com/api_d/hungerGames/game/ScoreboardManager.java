@@ -5,6 +5,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.ProfiledRunnable;
 import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
 import org.bukkit.scoreboard.Scoreboard;
@@ -16,7 +17,7 @@ import java.util.Map;
 import java.util.UUID;
 
 /**
- * Displays a sidebar scoreboard showing phase, elapsed time, alive players, and kit
+ * Displays a sidebar scoreboard showing phase, time until the next phase, elapsed time, alive players, and kit
  */
 public class ScoreboardManager {
 
@@ -32,10 +33,10 @@ public class ScoreboardManager {
 
     public void start() {
         stop();
-        task = new BukkitRunnable() {
+        task = new ProfiledRunnable("ScoreboardManager") {
             @Override
-            public void run() {
-                for (Player player : Bukkit.getOnlinePlayers()) {
+            protected void process() {
+                for (Player player : gameManager.getPlayers().getOnline()) {
                     updatePlayerBoard(player);
                 }
             }
@@ -49,7 +50,7 @@ public class ScoreboardManager {
             task = null;
         }
         // Clear scoreboards to avoid leaks
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : gameManager.getPlayers().getOnline()) {
             player.setScoreboard(Bukkit.getScoreboardManager().getNewScoreboard());
         }
         playerScoreboards.clear();
@@ -68,14 +69,15 @@ public class ScoreboardManager {
 
         // Build static layout once
         if (board.getTeam("hg_phase") == null) {
-            obj.getScore(" ").setScore(10);
-            obj.getScore("§7Phase:").setScore(9);
+            obj.getScore(" ").setScore(11);
+            obj.getScore("§7Phase:").setScore(10);
             obj.getScore("  ").setScore(7);
             obj.getScore("§7Elapsed:").setScore(6);
             obj.getScore("   ").setScore(4);
             obj.getScore("§7Alive:").setScore(3);
             // Register dynamic lines
-            registerLine(board, "hg_phase", "§a", 8);
+            registerLine(board, "hg_phase", "§a", 9);
+            registerLine(board, "hg_next", "§6", 8);
             registerLine(board, "hg_time", "§b", 5);
             registerLine(board, "hg_alive", "§c", 2);
             registerLine(board, "hg_kit", "§d", 1);
@@ -91,12 +93,17 @@ public class ScoreboardManager {
             elapsedSec = Math.max(0L, (System.currentTimeMillis() - gameManager.getGameStartTime()) / 1000L);
         }
         String time = formatTime(elapsedSec);
+        MatchTimeline timeline = gameManager.getTimeline();
+        String next = timeline.isRunning()
+            ? "§7" + timeline.getNextAction().getDisplayName() + " in §f" + formatTime(timeline.getSecondsUntilNext())
+            : "";
         Kit kit = gameManager.getPlayerKitFor(player);
         String kitName = kit != null ? kit.getDisplayName() : "None";
 
         // Update dynamic values via teams (kit first, then credits)
         int credits = gameManager.getPlayerManager().getPlayerCredits(player);
         setTeamPrefix(board, "hg_phase", "§f " + phase);
+        setTeamPrefix(board, "hg_next", next.isEmpty() ? "" : " " + next);
         setTeamPrefix(board, "hg_time", "§f " + time);
         setTeamPrefix(board, "hg_alive", "§f " + alive);
         setTeamPrefix(board, "hg_kit", "§7Kit: §f" + kitName);
@@ -0,0 +1,132 @@
+package com.api_d.hungerGames.game;
+
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import com.api_d.hungerGames.world.ChunkTickets;
+import com.api_d.hungerGames.world.ProtectedZoneRegistry;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Moves players onto the spawn platform at the start of a game.
+ *
+ * Every player gets a distinct slot on concentric rings of the platform. The chunks under the slots
+ * are loaded asynchronously first, then players are sent with teleportAsync a few per tick, so a full
+ * server starting at once does not stall a tick.
+ */
+public class SpawnTeleporter {
+
+    // Minimum distance between two neighbouring slots on a ring
+    private static final double SLOT_SPACING = 1.5;
+    private static final double RING_SPACING = 2.0;
+    private static final double MIN_RING_RADIUS = 2.0;
+
+    private final Plugin plugin;
+    private final HGLogger logger;
+
+    public SpawnTeleporter(Plugin plugin) {
+        this.plugin = plugin;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Evenly spaced slots facing the center, starting on the outer ring (radius) and moving inwards
+     * when a ring is full. Slots are placed y blocks above the center.
+     */
+    public static List<Location> computeSlots(Location center, double radius, double y, int count) {
+        List<Location> slots = new ArrayList<>(count);
+        double offset = ThreadLocalRandom.current().nextDouble() * Math.PI * 2;
+        double ringRadius = Math.max(MIN_RING_RADIUS, radius);
+
+        while (slots.size() < count) {
+            int remaining = count - slots.size();
+            int capacity = Math.max(1, (int) (2 * Math.PI * ringRadius / SLOT_SPACING));
+            // The innermost ring takes everyone left, even if they end up closer than the usual spacing
+            boolean lastRing = ringRadius - RING_SPACING < MIN_RING_RADIUS;
+            int onRing = lastRing ? remaining : Math.min(remaining, capacity);
+
+            for (int i = 0; i < onRing; i++) {
+                double angle = offset + 2 * Math.PI * i / onRing;
+                double x = center.getX() + Math.cos(angle) * ringRadius;
+                double z = center.getZ() + Math.sin(angle) * ringRadius;
+                Location slot = new Location(center.getWorld(), x, center.getY() + y, z);
+                slot.setDirection(center.toVector().subtract(slot.toVector()).setY(0));
+                slots.add(slot);
+            }
+            ringRadius -= RING_SPACING;
+        }
+        return slots;
+    }
+
+    /**
+     * Preload the slot chunks, then teleport player i to slot i in batches of perTick players.
+     * The future completes on the main thread once every teleport has finished.
+     */
+    public CompletableFuture<Void> teleport(List<Player> players, List<Location> slots, int perTick) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (players.isEmpty()) {
+            result.complete(null);
+            return result;
+        }
+
+        World world = slots.get(0).getWorld();
+        Set<Long> chunks = new HashSet<>();
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        for (Location slot : slots) {
+            int chunkX = slot.getBlockX() >> 4;
+            int chunkZ = slot.getBlockZ() >> 4;
+            if (chunks.add(ProtectedZoneRegistry.chunkKey(chunkX, chunkZ))) {
+                // Ticketed so the chunks stay loaded until the players arrive
+                ChunkTickets.get().acquire(world, chunkX, chunkZ);
+                loads.add(world.getChunkAtAsync(chunkX, chunkZ, true));
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.warning("Failed to preload spawn chunks: " + error.getMessage());
+            }
+
+            List<CompletableFuture<Boolean>> teleports = new ArrayList<>(players.size());
+            new ProfiledRunnable("SpawnTeleporter") {
+                int next = 0;
+
+                @Override
+                protected void process() {
+                    int end = Math.min(players.size(), next + Math.max(1, perTick));
+                    for (; next < end; next++) {
+                        Player player = players.get(next);
+                        if (player.isOnline()) {
+                            teleports.add(player.teleportAsync(slots.get(next)));
+                        }
+                    }
+                    if (next < players.size()) {
+                        return;
+                    }
+                    cancel();
+
+                    CompletableFuture.allOf(teleports.toArray(new CompletableFuture[0])).whenComplete((done, teleportError) -> {
+                        for (long key : chunks) {
+                            ChunkTickets.get().release(world, ProtectedZoneRegistry.chunkX(key), ProtectedZoneRegistry.chunkZ(key));
+                        }
+                        logger.info("Teleported " + teleports.size() + " players to spawn in " +
+                                    (System.currentTimeMillis() - start) + "ms");
+                        result.complete(null);
+                    });
+                }
+            }.runTaskTimer(plugin, 0L, 1L);
+        });
+
+        return result;
+    }
+}
@@ -136,7 +136,7 @@ public class SpectatorManager {
         Player closestPlayer = null;
         double closestDistance = Double.MAX_VALUE;
         
-        for (Player onlinePlayer : plugin.getServer().getOnlinePlayers()) {
+        for (Player onlinePlayer : player.getWorld().getPlayers()) {
             if (onlinePlayer.equals(player) || onlinePlayer.isDead()) {
                 continue;
             }
@@ -1,6 +1,7 @@
 package com.api_d.hungerGames.gui;
 
 import com.api_d.hungerGames.HungerGames;
+import com.api_d.hungerGames.events.GameEventBus;
 import com.api_d.hungerGames.events.KitSelectionEvent;
 import com.api_d.hungerGames.kits.Kit;
 import org.bukkit.Bukkit;
@@ -16,6 +17,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import java.util.*;
+import com.api_d.hungerGames.util.TickProfiler;
 
 /**
  * GUI for kit selection
@@ -37,7 +39,7 @@ public class KitSelectionGUI implements Listener {
      * Initialize event listeners after construction to avoid this-escape
      */
     public void initialize() {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        TickProfiler.get().registerEvents(this, plugin);
     }
     
     /**
@@ -45,7 +47,7 @@ public class KitSelectionGUI implements Listener {
      */
     public void openKitSelection(Player player) {
         // Check if game allows kit selection
-        if (!plugin.getGameManager().getCurrentState().canSelectKits()) {
+        if (!plugin.getGameManager(player).getCurrentState().canSelectKits()) {
             player.sendMessage(Component.text("You cannot select kits at this time!", NamedTextColor.RED));
             return;
         }
@@ -437,8 +439,7 @@ public class KitSelectionGUI implements Listener {
         plugin.getLogger().info("Starting kit selection for player: " + player.getName() + " with kit: " + kit.getId());
         
         // Fire kit selection event
-        KitSelectionEvent event = new KitSelectionEvent(player, kit.getId());
-        Bukkit.getPluginManager().callEvent(event);
+        KitSelectionEvent event = GameEventBus.get().post(new KitSelectionEvent(player, kit.getId()));
         
         if (event.isCancelled()) {
             String reason = event.getCancelReason();
@@ -459,7 +460,7 @@ public class KitSelectionGUI implements Listener {
             boolean hasUnlocked = plugin.getPlayerManager().hasUnlockedKit(player.getUniqueId(), kit.getId());
             if (hasUnlocked) {
                 // Already unlocked; complete selection without paying
-                Bukkit.getScheduler().runTask(plugin, () -> completeKitSelection(player, kit));
+                Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("KitSelectionGUI", () -> completeKitSelection(player, kit)));
                 return;
             }
             plugin.getLogger().info("Deducting credits for premium kit: " + kit.getId() + " for player: " + player.getName() + " (cost: " + kit.getCost() + ")");
@@ -469,35 +470,35 @@ public class KitSelectionGUI implements Listener {
                     if (success) {
                         plugin.getLogger().info("Credits deducted successfully for kit: " + kit.getId() + " for player: " + player.getName());
                         // Credits deducted successfully, select the kit
-                        Bukkit.getScheduler().runTask(plugin, () -> {
+                        Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("KitSelectionGUI", () -> {
                             // Persist unlock
                             plugin.getPlayerManager().unlockKit(player.getUniqueId(), kit.getId());
                             completeKitSelection(player, kit);
-                        });
+                        }));
                     } else {
                         plugin.getLogger().warning("Failed to deduct credits for kit: " + kit.getId() + " for player: " + player.getName());
                         // Failed to deduct credits
-                        Bukkit.getScheduler().runTask(plugin, () -> {
+                        Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("KitSelectionGUI", () -> {
                             player.sendMessage(Component.text("Failed to purchase kit! Please try again.", NamedTextColor.RED));
                             // Clean up tracking
                             openInventories.remove(player.getUniqueId());
                             pendingConfirmations.remove(player.getUniqueId());
                             // Reopen kit selection
                             openKitSelection(player);
-                        });
+                        }));
                     }
                 })
                 .exceptionally(throwable -> {
                     // Handle any errors
                     plugin.getLogger().log(java.util.logging.Level.SEVERE, "Error deducting credits for kit purchase: " + throwable.getMessage(), throwable);
-                    Bukkit.getScheduler().runTask(plugin, () -> {
+                    Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("KitSelectionGUI", () -> {
                         player.sendMessage(Component.text("An error occurred while purchasing the kit. Please try again.", NamedTextColor.RED));
                         // Clean up tracking
                         openInventories.remove(player.getUniqueId());
                         pendingConfirmations.remove(player.getUniqueId());
                         // Reopen kit selection
                         openKitSelection(player);
-                    });
+                    }));
                     return null;
                 });
             return; // Exit early, kit selection will be handled in the callback
@@ -7,7 +7,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.TemporaryEntities;
 import org.bukkit.util.Vector;
 
 import java.util.Arrays;
@@ -62,14 +62,7 @@ public class ArcherKit extends Kit {
             arrow.setPickupStatus(Arrow.PickupStatus.DISALLOWED);
             
             // Remove arrows after 10 seconds
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    if (arrow.isValid()) {
-                        arrow.remove();
-                    }
-                }
-            }.runTaskLater(player.getServer().getPluginManager().getPlugin("HungerGames"), 200);
+            TemporaryEntities.get().track(arrow, 200);
         }
     }
     
@@ -12,7 +12,7 @@ import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.potion.PotionType;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.ProfiledRunnable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -110,12 +110,12 @@ public class MedicKit extends Kit {
         
         @Override
         public void execute(Player spectator) {
-            new BukkitRunnable() {
+            new ProfiledRunnable("MedicKit.healingAura") {
                 int ticks = 0;
                 final int maxTicks = 60; // 3 seconds
                 
                 @Override
-                public void run() {
+                protected void process() {
                     if (ticks >= maxTicks) {
                         this.cancel();
                         return;
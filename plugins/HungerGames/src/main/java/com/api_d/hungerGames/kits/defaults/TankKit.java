@@ -7,7 +7,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.TemporaryEntities;
 
 import java.util.Arrays;
 import java.util.List;
@@ -68,14 +68,7 @@ public class TankKit extends Kit {
             droppedItem.setPickupDelay(Integer.MAX_VALUE);
             
             // Remove after 15 seconds
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    if (droppedItem.isValid()) {
-                        droppedItem.remove();
-                    }
-                }
-            }.runTaskLater(spectator.getServer().getPluginManager().getPlugin("HungerGames"), 300); // 15 seconds
+            TemporaryEntities.get().track(droppedItem, 300);
         }
     }
 }
\ No newline at end of file
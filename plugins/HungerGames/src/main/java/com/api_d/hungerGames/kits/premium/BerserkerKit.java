@@ -1,5 +1,6 @@
 package com.api_d.hungerGames.kits.premium;
 
+import com.api_d.hungerGames.HungerGames;
 import com.api_d.hungerGames.kits.Kit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -52,6 +53,13 @@ public class BerserkerKit extends Kit {
     
     @Override
     public void onDeath(Player player, Player killer) {
+        // No explosion inside protected zones (spawn, feast)
+        HungerGames plugin = HungerGames.getInstance();
+        if (plugin != null && plugin.getArenaManager() != null &&
+            plugin.getGameManager(player).getProtectedZones().isProtected(player.getLocation())) {
+            return;
+        }
+        
         // Create explosion at death location that deals damage to players and mobs
         // Parameters: location, power, setFire, breakBlocks, source
         player.getWorld().createExplosion(player.getLocation(), 3.0f, false, false, player);
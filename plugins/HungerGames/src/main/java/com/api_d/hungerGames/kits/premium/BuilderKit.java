@@ -1,7 +1,11 @@
 package com.api_d.hungerGames.kits.premium;
 
+import com.api_d.hungerGames.HungerGames;
+import com.api_d.hungerGames.game.GameManager;
 import com.api_d.hungerGames.kits.Kit;
+import com.api_d.hungerGames.world.ArenaHeightmap;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.Chest;
 import org.bukkit.entity.Player;
@@ -51,13 +55,26 @@ public class BuilderKit extends Kit {
         
         // Find a suitable location for the chest (on the ground)
         Block chestLocation = deathBlock;
-        while (!chestLocation.getType().isSolid() && chestLocation.getY() > player.getWorld().getMinHeight()) {
-            chestLocation = chestLocation.getRelative(0, -1, 0);
+        GameManager arena = HungerGames.getInstance().getGameManager(player);
+        ArenaHeightmap heightmap = arena.getArenaHeightmap();
+        World world = deathBlock.getWorld();
+        if (heightmap.isKnown(world, deathBlock.getX(), deathBlock.getZ()) &&
+            deathBlock.getY() >= heightmap.getHighestBlockYAt(world, deathBlock.getX(), deathBlock.getZ())) {
+            // Died on or above the surface, the heightmap already knows the ground
+            chestLocation = world.getBlockAt(deathBlock.getX(),
+                                             heightmap.getHighestBlockYAt(world, deathBlock.getX(), deathBlock.getZ()),
+                                             deathBlock.getZ());
+        } else {
+            while (!chestLocation.getType().isSolid() && chestLocation.getY() > player.getWorld().getMinHeight()) {
+                chestLocation = chestLocation.getRelative(0, -1, 0);
+            }
         }
         chestLocation = chestLocation.getRelative(0, 1, 0); // Place on top
         
         // Place the chest
         chestLocation.setType(Material.CHEST);
+        heightmap.markDirty(world, chestLocation.getX(), chestLocation.getZ());
+        arena.getArenaWorldManager().getDirtyChunks().mark(chestLocation);
         
         // Transfer inventory items to the chest
         if (chestLocation.getState() instanceof Chest chest) {
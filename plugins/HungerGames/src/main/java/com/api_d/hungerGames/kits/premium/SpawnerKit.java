@@ -5,7 +5,7 @@ import org.bukkit.Material;
 import org.bukkit.entity.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.api_d.hungerGames.util.TemporaryEntities;
 
 import java.util.Arrays;
 import java.util.List;
@@ -78,14 +78,7 @@ public class SpawnerKit extends Kit {
             Entity spawnedMob = spectator.getWorld().spawnEntity(spectator.getLocation(), mobType);
             
             // Remove the mob after 2 minutes to prevent server lag
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    if (spawnedMob.isValid()) {
-                        spawnedMob.remove();
-                    }
-                }
-            }.runTaskLater(spectator.getServer().getPluginManager().getPlugin("HungerGames"), 2400); // 2 minutes
+            TemporaryEntities.get().track(spawnedMob, 2400);
             
             spectator.sendMessage("§aYou spawned a " + mobType.name().toLowerCase().replace("_", " ") + "!");
         }
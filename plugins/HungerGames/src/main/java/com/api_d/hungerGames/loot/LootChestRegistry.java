@@ -0,0 +1,177 @@
+package com.api_d.hungerGames.loot;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Chest;
+import org.bukkit.block.Container;
+import org.bukkit.block.DoubleChest;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loot chests whose contents have not been rolled yet.
+ *
+ * Chests are registered with a loot table id when they are placed and only filled the first time
+ * someone opens them, or when they are broken or blown up so they still drop loot. Placing many
+ * chests therefore costs one map entry each until a player actually finds one.
+ */
+public class LootChestRegistry implements Listener {
+
+    private final LootGenerator lootGenerator;
+    // World name -> packed block position -> loot table id
+    private final Map<String, Map<Long, String>> unrolled = new HashMap<>();
+
+    public LootChestRegistry(LootGenerator lootGenerator) {
+        this.lootGenerator = lootGenerator;
+    }
+
+    /**
+     * Pack block coordinates into a single key (26 bits for x and z, 12 bits for y)
+     */
+    public static long blockKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    /**
+     * Register a chest to be filled from the given loot table when it is first opened
+     */
+    public void register(Location location, String tableId) {
+        if (location.getWorld() == null) {
+            return;
+        }
+        unrolled.computeIfAbsent(location.getWorld().getName(), k -> new HashMap<>())
+                .put(blockKey(location.getBlockX(), location.getBlockY(), location.getBlockZ()), tableId);
+    }
+
+    /**
+     * Check if a block is a registered chest that has not been filled yet
+     */
+    public boolean isUnrolled(Block block) {
+        Map<Long, String> chests = unrolled.get(block.getWorld().getName());
+        return chests != null && chests.containsKey(blockKey(block.getX(), block.getY(), block.getZ()));
+    }
+
+    /**
+     * Fill a registered chest now, returning false if the block was not waiting for loot
+     */
+    public boolean roll(Block block) {
+        Map<Long, String> chests = unrolled.get(block.getWorld().getName());
+        if (chests == null) {
+            return false;
+        }
+        String tableId = chests.remove(blockKey(block.getX(), block.getY(), block.getZ()));
+        if (tableId == null) {
+            return false;
+        }
+
+        BlockState state = block.getState(false);
+        if (state instanceof Chest chest) {
+            // Only this half when the chest is part of a double chest
+            lootGenerator.fill(chest.getBlockInventory(), tableId, block.getWorld());
+        } else if (state instanceof Container container) {
+            lootGenerator.fill(container.getInventory(), tableId, block.getWorld());
+        } else {
+            // Replaced since it was registered, nothing to fill
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Number of registered chests not filled yet
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Long, String> chests : unrolled.values()) {
+            size += chests.size();
+        }
+        return size;
+    }
+
+    /**
+     * Number of chests of a world not filled yet
+     */
+    public int size(World world) {
+        Map<Long, String> chests = unrolled.get(world.getName());
+        return chests != null ? chests.size() : 0;
+    }
+
+    /**
+     * Forget the chests of a world
+     */
+    public void clear(World world) {
+        unrolled.remove(world.getName());
+    }
+
+    public void clear() {
+        unrolled.clear();
+    }
+
+    private void rollAll(List<Block> blocks) {
+        if (unrolled.isEmpty()) {
+            return;
+        }
+        for (Block block : blocks) {
+            roll(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        if (unrolled.isEmpty()) {
+            return;
+        }
+        Inventory inventory = event.getInventory();
+        InventoryHolder holder = inventory.getHolder(false);
+        if (holder instanceof DoubleChest doubleChest) {
+            rollHolder(doubleChest.getLeftSide());
+            rollHolder(doubleChest.getRightSide());
+        } else {
+            rollHolder(holder);
+        }
+    }
+
+    private void rollHolder(InventoryHolder holder) {
+        if (holder instanceof Container container) {
+            roll(container.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        // Filled before the break so the contents drop
+        if (!unrolled.isEmpty()) {
+            roll(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        rollAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        rollAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        // Arena worlds are unloaded before being restored from their template
+        clear(event.getWorld());
+    }
+}
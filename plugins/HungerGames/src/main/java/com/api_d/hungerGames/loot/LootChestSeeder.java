@@ -0,0 +1,373 @@
+package com.api_d.hungerGames.loot;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.TickProfiler;
+import com.api_d.hungerGames.world.ArenaHeightmap;
+import com.api_d.hungerGames.world.BlockPlacementEngine;
+import com.api_d.hungerGames.world.ChunkTickets;
+import com.api_d.hungerGames.world.ProtectedZoneRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.Directional;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Scatters loot chests across the arena while players wait.
+ *
+ * Positions come from variable-density Poisson-disk sampling (Bridson's algorithm) over the arena,
+ * so chests are evenly spread with a minimum spacing that depends on the region: regions closer to
+ * the center can be denser and use a richer loot table. Sampling and terrain checks read the arena
+ * heightmap on a worker thread; only the chest blocks are written on the main thread, through the
+ * tick-budgeted {@link BlockPlacementEngine}. Chests are registered unrolled, so they cost nothing
+ * until opened. Protected zones and the feast site are kept clear of chests.
+ */
+public class LootChestSeeder {
+
+    // Candidates tried around each active sample before it is retired
+    private static final int CANDIDATES_PER_SAMPLE = 30;
+    // Keep chests off the spawn and feast platform edges
+    private static final int PLATFORM_MARGIN = 4;
+    private static final BlockFace[] FACINGS = {BlockFace.NORTH, BlockFace.SOUTH, BlockFace.EAST, BlockFace.WEST};
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final HGLogger logger;
+    private final ArenaHeightmap heightmap;
+    private final BlockPlacementEngine placementEngine;
+    private final LootChestRegistry lootChests;
+    private final LootGenerator lootGenerator;
+    private final ProtectedZoneRegistry protectedZones;
+
+    public LootChestSeeder(Plugin plugin, GameConfig config, ArenaHeightmap heightmap,
+                           BlockPlacementEngine placementEngine, LootChestRegistry lootChests,
+                           LootGenerator lootGenerator, ProtectedZoneRegistry protectedZones) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logger = new HGLogger(plugin);
+        this.heightmap = heightmap;
+        this.placementEngine = placementEngine;
+        this.lootChests = lootChests;
+        this.lootGenerator = lootGenerator;
+        this.protectedZones = protectedZones;
+    }
+
+    /**
+     * A ring around the arena center with its own chest spacing and loot table
+     */
+    private static final class Region {
+        private final double maxDistance;
+        private final int spacing;
+        private final String tableId;
+
+        private Region(double maxDistance, int spacing, String tableId) {
+            this.maxDistance = maxDistance;
+            this.spacing = spacing;
+            this.tableId = tableId;
+        }
+    }
+
+    /**
+     * A chosen chest position (y is the surface block the chest stands on)
+     */
+    private static final class Site {
+        private final int x;
+        private final int y;
+        private final int z;
+        private final String tableId;
+
+        private Site(int x, int y, int z, String tableId) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.tableId = tableId;
+        }
+    }
+
+    /**
+     * Parse "max_distance:spacing:table" lines, max_distance being a fraction of the seeding radius
+     */
+    private List<Region> parseRegions() {
+        List<Region> regions = new ArrayList<>();
+        for (String line : config.getLootSeedingRegions()) {
+            String[] parts = line.trim().split(":");
+            try {
+                if (parts.length == 3) {
+                    String tableId = parts[2].trim().toLowerCase();
+                    if (!lootGenerator.hasTable(tableId)) {
+                        logger.warning("Unknown loot table \"" + tableId + "\" in loot seeding region \"" + line + "\", skipping it");
+                        continue;
+                    }
+                    regions.add(new Region(Double.parseDouble(parts[0]), Math.max(2, Integer.parseInt(parts[1])), tableId));
+                    continue;
+                }
+            } catch (NumberFormatException e) {
+                // Logged below
+            }
+            logger.warning("Invalid loot seeding region \"" + line + "\", skipping it");
+        }
+        regions.sort((a, b) -> Double.compare(a.maxDistance, b.maxDistance));
+        return regions;
+    }
+
+    /**
+     * Pick chest positions off-thread, then place and register the chests on the main thread, as long as
+     * stillAllowed holds when they are about to be written. The feast site may be null.
+     * The future completes on the main thread with the number of chests placed.
+     */
+    public CompletableFuture<Integer> seed(World world, Location center, Location feastSite, BooleanSupplier stillAllowed) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        List<Region> regions = parseRegions();
+        int half = config.getWorldBorderInitialSize() / 2 - config.getLootSeedingBorderMargin();
+        int count = config.getSeededLootChestCount();
+        if (regions.isEmpty() || half <= 0 || count <= 0) {
+            result.complete(0);
+            return result;
+        }
+
+        int centerX = center.getBlockX();
+        int centerZ = center.getBlockZ();
+        int spawnClearance = config.getSpawnRadius() + PLATFORM_MARGIN;
+        int maxHeight = world.getMaxHeight();
+        // Zones are immutable, the copy is safe to read from the worker thread
+        List<ProtectedZoneRegistry.Zone> zones = protectedZones.getZones(world);
+        int[] feast = feastSite != null
+            ? new int[]{feastSite.getBlockX(), feastSite.getBlockZ(),
+                        config.getFeastRadius() + ProtectedZoneRegistry.PROTECTION_MARGIN + PLATFORM_MARGIN}
+            : null;
+        long start = System.currentTimeMillis();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<Site> sites = pickSites(world, regions, centerX, centerZ, half, spawnClearance, zones, feast, maxHeight, count);
+            logger.info("Picked " + sites.size() + " loot chest sites in " + (System.currentTimeMillis() - start) + "ms");
+            Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("LootChestSeeder.place",
+                                                                    () -> place(world, sites, stillAllowed, result)));
+        });
+        return result;
+    }
+
+    /**
+     * Sample the arena, drop unusable or protected columns and keep a random subset of the requested size (async).
+     * The feast is {x, z, clearance}, or null.
+     */
+    private List<Site> pickSites(World world, List<Region> regions, int centerX, int centerZ, int half,
+                                 int spawnClearance, List<ProtectedZoneRegistry.Zone> zones, int[] feast,
+                                 int maxHeight, int count) {
+        SplittableRandom random = new SplittableRandom();
+        List<int[]> samples = sample(random, regions, half);
+
+        List<Site> sites = new ArrayList<>();
+        long clearanceSquared = (long) spawnClearance * spawnClearance;
+        for (int[] sample : samples) {
+            int x = centerX + sample[0];
+            int z = centerZ + sample[1];
+            if ((long) sample[0] * sample[0] + (long) sample[1] * sample[1] <= clearanceSquared) {
+                continue;
+            }
+            if (feast != null) {
+                long dx = x - feast[0];
+                long dz = z - feast[1];
+                if (dx * dx + dz * dz <= (long) feast[2] * feast[2]) {
+                    continue;
+                }
+            }
+            // Only columns the heightmap knows, the live world must not be read from this thread
+            if (!heightmap.isKnown(world, x, z) || heightmap.getSurface(world, x, z) != ArenaHeightmap.SURFACE_SOLID) {
+                continue;
+            }
+            int y = heightmap.getHighestBlockYAt(world, x, z);
+            if (y + 1 >= maxHeight || isProtected(zones, x, y + 1, z)) {
+                continue;
+            }
+            sites.add(new Site(x, y, z, regionAt(regions, sample[0], sample[1], half).tableId));
+        }
+
+        // Any subset of a Poisson-disk set keeps the minimum spacing
+        Collections.shuffle(sites, new Random(random.nextLong()));
+        return sites.size() > count ? new ArrayList<>(sites.subList(0, count)) : sites;
+    }
+
+    private static boolean isProtected(List<ProtectedZoneRegistry.Zone> zones, int x, int y, int z) {
+        for (ProtectedZoneRegistry.Zone zone : zones) {
+            if (zone.contains(x, y, z)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Region regionAt(List<Region> regions, double dx, double dz, int half) {
+        double distance = Math.sqrt(dx * dx + dz * dz) / half;
+        for (Region region : regions) {
+            if (distance <= region.maxDistance) {
+                return region;
+            }
+        }
+        return regions.get(regions.size() - 1);
+    }
+
+    /**
+     * Bridson's Poisson-disk sampling over the square [-half, half]², with the minimum distance
+     * between two samples being the larger spacing of their two regions. Returns offsets from the center.
+     */
+    private static List<int[]> sample(SplittableRandom random, List<Region> regions, int half) {
+        int minSpacing = Integer.MAX_VALUE;
+        int maxSpacing = 0;
+        for (Region region : regions) {
+            minSpacing = Math.min(minSpacing, region.spacing);
+            maxSpacing = Math.max(maxSpacing, region.spacing);
+        }
+
+        // With cells of minSpacing / sqrt(2) each cell holds at most one sample
+        double cellSize = minSpacing / Math.sqrt(2);
+        int cells = (int) Math.ceil(2 * half / cellSize) + 1;
+        int[] grid = new int[cells * cells];
+        Arrays.fill(grid, -1);
+        int reach = (int) Math.ceil(maxSpacing / cellSize);
+
+        List<double[]> points = new ArrayList<>();
+        List<Integer> active = new ArrayList<>();
+        double[] first = {random.nextDouble(-half, half), random.nextDouble(-half, half)};
+        addPoint(first, points, active, grid, cells, cellSize, half);
+
+        while (!active.isEmpty()) {
+            int activeIndex = random.nextInt(active.size());
+            double[] origin = points.get(active.get(activeIndex));
+            double spacing = regionAt(regions, origin[0], origin[1], half).spacing;
+
+            boolean found = false;
+            for (int attempt = 0; attempt < CANDIDATES_PER_SAMPLE && !found; attempt++) {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                double distance = spacing * (1 + random.nextDouble());
+                double[] candidate = {origin[0] + Math.cos(angle) * distance, origin[1] + Math.sin(angle) * distance};
+                if (Math.abs(candidate[0]) > half || Math.abs(candidate[1]) > half) {
+                    continue;
+                }
+                if (isFarEnough(candidate, regions, points, grid, cells, cellSize, half, reach)) {
+                    addPoint(candidate, points, active, grid, cells, cellSize, half);
+                    found = true;
+                }
+            }
+            if (!found) {
+                // Swap-remove, order does not matter
+                active.set(activeIndex, active.get(active.size() - 1));
+                active.remove(active.size() - 1);
+            }
+        }
+
+        List<int[]> offsets = new ArrayList<>(points.size());
+        for (double[] point : points) {
+            offsets.add(new int[]{(int) Math.floor(point[0]), (int) Math.floor(point[1])});
+        }
+        return offsets;
+    }
+
+    private static void addPoint(double[] point, List<double[]> points, List<Integer> active, int[] grid,
+                                 int cells, double cellSize, int half) {
+        int cellX = (int) ((point[0] + half) / cellSize);
+        int cellZ = (int) ((point[1] + half) / cellSize);
+        grid[cellZ * cells + cellX] = points.size();
+        active.add(points.size());
+        points.add(point);
+    }
+
+    private static boolean isFarEnough(double[] candidate, List<Region> regions, List<double[]> points, int[] grid,
+                                       int cells, double cellSize, int half, int reach) {
+        int cellX = (int) ((candidate[0] + half) / cellSize);
+        int cellZ = (int) ((candidate[1] + half) / cellSize);
+        int spacing = regionAt(regions, candidate[0], candidate[1], half).spacing;
+
+        for (int z = Math.max(0, cellZ - reach); z <= Math.min(cells - 1, cellZ + reach); z++) {
+            for (int x = Math.max(0, cellX - reach); x <= Math.min(cells - 1, cellX + reach); x++) {
+                int index = grid[z * cells + x];
+                if (index < 0) {
+                    continue;
+                }
+                double[] other = points.get(index);
+                double required = Math.max(spacing, regionAt(regions, other[0], other[1], half).spacing);
+                double dx = other[0] - candidate[0];
+                double dz = other[1] - candidate[1];
+                if (dx * dx + dz * dz < required * required) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Load the chunks of every site, queue the chest blocks and register them once written (main thread)
+     */
+    private void place(World world, List<Site> sites, BooleanSupplier stillAllowed, CompletableFuture<Integer> result) {
+        if (sites.isEmpty() || Bukkit.getWorld(world.getName()) != world || !stillAllowed.getAsBoolean()) {
+            result.complete(0);
+            return;
+        }
+
+        // Tickets keep the chunks loaded until the engine has written to them
+        Set<Long> chunks = new HashSet<>();
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        for (Site site : sites) {
+            int chunkX = site.x >> 4;
+            int chunkZ = site.z >> 4;
+            if (chunks.add(ProtectedZoneRegistry.chunkKey(chunkX, chunkZ))) {
+                ChunkTickets.get().acquire(world, chunkX, chunkZ);
+                loads.add(world.getChunkAtAsync(chunkX, chunkZ, true));
+            }
+        }
+
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            if (error != null || Bukkit.getWorld(world.getName()) != world || !stillAllowed.getAsBoolean()) {
+                // Failed to load, or the match started while the chunks were loading
+                releaseChunks(world, chunks);
+                result.complete(0);
+                return;
+            }
+
+            Random random = new Random();
+            BlockPlacementEngine.Batch batch = placementEngine.newBatch(world);
+            for (Site site : sites) {
+                BlockData chest = Material.CHEST.createBlockData();
+                ((Directional) chest).setFacing(FACINGS[random.nextInt(FACINGS.length)]);
+                batch.set(site.x, site.y + 1, site.z, chest);
+            }
+
+            placementEngine.submit(batch).whenComplete((done, placeError) -> {
+                releaseChunks(world, chunks);
+                if (placeError != null) {
+                    logger.warning("Failed to place seeded loot chests: " + placeError.getMessage());
+                    result.complete(0);
+                    return;
+                }
+
+                for (Site site : sites) {
+                    lootChests.register(new Location(world, site.x, site.y + 1, site.z), site.tableId);
+                    heightmap.markDirty(world, site.x, site.z);
+                }
+                logger.info("Seeded " + sites.size() + " loot chests across " + world.getName());
+                result.complete(sites.size());
+            });
+        });
+    }
+
+    private void releaseChunks(World world, Set<Long> chunks) {
+        for (long key : chunks) {
+            ChunkTickets.get().release(world, ProtectedZoneRegistry.chunkX(key), ProtectedZoneRegistry.chunkZ(key));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.api_d.hungerGames.loot;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import org.bukkit.World;
+import org.bukkit.inventory.Inventory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Rolls chest contents from the loot tables compiled from the config.
+ *
+ * Tables are compiled once at startup and again on {@code /hga reload}; filling a chest only samples
+ * them. Each game world has its own random generator, seeded again when a game starts.
+ */
+public class LootGenerator {
+
+    public static final String SPAWN = "spawn";
+    public static final String FEAST = "feast";
+
+    private final GameConfig config;
+    private final HGLogger logger;
+    private final Map<String, SplittableRandom> randoms = new HashMap<>();
+    private volatile Map<String, LootTable> tables;
+
+    public LootGenerator(GameConfig config, HGLogger logger) {
+        this.config = config;
+        this.logger = logger;
+        this.tables = compileTables(config, logger);
+    }
+
+    private static Map<String, LootTable> compileTables(GameConfig config, HGLogger logger) {
+        Map<String, LootTable> compiled = new HashMap<>();
+        compiled.put(SPAWN, compileTable(SPAWN, config.getSpawnItems(), config, logger));
+        compiled.put(FEAST, compileTable(FEAST, config.getFeastItems(), config, logger));
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    private static LootTable compileTable(String id, List<String> items, GameConfig config, HGLogger logger) {
+        // Extra items are added to every table for variety
+        List<String> lines = new ArrayList<>(items);
+        lines.addAll(config.getExtraLootItems());
+        LootTable table = LootTable.compile(id, lines, logger);
+        logger.info("Compiled loot table " + id + " with " + table.getEntries().size() + " entries");
+        return table;
+    }
+
+    /**
+     * Compile the loot tables again from the (reloaded) config
+     */
+    public void reload() {
+        tables = compileTables(config, logger);
+    }
+
+    /**
+     * Check if a loot table id is known
+     */
+    public boolean hasTable(String tableId) {
+        return tables.containsKey(tableId);
+    }
+
+    /**
+     * Get a compiled loot table, or null for an unknown id
+     */
+    public LootTable getTable(String tableId) {
+        return tables.get(tableId);
+    }
+
+    /**
+     * Start a new random sequence for the loot of a game world
+     */
+    public void newGame(World world) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        randoms.put(world.getName(), new SplittableRandom(seed));
+        logger.debug("Loot seed for " + world.getName() + ": " + seed);
+    }
+
+    private SplittableRandom getRandom(World world) {
+        return randoms.computeIfAbsent(world.getName(), k -> new SplittableRandom());
+    }
+
+    /**
+     * Fill an inventory with random items from a loot table, at most once per table entry
+     */
+    public void fill(Inventory inv, String tableId, World world) {
+        LootTable table = tables.get(tableId);
+        if (table == null || table.isEmpty()) {
+            logger.warning("Loot table " + tableId + " is unknown or empty, leaving chest empty");
+            return;
+        }
+
+        SplittableRandom random = getRandom(world);
+        int minItems = Math.max(0, config.getMinLootItems());
+        int maxItems = Math.max(minItems, config.getMaxLootItems());
+        int itemsToPlace = Math.min(random.nextInt(minItems, maxItems + 1), table.getEntries().size());
+
+        BitSet drawn = new BitSet(table.getEntries().size());
+        int placed = 0;
+        // Redraw repeated entries a bounded number of times so heavy entries cannot stall the loop
+        for (int attempts = 0; placed < itemsToPlace && attempts < itemsToPlace * 8; attempts++) {
+            int index = table.sampleIndex(random);
+            if (drawn.get(index)) {
+                continue;
+            }
+            drawn.set(index);
+
+            // Random slot placement, find next empty if occupied
+            int slot = random.nextInt(inv.getSize());
+            int checks = 0;
+            while (inv.getItem(slot) != null && checks < inv.getSize()) {
+                slot = (slot + 1) % inv.getSize();
+                checks++;
+            }
+            if (inv.getItem(slot) != null) {
+                return;
+            }
+            inv.setItem(slot, table.getEntries().get(index).roll(random));
+            placed++;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.api_d.hungerGames.loot;
+
+import com.api_d.hungerGames.util.HGLogger;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * An immutable weighted loot table, compiled once from config lines.
+ *
+ * Lines look like {@code MATERIAL:amount[:weight][:tier]}, where the amount is either a single number
+ * (randomized by +/- 25% for stackable items) or a {@code min-max} range, and the weight defaults to the
+ * weight of the rarity tier. Entries are drawn in constant time with Vose's alias method.
+ */
+public final class LootTable {
+
+    /**
+     * Rarity tiers, each with the weight used when a line does not give one
+     */
+    public enum Tier {
+        COMMON(10),
+        UNCOMMON(5),
+        RARE(2),
+        EPIC(1);
+
+        private final double weight;
+
+        Tier(double weight) {
+            this.weight = weight;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+    }
+
+    /**
+     * One possible item of a table
+     */
+    public static final class Entry {
+        private final Material material;
+        private final int minAmount;
+        private final int maxAmount;
+        private final double weight;
+        private final Tier tier;
+
+        Entry(Material material, int minAmount, int maxAmount, double weight, Tier tier) {
+            this.material = material;
+            this.minAmount = minAmount;
+            this.maxAmount = maxAmount;
+            this.weight = weight;
+            this.tier = tier;
+        }
+
+        public Material getMaterial() {
+            return material;
+        }
+
+        public int getMinAmount() {
+            return minAmount;
+        }
+
+        public int getMaxAmount() {
+            return maxAmount;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public Tier getTier() {
+            return tier;
+        }
+
+        /**
+         * Create an item stack with a random amount within the entry's range
+         */
+        public ItemStack roll(SplittableRandom random) {
+            int amount = minAmount == maxAmount ? minAmount : random.nextInt(minAmount, maxAmount + 1);
+            return new ItemStack(material, amount);
+        }
+    }
+
+    private final String id;
+    private final List<Entry> entries;
+    // Alias method tables: column i keeps entry i with probability[i], otherwise yields alias[i]
+    private final double[] probability;
+    private final int[] alias;
+
+    private LootTable(String id, List<Entry> entries) {
+        this.id = id;
+        this.entries = Collections.unmodifiableList(entries);
+        this.probability = new double[entries.size()];
+        this.alias = new int[entries.size()];
+        buildAliasTable();
+    }
+
+    /**
+     * Parse config lines into a table, skipping (and logging) invalid lines
+     */
+    public static LootTable compile(String id, List<String> lines, HGLogger logger) {
+        List<Entry> entries = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            Entry entry = parseEntry(line);
+            if (entry != null) {
+                entries.add(entry);
+            } else {
+                logger.warning("Invalid entry \"" + line + "\" in loot table " + id + ", skipping it");
+            }
+        }
+        return new LootTable(id, entries);
+    }
+
+    private static Entry parseEntry(String line) {
+        String[] parts = line.trim().split(":");
+        if (parts.length < 2 || parts.length > 4) {
+            return null;
+        }
+
+        Material material = Material.matchMaterial(parts[0]);
+        if (material == null || !material.isItem() || material.isAir()) {
+            return null;
+        }
+
+        int minAmount;
+        int maxAmount;
+        try {
+            int dash = parts[1].indexOf('-');
+            if (dash > 0) {
+                minAmount = Integer.parseInt(parts[1].substring(0, dash));
+                maxAmount = Integer.parseInt(parts[1].substring(dash + 1));
+            } else {
+                int amount = Integer.parseInt(parts[1]);
+                minAmount = amount;
+                maxAmount = amount;
+                // Slight randomization of stack sizes (+/- 25% for stackables)
+                if (material.getMaxStackSize() > 1) {
+                    minAmount = (int) Math.round(amount * 0.75);
+                    maxAmount = (int) Math.round(amount * 1.25);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        minAmount = Math.max(1, Math.min(material.getMaxStackSize(), minAmount));
+        maxAmount = Math.max(minAmount, Math.min(material.getMaxStackSize(), maxAmount));
+
+        Tier tier = Tier.COMMON;
+        double weight = -1;
+        for (int i = 2; i < parts.length; i++) {
+            try {
+                weight = Double.parseDouble(parts[i]);
+            } catch (NumberFormatException e) {
+                try {
+                    tier = Tier.valueOf(parts[i].trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException unknownTier) {
+                    return null;
+                }
+            }
+        }
+        if (weight < 0) {
+            weight = tier.getWeight();
+        }
+        if (weight <= 0) {
+            return null;
+        }
+
+        return new Entry(material, minAmount, maxAmount, weight, tier);
+    }
+
+    /**
+     * Vose's alias method: split the scaled weights into columns of height 1, each holding at most two entries
+     */
+    private void buildAliasTable() {
+        int n = entries.size();
+        if (n == 0) {
+            return;
+        }
+
+        double total = 0;
+        for (Entry entry : entries) {
+            total += entry.getWeight();
+        }
+
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = entries.get(i).getWeight() * n / total;
+            (scaled[i] < 1 ? small : large).push(i);
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            (scaled[more] < 1 ? small : large).push(more);
+        }
+        // Whatever is left is 1 up to rounding errors
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1;
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Draw the index of a weighted random entry, or -1 if the table is empty
+     */
+    public int sampleIndex(SplittableRandom random) {
+        if (entries.isEmpty()) {
+            return -1;
+        }
+        int column = random.nextInt(entries.size());
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Draw a weighted random entry, or null if the table is empty
+     */
+    public Entry sample(SplittableRandom random) {
+        int index = sampleIndex(random);
+        return index >= 0 ? entries.get(index) : null;
+    }
+}
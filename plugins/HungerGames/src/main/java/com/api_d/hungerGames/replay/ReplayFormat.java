@@ -0,0 +1,93 @@
+package com.api_d.hungerGames.replay;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary layout of match replay files.
+ *
+ * A file starts with a header (magic, version, game id, sample interval, start time, world name),
+ * followed by tagged records. PLAYER and MATERIAL records define the ids used by FRAME records. A frame
+ * holds the ticks elapsed since the previous frame and one entry per player whose state changed: the
+ * slot, a flag byte telling which fields follow, then each field either absolute (keyframes) or as a
+ * zigzag varint delta. Positions are stored in 1/32 block units, angles in 1/256 turns and health in
+ * half points.
+ */
+public final class ReplayFormat {
+
+    public static final int MAGIC = 0x48475250; // "HGRP"
+    public static final byte VERSION = 1;
+    public static final String EXTENSION = ".hgr";
+
+    public static final byte TAG_PLAYER = 1;
+    public static final byte TAG_MATERIAL = 2;
+    public static final byte TAG_FRAME = 3;
+    public static final byte TAG_END = 4;
+
+    public static final int FLAG_POSITION = 1;
+    public static final int FLAG_ROTATION = 1 << 1;
+    public static final int FLAG_HEALTH = 1 << 2;
+    public static final int FLAG_ITEM = 1 << 3;
+    public static final int FLAG_ABSOLUTE = 1 << 4;
+    public static final int FLAG_LEFT = 1 << 5;
+
+    public static final double POSITION_SCALE = 32.0;
+
+    private ReplayFormat() {
+    }
+
+    public static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0 && shift < 35);
+        return value;
+    }
+
+    /**
+     * Signed value as a varint, small magnitudes taking one byte whatever their sign
+     */
+    public static void writeSignedVarInt(ByteBuffer buffer, int value) {
+        writeVarInt(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    public static int readSignedVarInt(ByteBuffer buffer) {
+        int value = readVarInt(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static void writeString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    public static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readVarInt(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Angle in degrees to 1/256 turns
+     */
+    public static int packAngle(float degrees) {
+        return Math.round(degrees * 256.0f / 360.0f) & 0xFF;
+    }
+
+    public static float unpackAngle(int packed) {
+        return (byte) packed * 360.0f / 256.0f;
+    }
+}
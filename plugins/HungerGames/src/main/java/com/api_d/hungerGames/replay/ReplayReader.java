@@ -0,0 +1,256 @@
+package com.api_d.hungerGames.replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Decodes a replay file one frame at a time, keeping the absolute state of every player.
+ *
+ * After each call to nextFrame, the changed and left flags tell which players were part of the frame.
+ */
+public class ReplayReader {
+
+    private final ByteBuffer buffer;
+    private final int gameId;
+    private final int sampleTicks;
+    private final long startTime;
+    private final String worldName;
+
+    private final List<UUID> playerIds = new ArrayList<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private final List<String> materials = new ArrayList<>();
+
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] z = new double[0];
+    private int[] rawX = new int[0];
+    private int[] rawY = new int[0];
+    private int[] rawZ = new int[0];
+    private float[] yaw = new float[0];
+    private float[] pitch = new float[0];
+    private int[] health = new int[0];
+    private int[] item = new int[0];
+    private boolean[] changed = new boolean[0];
+    private boolean[] left = new boolean[0];
+    private boolean[] seen = new boolean[0];
+    private long tick;
+    private boolean ended;
+
+    private ReplayReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.remaining() < 18 || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("not a replay file");
+        }
+        byte version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("unsupported replay version " + version);
+        }
+        this.gameId = buffer.getInt();
+        this.sampleTicks = buffer.get() & 0xFF;
+        this.startTime = buffer.getLong();
+        this.worldName = ReplayFormat.readString(buffer);
+    }
+
+    /**
+     * Map a replay file and read its header
+     */
+    public static ReplayReader open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new ReplayReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("truncated replay header");
+        }
+    }
+
+    /**
+     * Read up to the next frame, returning false once the replay is over (or the file is truncated)
+     */
+    public boolean nextFrame() {
+        Arrays.fill(changed, false);
+        Arrays.fill(left, false);
+        try {
+            while (!ended && buffer.hasRemaining()) {
+                byte tag = buffer.get();
+                if (tag == ReplayFormat.TAG_PLAYER) {
+                    int slot = ReplayFormat.readVarInt(buffer);
+                    UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                    String name = ReplayFormat.readString(buffer);
+                    while (playerIds.size() <= slot) {
+                        playerIds.add(null);
+                        playerNames.add(null);
+                    }
+                    playerIds.set(slot, id);
+                    playerNames.set(slot, name);
+                    ensureCapacity(playerIds.size());
+                } else if (tag == ReplayFormat.TAG_MATERIAL) {
+                    int id = ReplayFormat.readVarInt(buffer);
+                    String name = ReplayFormat.readString(buffer);
+                    while (materials.size() <= id) {
+                        materials.add(null);
+                    }
+                    materials.set(id, name);
+                } else if (tag == ReplayFormat.TAG_FRAME) {
+                    readFrame();
+                    return true;
+                } else {
+                    ended = true;
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            // Recording was interrupted, play what was written
+            ended = true;
+        }
+        ended = true;
+        return false;
+    }
+
+    private void readFrame() {
+        tick += ReplayFormat.readVarInt(buffer);
+        int count = ReplayFormat.readVarInt(buffer);
+        for (int i = 0; i < count; i++) {
+            int slot = ReplayFormat.readVarInt(buffer);
+            int flags = buffer.get() & 0xFF;
+            if ((flags & ReplayFormat.FLAG_LEFT) != 0) {
+                left[slot] = true;
+                continue;
+            }
+            boolean absolute = (flags & ReplayFormat.FLAG_ABSOLUTE) != 0;
+            if ((flags & ReplayFormat.FLAG_POSITION) != 0) {
+                int dx = ReplayFormat.readSignedVarInt(buffer);
+                int dy = ReplayFormat.readSignedVarInt(buffer);
+                int dz = ReplayFormat.readSignedVarInt(buffer);
+                rawX[slot] = absolute ? dx : rawX[slot] + dx;
+                rawY[slot] = absolute ? dy : rawY[slot] + dy;
+                rawZ[slot] = absolute ? dz : rawZ[slot] + dz;
+                x[slot] = rawX[slot] / ReplayFormat.POSITION_SCALE;
+                y[slot] = rawY[slot] / ReplayFormat.POSITION_SCALE;
+                z[slot] = rawZ[slot] / ReplayFormat.POSITION_SCALE;
+            }
+            if ((flags & ReplayFormat.FLAG_ROTATION) != 0) {
+                yaw[slot] = ReplayFormat.unpackAngle(buffer.get() & 0xFF);
+                pitch[slot] = ReplayFormat.unpackAngle(buffer.get() & 0xFF);
+            }
+            if ((flags & ReplayFormat.FLAG_HEALTH) != 0) {
+                health[slot] = buffer.get() & 0xFF;
+            }
+            if ((flags & ReplayFormat.FLAG_ITEM) != 0) {
+                item[slot] = ReplayFormat.readVarInt(buffer);
+            }
+            changed[slot] = true;
+            seen[slot] = true;
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (x.length >= count) {
+            return;
+        }
+        x = Arrays.copyOf(x, count);
+        y = Arrays.copyOf(y, count);
+        z = Arrays.copyOf(z, count);
+        rawX = Arrays.copyOf(rawX, count);
+        rawY = Arrays.copyOf(rawY, count);
+        rawZ = Arrays.copyOf(rawZ, count);
+        yaw = Arrays.copyOf(yaw, count);
+        pitch = Arrays.copyOf(pitch, count);
+        health = Arrays.copyOf(health, count);
+        item = Arrays.copyOf(item, count);
+        changed = Arrays.copyOf(changed, count);
+        left = Arrays.copyOf(left, count);
+        seen = Arrays.copyOf(seen, count);
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public int getSampleTicks() {
+        return sampleTicks;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public int getPlayerCount() {
+        return playerIds.size();
+    }
+
+    public UUID getPlayerId(int slot) {
+        return playerIds.get(slot);
+    }
+
+    public String getPlayerName(int slot) {
+        return playerNames.get(slot);
+    }
+
+    /**
+     * Ticks since the start of the recording at the current frame
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public boolean hasChanged(int slot) {
+        return changed[slot];
+    }
+
+    public boolean hasLeft(int slot) {
+        return left[slot];
+    }
+
+    /**
+     * Whether the player has a known state yet
+     */
+    public boolean isKnown(int slot) {
+        return seen[slot];
+    }
+
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    public double getZ(int slot) {
+        return z[slot];
+    }
+
+    public float getYaw(int slot) {
+        return yaw[slot];
+    }
+
+    public float getPitch(int slot) {
+        return pitch[slot];
+    }
+
+    /**
+     * Health in half points
+     */
+    public int getHealth(int slot) {
+        return health[slot];
+    }
+
+    /**
+     * Name of the material held by the player, null if unknown
+     */
+    public String getItem(int slot) {
+        int id = item[slot];
+        return id < materials.size() ? materials.get(id) : null;
+    }
+}
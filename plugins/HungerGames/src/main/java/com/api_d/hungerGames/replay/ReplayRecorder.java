@@ -0,0 +1,506 @@
+package com.api_d.hungerGames.replay;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records the movement of alive players during a match into a replay file (see ReplayFormat).
+ *
+ * Every few ticks the main thread samples position, rotation, health and held item of each recorded
+ * player, encodes the changes since the previous sample into preallocated buffers and appends the frame
+ * to a single-producer ring buffer. A background thread drains the ring into a memory-mapped file, so
+ * sampling never blocks on disk. When the writer falls behind and the ring is full, the frame is dropped
+ * and the next one is written as a keyframe.
+ *
+ * Reading the held item copies its stack, so it is only read on keyframes and after an event that can
+ * change it; a change made without such an event (e.g. a plugin setting the item) shows up with the
+ * next keyframe.
+ */
+public class ReplayRecorder implements Listener {
+
+    private static final int RING_SIZE = 1 << 20;
+    private static final int MAP_CHUNK = 4 << 20;
+    private static final int FRAME_BUFFER_SIZE = 64 * 1024;
+    private static final int KEYFRAME_INTERVAL = 100;
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final HGLogger logger;
+
+    // Main thread state, sized once per match
+    private Player[] roster = new Player[0];
+    private boolean[] active = new boolean[0];
+    private boolean[] needsKeyframe = new boolean[0];
+    // Left the match, written with every frame until one is published
+    private boolean[] pendingLeft = new boolean[0];
+    private int[] lastX = new int[0];
+    private int[] lastY = new int[0];
+    private int[] lastZ = new int[0];
+    private int[] lastYaw = new int[0];
+    private int[] lastPitch = new int[0];
+    private int[] lastHealth = new int[0];
+    private int[] lastItem = new int[0];
+    // Held item possibly changed since the last sample
+    private boolean[] itemChanged = new boolean[0];
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    // Material ordinal -> id in the file, -1 until defined
+    private final int[] materialIds = new int[Material.values().length];
+    private int nextMaterialId;
+
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private final ByteBuffer frame = ByteBuffer.allocate(FRAME_BUFFER_SIZE);
+    private final ByteBuffer body = ByteBuffer.allocate(FRAME_BUFFER_SIZE);
+    private int ticksSinceFrame;
+    private int frames;
+    private long dropped;
+    private int sampleTicks;
+    private BukkitTask task;
+
+    private Output output;
+    private File file;
+
+    public ReplayRecorder(Plugin plugin, GameConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Start recording the given players, the file is named after the game id
+     */
+    public void start(int gameId, World world, List<Player> players) {
+        stop(false);
+        if (!config.isReplayEnabled() || players.isEmpty()) {
+            return;
+        }
+
+        File directory = getReplayDirectory(plugin, config);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            logger.warning("Could not create replay directory " + directory);
+            return;
+        }
+        file = new File(directory, gameId + ReplayFormat.EXTENSION);
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                       StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Could not open replay file " + file + ": " + e.getMessage());
+            return;
+        }
+
+        int count = players.size();
+        roster = players.toArray(new Player[0]);
+        active = new boolean[count];
+        needsKeyframe = new boolean[count];
+        pendingLeft = new boolean[count];
+        lastX = new int[count];
+        lastY = new int[count];
+        lastZ = new int[count];
+        lastYaw = new int[count];
+        lastPitch = new int[count];
+        lastHealth = new int[count];
+        lastItem = new int[count];
+        itemChanged = new boolean[count];
+        slots.clear();
+        for (int slot = 0; slot < count; slot++) {
+            slots.put(roster[slot].getUniqueId(), slot);
+        }
+        Arrays.fill(active, true);
+        Arrays.fill(needsKeyframe, true);
+        Arrays.fill(materialIds, -1);
+        nextMaterialId = 0;
+        sampleTicks = Math.max(1, config.getReplaySampleTicks());
+        ticksSinceFrame = 0;
+        frames = 0;
+        dropped = 0;
+        output = new Output(channel, file.getName());
+
+        // Header and roster
+        frame.clear();
+        frame.putInt(ReplayFormat.MAGIC);
+        frame.put(ReplayFormat.VERSION);
+        frame.putInt(gameId);
+        frame.put((byte) sampleTicks);
+        frame.putLong(System.currentTimeMillis());
+        ReplayFormat.writeString(frame, world.getName());
+        for (int slot = 0; slot < count; slot++) {
+            frame.put(ReplayFormat.TAG_PLAYER);
+            ReplayFormat.writeVarInt(frame, slot);
+            frame.putLong(roster[slot].getUniqueId().getMostSignificantBits());
+            frame.putLong(roster[slot].getUniqueId().getLeastSignificantBits());
+            ReplayFormat.writeString(frame, roster[slot].getName());
+        }
+        publish();
+
+        output.start("HungerGames-Replay-" + gameId);
+
+        task = new ProfiledRunnable("ReplayRecorder") {
+            @Override
+            protected void process() {
+                ticksSinceFrame += sampleTicks;
+                sample();
+            }
+        }.runTaskTimer(plugin, 0L, sampleTicks);
+        logger.info("Recording replay of game " + gameId + " (" + count + " players) to " + file.getName());
+    }
+
+    /**
+     * Stop recording a player (death or disconnect), written with the next frame
+     */
+    public void remove(Player player) {
+        for (int slot = 0; slot < roster.length; slot++) {
+            if (roster[slot] == player) {
+                roster[slot] = null;
+            }
+        }
+    }
+
+    /**
+     * Write the end of the replay and close the file, waiting for the writer thread when asked to
+     */
+    public void stop(boolean wait) {
+        if (task != null) {
+            task.cancel();
+            task = null;
+            sample();
+            frame.clear();
+            frame.put(ReplayFormat.TAG_END);
+            publish();
+            logger.info("Replay " + file.getName() + " finished after " + frames + " frames" +
+                        (dropped > 0 ? " (" + dropped + " dropped)" : ""));
+        }
+        if (output != null) {
+            output.close(wait);
+            output = null;
+        }
+        roster = new Player[0];
+        slots.clear();
+    }
+
+    private void sample() {
+        frame.clear();
+        body.clear();
+        boolean keyframe = frames % KEYFRAME_INTERVAL == 0;
+        int count = 0;
+
+        for (int slot = 0; slot < roster.length; slot++) {
+            Player player = roster[slot];
+            if (active[slot] && (player == null || !player.isOnline())) {
+                active[slot] = false;
+                pendingLeft[slot] = true;
+            }
+            if (pendingLeft[slot]) {
+                ReplayFormat.writeVarInt(body, slot);
+                body.put((byte) ReplayFormat.FLAG_LEFT);
+                count++;
+                continue;
+            }
+            if (!active[slot]) {
+                continue;
+            }
+
+            player.getLocation(scratch);
+            int x = (int) Math.round(scratch.getX() * ReplayFormat.POSITION_SCALE);
+            int y = (int) Math.round(scratch.getY() * ReplayFormat.POSITION_SCALE);
+            int z = (int) Math.round(scratch.getZ() * ReplayFormat.POSITION_SCALE);
+            int yaw = ReplayFormat.packAngle(scratch.getYaw());
+            int pitch = ReplayFormat.packAngle(scratch.getPitch());
+            int health = (int) Math.min(255, Math.round(player.getHealth() * 2));
+
+            boolean absolute = keyframe || needsKeyframe[slot];
+            int item = lastItem[slot];
+            if (absolute || itemChanged[slot]) {
+                item = materialId(player.getInventory().getItemInMainHand().getType());
+                itemChanged[slot] = false;
+            }
+            int flags;
+            if (absolute) {
+                flags = ReplayFormat.FLAG_ABSOLUTE | ReplayFormat.FLAG_POSITION | ReplayFormat.FLAG_ROTATION |
+                        ReplayFormat.FLAG_HEALTH | ReplayFormat.FLAG_ITEM;
+            } else {
+                flags = 0;
+                if (x != lastX[slot] || y != lastY[slot] || z != lastZ[slot]) {
+                    flags |= ReplayFormat.FLAG_POSITION;
+                }
+                if (yaw != lastYaw[slot] || pitch != lastPitch[slot]) {
+                    flags |= ReplayFormat.FLAG_ROTATION;
+                }
+                if (health != lastHealth[slot]) {
+                    flags |= ReplayFormat.FLAG_HEALTH;
+                }
+                if (item != lastItem[slot]) {
+                    flags |= ReplayFormat.FLAG_ITEM;
+                }
+                if (flags == 0) {
+                    continue;
+                }
+            }
+
+            ReplayFormat.writeVarInt(body, slot);
+            body.put((byte) flags);
+            if ((flags & ReplayFormat.FLAG_POSITION) != 0) {
+                ReplayFormat.writeSignedVarInt(body, absolute ? x : x - lastX[slot]);
+                ReplayFormat.writeSignedVarInt(body, absolute ? y : y - lastY[slot]);
+                ReplayFormat.writeSignedVarInt(body, absolute ? z : z - lastZ[slot]);
+            }
+            if ((flags & ReplayFormat.FLAG_ROTATION) != 0) {
+                body.put((byte) yaw);
+                body.put((byte) pitch);
+            }
+            if ((flags & ReplayFormat.FLAG_HEALTH) != 0) {
+                body.put((byte) health);
+            }
+            if ((flags & ReplayFormat.FLAG_ITEM) != 0) {
+                ReplayFormat.writeVarInt(body, item);
+            }
+            lastX[slot] = x;
+            lastY[slot] = y;
+            lastZ[slot] = z;
+            lastYaw[slot] = yaw;
+            lastPitch[slot] = pitch;
+            lastHealth[slot] = health;
+            lastItem[slot] = item;
+            needsKeyframe[slot] = false;
+            count++;
+        }
+
+        if (count == 0 && frame.position() == 0) {
+            return;
+        }
+        frame.put(ReplayFormat.TAG_FRAME);
+        ReplayFormat.writeVarInt(frame, ticksSinceFrame);
+        ReplayFormat.writeVarInt(frame, count);
+        frame.put(body.array(), 0, body.position());
+
+        if (publish()) {
+            ticksSinceFrame = 0;
+            frames++;
+            Arrays.fill(pendingLeft, false);
+        } else {
+            // The deltas and definitions of this frame are lost, start over from absolute values
+            // (players who left are written again with the next frame)
+            dropped++;
+            Arrays.fill(needsKeyframe, true);
+            Arrays.fill(materialIds, -1);
+        }
+    }
+
+    private void markItemChanged(Entity entity) {
+        Integer slot = slots.get(entity.getUniqueId());
+        if (slot != null) {
+            itemChanged[slot] = true;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        markItemChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        markItemChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        markItemChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        markItemChanged(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        markItemChanged(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        markItemChanged(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        markItemChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onConsume(PlayerItemConsumeEvent event) {
+        markItemChanged(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        markItemChanged(event.getPlayer());
+    }
+
+    /**
+     * Using an item (throwing, buckets, flint and steel...) can use it up
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInteract(PlayerInteractEvent event) {
+        markItemChanged(event.getPlayer());
+    }
+
+    /**
+     * Id of a material in the file, writing its definition into the frame the first time
+     */
+    private int materialId(Material material) {
+        int id = materialIds[material.ordinal()];
+        if (id < 0) {
+            id = nextMaterialId++;
+            materialIds[material.ordinal()] = id;
+            frame.put(ReplayFormat.TAG_MATERIAL);
+            ReplayFormat.writeVarInt(frame, id);
+            ReplayFormat.writeString(frame, material.name());
+        }
+        return id;
+    }
+
+    private boolean publish() {
+        return output.publish(frame.array(), frame.position());
+    }
+
+    /**
+     * Directory replay files are written to
+     */
+    public static File getReplayDirectory(Plugin plugin, GameConfig config) {
+        return new File(plugin.getDataFolder(), config.getReplayDirectory());
+    }
+
+    /**
+     * Ring buffer drained by a background thread into successive memory-mapped regions of the file.
+     * The main thread only advances written, the writer thread only advances flushed.
+     */
+    private final class Output implements Runnable {
+
+        private final byte[] ring = new byte[RING_SIZE];
+        private final FileChannel channel;
+        private final String name;
+        private volatile long written;
+        private volatile long flushed;
+        private volatile boolean closing;
+        private Thread thread;
+
+        private Output(FileChannel channel, String name) {
+            this.channel = channel;
+            this.name = name;
+        }
+
+        private void start(String threadName) {
+            thread = new Thread(this, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        /**
+         * Copy bytes into the ring, returning false if the writer is too far behind
+         */
+        private boolean publish(byte[] data, int length) {
+            long position = written;
+            if (RING_SIZE - (position - flushed) < length) {
+                return false;
+            }
+            int offset = (int) (position % RING_SIZE);
+            int first = Math.min(length, RING_SIZE - offset);
+            System.arraycopy(data, 0, ring, offset, first);
+            System.arraycopy(data, first, ring, 0, length - first);
+            written = position + length;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        private void close(boolean wait) {
+            closing = true;
+            if (thread == null) {
+                return;
+            }
+            LockSupport.unpark(thread);
+            if (wait) {
+                try {
+                    thread.join(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            MappedByteBuffer map = null;
+            long filePosition = 0;
+            try {
+                while (true) {
+                    long available = written - flushed;
+                    if (available == 0) {
+                        if (closing) {
+                            break;
+                        }
+                        LockSupport.parkNanos(this, 50_000_000L);
+                        continue;
+                    }
+                    if (map == null || !map.hasRemaining()) {
+                        map = channel.map(FileChannel.MapMode.READ_WRITE, filePosition, MAP_CHUNK);
+                    }
+                    int offset = (int) (flushed % RING_SIZE);
+                    int length = (int) Math.min(Math.min(available, RING_SIZE - offset), map.remaining());
+                    map.put(ring, offset, length);
+                    filePosition += length;
+                    flushed += length;
+                }
+                if (map != null) {
+                    map.force();
+                }
+                // Mapped regions extend the file by whole chunks, cut it back to the data
+                channel.truncate(filePosition);
+            } catch (IOException e) {
+                logger.warning("Failed to write replay " + name + ": " + e.getMessage());
+            } finally {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
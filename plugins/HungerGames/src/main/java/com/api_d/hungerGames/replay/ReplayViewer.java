@@ -0,0 +1,230 @@
+package com.api_d.hungerGames.replay;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plays recorded matches back to admins with display entities.
+ *
+ * Each recorded player is shown as a floating name tag (name, health, held item) above the item they
+ * were holding. The entities are hidden from everyone but the admin watching, never saved with the
+ * world, and interpolated by the client between samples.
+ */
+public class ReplayViewer {
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final HGLogger logger;
+    private final Map<UUID, Playback> playbacks = new HashMap<>();
+
+    public ReplayViewer(Plugin plugin, GameConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Start playing a recorded game to a player, replacing what they were watching
+     */
+    public void play(Player viewer, int gameId, double speed) throws IOException {
+        File file = new File(ReplayRecorder.getReplayDirectory(plugin, config), gameId + ReplayFormat.EXTENSION);
+        if (!file.isFile()) {
+            throw new IOException("no replay for game " + gameId);
+        }
+        ReplayReader reader = ReplayReader.open(file);
+
+        // Play in the recorded world when it is still loaded (arena worlds are recreated between matches)
+        World world = Bukkit.getWorld(reader.getWorldName());
+        if (world == null) {
+            world = viewer.getWorld();
+        }
+
+        stop(viewer);
+        Playback playback = new Playback(viewer, reader, world, speed);
+        playbacks.put(viewer.getUniqueId(), playback);
+        playback.task = new ProfiledRunnable("ReplayViewer") {
+            @Override
+            protected void process() {
+                if (!playback.advance()) {
+                    stop(viewer);
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+        logger.info(viewer.getName() + " is watching the replay of game " + gameId + " (" + reader.getPlayerCount() + " players)");
+    }
+
+    /**
+     * Stop the replay a player is watching, returning false if there was none
+     */
+    public boolean stop(Player viewer) {
+        Playback playback = playbacks.remove(viewer.getUniqueId());
+        if (playback == null) {
+            return false;
+        }
+        playback.close();
+        return true;
+    }
+
+    /**
+     * Stop every replay and remove their entities
+     */
+    public void stopAll() {
+        for (Playback playback : playbacks.values()) {
+            playback.close();
+        }
+        playbacks.clear();
+    }
+
+    public boolean isWatching(Player viewer) {
+        return playbacks.containsKey(viewer.getUniqueId());
+    }
+
+    private final class Playback {
+
+        private final Player viewer;
+        private final ReplayReader reader;
+        private final World world;
+        private final double speed;
+        private final List<TextDisplay> labels = new ArrayList<>();
+        private final List<ItemDisplay> items = new ArrayList<>();
+        private BukkitTask task;
+        private double clock;
+        private boolean pending;
+
+        private Playback(Player viewer, ReplayReader reader, World world, double speed) {
+            this.viewer = viewer;
+            this.reader = reader;
+            this.world = world;
+            this.speed = speed;
+        }
+
+        /**
+         * Move the playback clock forward one server tick and apply the frames it reached
+         */
+        private boolean advance() {
+            if (!viewer.isOnline()) {
+                return false;
+            }
+            clock += speed;
+            while (true) {
+                if (!pending) {
+                    if (!reader.nextFrame()) {
+                        viewer.sendActionBar(Component.text("Replay of game " + reader.getGameId() + " finished", NamedTextColor.GOLD));
+                        return false;
+                    }
+                    pending = true;
+                }
+                if (reader.getTick() > clock) {
+                    return true;
+                }
+                apply();
+                pending = false;
+            }
+        }
+
+        private void apply() {
+            int interpolation = Math.max(1, (int) Math.round(reader.getSampleTicks() / speed));
+            for (int slot = 0; slot < reader.getPlayerCount(); slot++) {
+                if (reader.hasLeft(slot)) {
+                    remove(slot);
+                    continue;
+                }
+                if (!reader.hasChanged(slot)) {
+                    continue;
+                }
+
+                Location location = new Location(world, reader.getX(slot), reader.getY(slot), reader.getZ(slot),
+                                                  reader.getYaw(slot), 0);
+                TextDisplay label = slot < labels.size() ? labels.get(slot) : null;
+                ItemDisplay item = slot < items.size() ? items.get(slot) : null;
+                if (label == null || !label.isValid()) {
+                    label = world.spawn(location.clone().add(0, 2.1, 0), TextDisplay.class, display -> {
+                        display.setBillboard(Display.Billboard.CENTER);
+                        prepare(display);
+                    });
+                    item = world.spawn(location.clone().add(0, 1.0, 0), ItemDisplay.class, display -> {
+                        display.setBillboard(Display.Billboard.VERTICAL);
+                        prepare(display);
+                    });
+                    set(labels, slot, label);
+                    set(items, slot, item);
+                } else {
+                    label.setTeleportDuration(interpolation);
+                    item.setTeleportDuration(interpolation);
+                    label.teleport(location.clone().add(0, 2.1, 0));
+                    item.teleport(location.clone().add(0, 1.0, 0));
+                }
+
+                String itemName = reader.getItem(slot);
+                Material material = itemName != null ? Material.matchMaterial(itemName) : null;
+                if (material == null || !material.isItem()) {
+                    material = Material.AIR;
+                }
+                if (item.getItemStack().getType() != material) {
+                    item.setItemStack(new ItemStack(material));
+                }
+                label.text(Component.text(reader.getPlayerName(slot), NamedTextColor.YELLOW)
+                    .append(Component.newline())
+                    .append(Component.text(String.format("%.1f", reader.getHealth(slot) / 2.0) + " ❤", NamedTextColor.RED))
+                    .append(Component.text(material != Material.AIR ? " " + material.name().toLowerCase() : "", NamedTextColor.GRAY)));
+            }
+        }
+
+        private void prepare(Display display) {
+            display.setPersistent(false);
+            display.setVisibleByDefault(false);
+            viewer.showEntity(plugin, display);
+        }
+
+        private void remove(int slot) {
+            if (slot < labels.size() && labels.get(slot) != null) {
+                labels.get(slot).remove();
+                labels.set(slot, null);
+            }
+            if (slot < items.size() && items.get(slot) != null) {
+                items.get(slot).remove();
+                items.set(slot, null);
+            }
+        }
+
+        private <T extends Entity> void set(List<T> list, int slot, T entity) {
+            while (list.size() <= slot) {
+                list.add(null);
+            }
+            list.set(slot, entity);
+        }
+
+        private void close() {
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+            for (int slot = 0; slot < Math.max(labels.size(), items.size()); slot++) {
+                remove(slot);
+            }
+        }
+    }
+}
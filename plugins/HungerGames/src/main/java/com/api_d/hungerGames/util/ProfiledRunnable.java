@@ -0,0 +1,36 @@
+package com.api_d.hungerGames.util;
+
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * BukkitRunnable whose execution time is attributed to a named subsystem in the {@link TickProfiler}
+ */
+public abstract class ProfiledRunnable extends BukkitRunnable {
+
+    private final String subsystem;
+
+    protected ProfiledRunnable(String subsystem) {
+        this.subsystem = subsystem;
+    }
+
+    @Override
+    public final void run() {
+        TickProfiler profiler = TickProfiler.get();
+        if (!profiler.isEnabled()) {
+            process();
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            process();
+        } finally {
+            profiler.record(subsystem, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The task body
+     */
+    protected abstract void process();
+}
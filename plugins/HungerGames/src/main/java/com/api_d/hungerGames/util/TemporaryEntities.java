@@ -0,0 +1,133 @@
+package com.api_d.hungerGames.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Removes entities spawned by the plugin once their lifetime is over.
+ *
+ * Entities are filed in buckets ordered by expiry tick, measured on the server tick counter, and a
+ * single sweep task removes the expired buckets, instead of one scheduled task per entity. Past the
+ * configured cap, the oldest tracked entities are removed early.
+ */
+public class TemporaryEntities {
+
+    private static final TemporaryEntities INSTANCE = new TemporaryEntities();
+
+    private Plugin plugin;
+    private int maxEntities = Integer.MAX_VALUE;
+
+    // Expiry tick -> entities expiring on that tick
+    private final TreeMap<Integer, List<Entity>> buckets = new TreeMap<>();
+    // Tracked entities in insertion order with their expiry tick, oldest first
+    private final LinkedHashMap<Entity, Integer> tracked = new LinkedHashMap<>();
+    private BukkitTask task;
+
+    private TemporaryEntities() {
+    }
+
+    /**
+     * Get the shared registry
+     */
+    public static TemporaryEntities get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Set the plugin owning the sweep task and the global cap (0 or less disables the cap)
+     */
+    public void initialize(Plugin plugin, int maxEntities) {
+        this.plugin = plugin;
+        this.maxEntities = maxEntities > 0 ? maxEntities : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Remove an entity after the given number of ticks
+     */
+    public void track(Entity entity, int lifetimeTicks) {
+        int expiry = Bukkit.getCurrentTick() + Math.max(1, lifetimeTicks);
+        Integer previous = tracked.remove(entity);
+        if (previous != null) {
+            removeFromBucket(previous, entity);
+        }
+        tracked.put(entity, expiry);
+        buckets.computeIfAbsent(expiry, k -> new ArrayList<>()).add(entity);
+
+        // Evict the oldest entities first
+        Iterator<Map.Entry<Entity, Integer>> oldest = tracked.entrySet().iterator();
+        while (tracked.size() > maxEntities && oldest.hasNext()) {
+            Map.Entry<Entity, Integer> entry = oldest.next();
+            oldest.remove();
+            removeFromBucket(entry.getValue(), entry.getKey());
+            entry.getKey().remove();
+        }
+
+        if (task == null && plugin != null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, TickProfiler.wrap("TemporaryEntities", this::sweep), 1L, 1L);
+        }
+    }
+
+    /**
+     * Whether an entity is already scheduled for removal
+     */
+    public boolean isTracked(Entity entity) {
+        return tracked.containsKey(entity);
+    }
+
+    /**
+     * Number of entities waiting for removal
+     */
+    public int size() {
+        return tracked.size();
+    }
+
+    /**
+     * Remove every tracked entity now (plugin shutdown)
+     */
+    public void removeAll() {
+        for (Entity entity : tracked.keySet()) {
+            entity.remove();
+        }
+        tracked.clear();
+        buckets.clear();
+        stopTask();
+    }
+
+    private void removeFromBucket(int expiry, Entity entity) {
+        List<Entity> bucket = buckets.get(expiry);
+        if (bucket != null && bucket.remove(entity) && bucket.isEmpty()) {
+            buckets.remove(expiry);
+        }
+    }
+
+    private void sweep() {
+        int now = Bukkit.getCurrentTick();
+        while (!buckets.isEmpty() && buckets.firstKey() <= now) {
+            for (Entity entity : buckets.pollFirstEntry().getValue()) {
+                tracked.remove(entity);
+                if (entity.isValid()) {
+                    entity.remove();
+                }
+            }
+        }
+        if (tracked.isEmpty()) {
+            stopTask();
+        }
+    }
+
+    private void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.api_d.hungerGames.util;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in profiler attributing main-thread time to the plugin's scheduled tasks and event handlers.
+ *
+ * Every invocation is recorded into a per-subsystem log2 histogram and into a rolling window of
+ * recent samples. When a server tick exceeds the configured threshold, the window is dumped to
+ * a file in the plugin's {@code perf} folder so the spike can be attributed after the fact.
+ */
+public class TickProfiler implements Listener {
+
+    private static final TickProfiler INSTANCE = new TickProfiler();
+
+    private static final int BUCKETS = 32;
+
+    private Plugin plugin;
+    private HGLogger logger;
+    private volatile boolean enabled = false;
+    private double spikeThresholdMs = 50.0;
+    private long dumpCooldownMillis = 30_000L;
+    private long lastDumpMillis = 0L;
+
+    private final Map<String, Subsystem> subsystems = new ConcurrentHashMap<>();
+    private final List<Subsystem> subsystemsById = new ArrayList<>();
+
+    // Rolling window of recent samples, stored in parallel arrays to avoid per-sample allocation
+    private int[] windowSubsystems = new int[0];
+    private long[] windowNanos = new long[0];
+    private int[] windowTicks = new int[0];
+    private int windowIndex = 0;
+    private int windowCount = 0;
+
+    private TickProfiler() {
+    }
+
+    /**
+     * Get the shared profiler instance
+     */
+    public static TickProfiler get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Configure the profiler and start listening for tick ends
+     */
+    public void initialize(Plugin plugin, boolean enabled, double spikeThresholdMs, int windowSize, int dumpCooldownSeconds) {
+        this.plugin = plugin;
+        this.logger = new HGLogger(plugin);
+        this.spikeThresholdMs = spikeThresholdMs;
+        this.dumpCooldownMillis = dumpCooldownSeconds * 1000L;
+        this.windowSubsystems = new int[Math.max(16, windowSize)];
+        this.windowNanos = new long[windowSubsystems.length];
+        this.windowTicks = new int[windowSubsystems.length];
+        this.windowIndex = 0;
+        this.windowCount = 0;
+        this.enabled = enabled;
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        logger.info("Tick profiler initialized (enabled: " + enabled + ", spike threshold: " + spikeThresholdMs + "ms)");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSpikeThresholdMs() {
+        return spikeThresholdMs;
+    }
+
+    /**
+     * Record one invocation of a subsystem (ignored off the main thread, the stats are not thread-safe)
+     */
+    public void record(String subsystemName, long nanos) {
+        if (!Bukkit.isPrimaryThread()) {
+            return;
+        }
+        Subsystem subsystem = subsystems.get(subsystemName);
+        if (subsystem == null) {
+            subsystem = registerSubsystem(subsystemName);
+        }
+        subsystem.record(nanos);
+
+        if (windowNanos.length > 0) {
+            windowSubsystems[windowIndex] = subsystem.id;
+            windowNanos[windowIndex] = nanos;
+            windowTicks[windowIndex] = Bukkit.getCurrentTick();
+            windowIndex = (windowIndex + 1) % windowNanos.length;
+            if (windowCount < windowNanos.length) {
+                windowCount++;
+            }
+        }
+    }
+
+    private synchronized Subsystem registerSubsystem(String name) {
+        return subsystems.computeIfAbsent(name, n -> {
+            Subsystem created = new Subsystem(subsystemsById.size(), n);
+            subsystemsById.add(created);
+            return created;
+        });
+    }
+
+    /**
+     * Wrap a runnable so its execution time is attributed to a subsystem.
+     * Only main-thread runs are timed, async runs are left out of the tick attribution.
+     */
+    public static Runnable wrap(String subsystem, Runnable runnable) {
+        return () -> {
+            TickProfiler profiler = INSTANCE;
+            if (!profiler.enabled || !Bukkit.isPrimaryThread()) {
+                runnable.run();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                runnable.run();
+            } finally {
+                profiler.record(subsystem, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Register all {@link EventHandler} methods of a listener with timing executors.
+     * When the profiler is disabled the executors only pay a single flag check.
+     */
+    public void registerEvents(Listener listener, Plugin owner) {
+        Set<Method> methods = new HashSet<>();
+        for (Method method : listener.getClass().getMethods()) {
+            methods.add(method);
+        }
+        for (Method method : listener.getClass().getDeclaredMethods()) {
+            methods.add(method);
+        }
+
+        String listenerName = listener.getClass().getSimpleName();
+        for (Method method : methods) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+            if (method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+
+            Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            EventExecutor delegate = EventExecutor.create(method, eventClass);
+            String subsystem = listenerName + "." + method.getName();
+
+            EventExecutor executor = (target, event) -> {
+                if (!eventClass.isInstance(event)) {
+                    return;
+                }
+                if (!enabled) {
+                    delegate.execute(target, event);
+                    return;
+                }
+                long start = System.nanoTime();
+                try {
+                    delegate.execute(target, event);
+                } finally {
+                    record(subsystem, System.nanoTime() - start);
+                }
+            };
+
+            owner.getServer().getPluginManager().registerEvent(eventClass, listener, handler.priority(), executor,
+                                                               owner, handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * Get subsystems sorted by total time spent, highest first
+     */
+    public List<Subsystem> getTopOffenders(int limit) {
+        List<Subsystem> sorted = new ArrayList<>(subsystems.values());
+        sorted.sort(Comparator.comparingLong(Subsystem::getTotalNanos).reversed());
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    /**
+     * Clear all collected statistics
+     */
+    public void reset() {
+        for (Subsystem subsystem : subsystems.values()) {
+            subsystem.reset();
+        }
+        windowIndex = 0;
+        windowCount = 0;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        if (!enabled || event.getTickDuration() < spikeThresholdMs) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastDumpMillis < dumpCooldownMillis) {
+            return;
+        }
+        lastDumpMillis = now;
+
+        logger.warning("Tick " + event.getTickNumber() + " took " + String.format("%.1f", event.getTickDuration()) +
+                       "ms, dumping profiler window");
+        dumpWindow("spike-" + event.getTickNumber(), event.getTickDuration());
+    }
+
+    /**
+     * Snapshot the rolling window on the main thread and write it to a file asynchronously
+     */
+    public void dumpWindow(String reason, double tickDurationMs) {
+        int count = windowCount;
+        int capacity = windowNanos.length;
+        int[] ids = new int[count];
+        long[] nanos = new long[count];
+        int[] ticks = new int[count];
+        int start = (windowIndex - count + capacity) % Math.max(1, capacity);
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % capacity;
+            ids[i] = windowSubsystems[index];
+            nanos[i] = windowNanos[index];
+            ticks[i] = windowTicks[index];
+        }
+        List<Subsystem> names = new ArrayList<>(subsystemsById);
+        List<Subsystem> top = getTopOffenders(10);
+
+        File directory = new File(plugin.getDataFolder(), "perf");
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(directory, reason + "-" + timestamp + ".log");
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            if (!directory.exists() && !directory.mkdirs()) {
+                logger.warning("Failed to create profiler dump directory " + directory);
+                return;
+            }
+            try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8)) {
+                writer.println("# HungerGames profiler dump (" + reason + ")");
+                writer.println("# Tick duration: " + String.format("%.2f", tickDurationMs) + "ms");
+                writer.println("# Top offenders (total time since last reset):");
+                for (Subsystem subsystem : top) {
+                    writer.println("#   " + subsystem.describe());
+                }
+                writer.println("# tick\tsubsystem\tmicros");
+                for (int i = 0; i < ids.length; i++) {
+                    writer.println(ticks[i] + "\t" + names.get(ids[i]).getName() + "\t" + (nanos[i] / 1000L));
+                }
+                logger.info("Profiler window written to " + file.getPath());
+            } catch (IOException e) {
+                logger.warning("Failed to write profiler dump: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Timing statistics for one task or event handler
+     */
+    public static class Subsystem {
+        private final int id;
+        private final String name;
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private Subsystem(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        private void record(long nanos) {
+            long micros = Math.max(1L, nanos / 1000L);
+            int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+            buckets[bucket]++;
+            count++;
+            totalNanos += nanos;
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+        }
+
+        private void reset() {
+            java.util.Arrays.fill(buckets, 0L);
+            count = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Approximate a percentile from the histogram (upper bound of the bucket, in microseconds)
+         */
+        public long getPercentileMicros(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long threshold = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= threshold) {
+                    return 1L << (i + 1);
+                }
+            }
+            return maxNanos / 1000L;
+        }
+
+        public String describe() {
+            double totalMs = totalNanos / 1_000_000.0;
+            long avgMicros = count > 0 ? totalNanos / count / 1000L : 0;
+            return String.format("%s: calls=%d total=%.1fms avg=%dus p99<=%dus max=%.2fms",
+                                 name, count, totalMs, avgMicros, getPercentileMicros(0.99), maxNanos / 1_000_000.0);
+        }
+    }
+}
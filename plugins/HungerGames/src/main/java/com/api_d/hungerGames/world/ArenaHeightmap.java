@@ -0,0 +1,341 @@
+package com.api_d.hungerGames.world;
+
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import com.api_d.hungerGames.util.TickProfiler;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Compact surface heightmap of the bordered arena.
+ *
+ * Built off-thread from ChunkSnapshots once the arena has been pre-generated, then kept up to
+ * date from block events near the surface, so terrain queries are array reads instead of
+ * live-world lookups. Columns that are not known yet fall back to the live world.
+ */
+public class ArenaHeightmap implements Listener {
+
+    public static final byte SURFACE_UNKNOWN = 0;
+    public static final byte SURFACE_SOLID = 1;
+    public static final byte SURFACE_WATER = 2;
+    public static final byte SURFACE_LAVA = 3;
+    public static final byte SURFACE_FOLIAGE = 4;
+    public static final byte SURFACE_UNSAFE = 5;
+
+    // Chunk states start at 0 (pending) and switch to ready once scanned
+    private static final int CHUNK_READY = 1;
+
+    private final Plugin plugin;
+    private final HGLogger logger;
+
+    private World world;
+    private int minX;
+    private int minZ;
+    private int width;
+    private int depth;
+    private int minChunkX;
+    private int minChunkZ;
+    private int chunksWide;
+    private int chunksDeep;
+    private short[] heights = new short[0];
+    private byte[] surfaces = new byte[0];
+    private AtomicIntegerArray chunkStates = new AtomicIntegerArray(0);
+    private int readyChunks;
+    private CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    // Incremented on every build, so chunks scanned for a previous build are dropped
+    private int generation;
+    private int nextChunk;
+    private int inFlight;
+    private int maxConcurrent;
+    private BukkitTask buildTask;
+
+    private final Set<Long> dirtyColumns = new HashSet<>();
+    private BukkitTask refreshTask;
+
+    public ArenaHeightmap(Plugin plugin) {
+        this.plugin = plugin;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Start building the heightmap of a square of the given size (in blocks) around the center
+     */
+    public void build(World world, int centerX, int centerZ, int size, int maxConcurrent) {
+        if (buildTask != null) {
+            buildTask.cancel();
+        }
+
+        int half = size / 2 + 16;
+        this.world = world;
+        this.minChunkX = (centerX - half) >> 4;
+        this.minChunkZ = (centerZ - half) >> 4;
+        this.chunksWide = ((centerX + half) >> 4) - minChunkX + 1;
+        this.chunksDeep = ((centerZ + half) >> 4) - minChunkZ + 1;
+        this.minX = minChunkX << 4;
+        this.minZ = minChunkZ << 4;
+        this.width = chunksWide << 4;
+        this.depth = chunksDeep << 4;
+        this.heights = new short[width * depth];
+        this.surfaces = new byte[width * depth];
+        this.chunkStates = new AtomicIntegerArray(chunksWide * chunksDeep);
+        this.readyChunks = 0;
+        this.completion = new CompletableFuture<>();
+        this.generation++;
+        this.nextChunk = 0;
+        this.inFlight = 0;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        dirtyColumns.clear();
+
+        logger.info("Building arena heightmap (" + width + "x" + depth + " blocks, " +
+                    (chunksWide * chunksDeep) + " chunks)");
+
+        buildTask = new ProfiledRunnable("ArenaHeightmap.build") {
+            @Override
+            protected void process() {
+                requestChunks();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Load chunks asynchronously, snapshot them on the main thread and scan them off-thread
+     */
+    private void requestChunks() {
+        int total = chunksWide * chunksDeep;
+        while (inFlight < maxConcurrent && nextChunk < total) {
+            int index = nextChunk++;
+            int chunkX = minChunkX + index % chunksWide;
+            int chunkZ = minChunkZ + index / chunksWide;
+            inFlight++;
+
+            World target = world;
+            int build = generation;
+            world.getChunkAtAsync(chunkX, chunkZ, true).whenComplete((chunk, error) -> {
+                if (build != generation) {
+                    return;
+                }
+                inFlight--;
+                if (error != null) {
+                    return;
+                }
+                ChunkSnapshot snapshot = chunk.getChunkSnapshot(true, false, false);
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> scanChunk(target, build, snapshot, index));
+            });
+        }
+
+        if (nextChunk >= total && inFlight == 0) {
+            buildTask.cancel();
+            buildTask = null;
+        }
+    }
+
+    /**
+     * Scan one chunk snapshot (async), then copy the result into the arrays on the main thread
+     * unless the heightmap has been rebuilt meanwhile
+     */
+    private void scanChunk(World target, int build, ChunkSnapshot snapshot, int chunkIndex) {
+        short[] chunkHeights = new short[256];
+        byte[] chunkSurfaces = new byte[256];
+        int minHeight = target.getMinHeight();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int y = snapshot.getHighestBlockYAt(x, z);
+                while (y > minHeight && snapshot.getBlockType(x, y, z).isAir()) {
+                    y--;
+                }
+                chunkHeights[z * 16 + x] = (short) y;
+                chunkSurfaces[z * 16 + x] = classify(snapshot.getBlockType(x, y, z));
+            }
+        }
+
+        Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("ArenaHeightmap.ready", () -> {
+            if (build != generation) {
+                return;
+            }
+            int baseX = (snapshot.getX() << 4) - minX;
+            int baseZ = (snapshot.getZ() << 4) - minZ;
+            for (int z = 0; z < 16; z++) {
+                System.arraycopy(chunkHeights, z * 16, heights, (baseZ + z) * width + baseX, 16);
+                System.arraycopy(chunkSurfaces, z * 16, surfaces, (baseZ + z) * width + baseX, 16);
+            }
+            // Publishing the chunk state makes the column writes above visible to readers
+            chunkStates.set(chunkIndex, CHUNK_READY);
+            if (++readyChunks == chunkStates.length()) {
+                logger.info("Arena heightmap ready (" + readyChunks + " chunks)");
+                completion.complete(null);
+            }
+        }));
+    }
+
+    /**
+     * Map a surface block to a compact material code
+     */
+    public static byte classify(Material type) {
+        if (type == Material.WATER || type == Material.BUBBLE_COLUMN || type == Material.KELP ||
+            type == Material.KELP_PLANT || type == Material.SEAGRASS || type == Material.TALL_SEAGRASS) {
+            return SURFACE_WATER;
+        }
+        if (type == Material.LAVA) {
+            return SURFACE_LAVA;
+        }
+        if (Tag.LEAVES.isTagged(type) || Tag.LOGS.isTagged(type)) {
+            return SURFACE_FOLIAGE;
+        }
+        if (type == Material.BEDROCK || type == Material.CACTUS || type == Material.MAGMA_BLOCK ||
+            type == Material.POWDER_SNOW || type.isAir()) {
+            return SURFACE_UNSAFE;
+        }
+        return SURFACE_SOLID;
+    }
+
+    private int columnIndex(World target, int x, int z) {
+        if (target != world || world == null) {
+            return -1;
+        }
+        int localX = x - minX;
+        int localZ = z - minZ;
+        if (localX < 0 || localZ < 0 || localX >= width || localZ >= depth) {
+            return -1;
+        }
+        if (chunkStates.get((localZ >> 4) * chunksWide + (localX >> 4)) != CHUNK_READY) {
+            return -1;
+        }
+        return localZ * width + localX;
+    }
+
+    /**
+     * Check if the column is covered by the heightmap
+     */
+    public boolean isKnown(World target, int x, int z) {
+        return columnIndex(target, x, z) >= 0;
+    }
+
+    /**
+     * Highest non-air block at a column, falling back to the live world when the column is not known
+     */
+    public int getHighestBlockYAt(World target, int x, int z) {
+        int index = columnIndex(target, x, z);
+        return index >= 0 ? heights[index] : target.getHighestBlockYAt(x, z);
+    }
+
+    /**
+     * Surface material code at a column, or {@link #SURFACE_UNKNOWN} when the column is not known
+     */
+    public byte getSurface(World target, int x, int z) {
+        int index = columnIndex(target, x, z);
+        return index >= 0 ? surfaces[index] : SURFACE_UNKNOWN;
+    }
+
+    /**
+     * Check if every chunk of the arena has been scanned
+     */
+    public boolean isReady() {
+        return world != null && readyChunks == chunkStates.length();
+    }
+
+    /**
+     * Future completed on the main thread once the current build has scanned every chunk
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Queue a column to be re-read from the live world on the next tick
+     */
+    public void markDirty(World target, int x, int z) {
+        if (target != world || world == null) {
+            return;
+        }
+        // Column coordinates packed the same way as chunk keys
+        dirtyColumns.add(ProtectedZoneRegistry.chunkKey(x, z));
+        if (refreshTask == null) {
+            refreshTask = Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("ArenaHeightmap.refresh",
+                                                                                  this::refreshDirtyColumns));
+        }
+    }
+
+    /**
+     * Queue every column of the square reaching radius blocks from the center on each axis, so it also
+     * covers rectangular schematics (used after the plugin builds structures without block events)
+     */
+    public void markDirty(World target, int centerX, int centerZ, int radius) {
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                markDirty(target, x, z);
+            }
+        }
+    }
+
+    private void refreshDirtyColumns() {
+        refreshTask = null;
+        for (long key : dirtyColumns) {
+            int x = ProtectedZoneRegistry.chunkX(key);
+            int z = ProtectedZoneRegistry.chunkZ(key);
+            int index = columnIndex(world, x, z);
+            if (index < 0 || !world.isChunkLoaded(x >> 4, z >> 4)) {
+                continue;
+            }
+            Block surface = world.getHighestBlockAt(x, z);
+            heights[index] = (short) surface.getY();
+            surfaces[index] = classify(surface.getType());
+        }
+        dirtyColumns.clear();
+    }
+
+    /**
+     * Only changes at or above the known surface can move it
+     */
+    private void onSurfaceChange(Block block) {
+        int index = columnIndex(block.getWorld(), block.getX(), block.getZ());
+        if (index >= 0 && block.getY() >= heights[index] - 1) {
+            markDirty(block.getWorld(), block.getX(), block.getZ());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        onSurfaceChange(event.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        onSurfaceChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        onSurfaceChanges(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        onSurfaceChanges(event.blockList());
+    }
+
+    private void onSurfaceChanges(List<Block> blocks) {
+        for (Block block : blocks) {
+            onSurfaceChange(block);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.api_d.hungerGames.world;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.TickProfiler;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Owns the arena world in template reset mode.
+ *
+ * The main world cannot be unloaded, so matches run in a separate arena world that is restored
+ * from a pristine template directory between matches instead of restarting the server. Only the
+ * chunks recorded by the {@link DirtyChunkTracker} are copied back when possible.
+ */
+public class ArenaWorldManager {
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final String worldName;
+    private final DirtyChunkTracker dirtyChunks;
+    private final HGLogger logger;
+
+    public ArenaWorldManager(Plugin plugin, GameConfig config, String worldName) {
+        this.plugin = plugin;
+        this.config = config;
+        this.worldName = worldName;
+        this.dirtyChunks = new DirtyChunkTracker(worldName);
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Check if matches run in a resettable arena world instead of the main world
+     */
+    public boolean isTemplateMode() {
+        return "template".equalsIgnoreCase(config.getResetMode());
+    }
+
+    /**
+     * Get the tracker of chunks modified since the last reset
+     */
+    public DirtyChunkTracker getDirtyChunks() {
+        return dirtyChunks;
+    }
+
+    /**
+     * Get the loaded arena world, or null outside template mode
+     */
+    public World getArenaWorld() {
+        return isTemplateMode() ? Bukkit.getWorld(worldName) : null;
+    }
+
+    /**
+     * Restore the arena from its template and load it (blocking, used at startup)
+     */
+    public World loadArena() {
+        World existing = Bukkit.getWorld(worldName);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            restoreFromTemplate();
+        } catch (IOException e) {
+            logger.severe("Failed to restore arena world from template: " + e.getMessage());
+        }
+        dirtyChunks.drain();
+        return createArenaWorld();
+    }
+
+    /**
+     * Move players out, unload the arena, restore it from the template off-thread and load it again.
+     * The future completes on the main thread with the fresh world, or null if the reset failed.
+     */
+    public CompletableFuture<World> resetArena(Location lobby) {
+        CompletableFuture<World> result = new CompletableFuture<>();
+        World arena = Bukkit.getWorld(worldName);
+
+        if (arena != null) {
+            for (Player player : arena.getPlayers()) {
+                player.teleport(lobby);
+            }
+            if (!Bukkit.unloadWorld(arena, false)) {
+                logger.severe("Failed to unload arena world " + arena.getName());
+                result.complete(null);
+                return result;
+            }
+        }
+
+        // Taken after the unload so chunks generated up to the last moment are included
+        Set<Long> chunks = dirtyChunks.drain();
+        long start = System.currentTimeMillis();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, TickProfiler.wrap("ArenaWorldManager.restore", () -> {
+            try {
+                if (!restoreChunks(chunks)) {
+                    restoreFromTemplate();
+                }
+            } catch (IOException e) {
+                logger.severe("Failed to restore arena world from template: " + e.getMessage());
+                Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("ArenaWorldManager.failed", () -> result.complete(null)));
+                return;
+            }
+
+            Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("ArenaWorldManager.load", () -> {
+                World world = createArenaWorld();
+                logger.info("Arena world reset in " + (System.currentTimeMillis() - start) + "ms");
+                result.complete(world);
+            }));
+        }));
+
+        return result;
+    }
+
+    private World createArenaWorld() {
+        World world = new WorldCreator(worldName).createWorld();
+        if (world != null) {
+            world.setAutoSave(false);
+            logger.info("Arena world " + world.getName() + " loaded");
+        }
+        return world;
+    }
+
+    /**
+     * Copy only the given chunks back from the template, returning false if a full restore is needed instead
+     */
+    private boolean restoreChunks(Set<Long> chunks) {
+        Path container = Bukkit.getWorldContainer().toPath();
+        Path arena = container.resolve(worldName);
+        Path template = container.resolve(config.getArenaTemplateDirectory());
+        if (!config.isSelectiveRestoreEnabled() || !Files.isDirectory(arena.resolve("region")) ||
+            !Files.isDirectory(template.resolve("region"))) {
+            return false;
+        }
+
+        try {
+            RegionRestorer.restore(template, arena, chunks);
+            // Time, weather and border live in level.dat
+            Path levelData = template.resolve("level.dat");
+            if (Files.isRegularFile(levelData)) {
+                Files.copy(levelData, arena.resolve("level.dat"), StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.info("Restored " + chunks.size() + " modified chunks of " + worldName + " from template");
+            return true;
+        } catch (IOException e) {
+            logger.warning("Selective restore of " + worldName + " failed, copying the whole template: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Replace the arena world folder with a copy of the template.
+     * Without a template the folder is only deleted, so a fresh world is generated.
+     */
+    private void restoreFromTemplate() throws IOException {
+        Path container = Bukkit.getWorldContainer().toPath();
+        Path arena = container.resolve(worldName);
+        Path template = container.resolve(config.getArenaTemplateDirectory());
+
+        deleteRecursively(arena);
+
+        if (!Files.isDirectory(template)) {
+            logger.warning("Arena template " + template + " not found, a new arena world will be generated");
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(template)) {
+            for (Path source : (Iterable<Path>) paths::iterator) {
+                String fileName = source.getFileName().toString();
+                // A copied uid.dat would clash with the template's identity, session.lock is runtime-only
+                if (fileName.equals("uid.dat") || fileName.equals("session.lock")) {
+                    continue;
+                }
+                Path target = arena.resolve(template.relativize(source).toString());
+                if (Files.isDirectory(source)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    private void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path entry : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(entry);
+            }
+        }
+    }
+
+    /**
+     * Location players wait at while the arena is being reset
+     */
+    public static Location getLobby() {
+        return Bukkit.getWorlds().get(0).getSpawnLocation();
+    }
+}
@@ -0,0 +1,260 @@
+package com.api_d.hungerGames.world;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Applies large block edits spread over several ticks.
+ *
+ * Writes are grouped per chunk section and applied without physics updates, at most
+ * {@code platforms.blocks_per_tick} blocks per tick across all queued batches.
+ */
+public class BlockPlacementEngine {
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final HGLogger logger;
+
+    private final Deque<Batch> queue = new ArrayDeque<>();
+    private final List<ChunkWriteListener> writeListeners = new ArrayList<>();
+    private BukkitTask task;
+
+    public BlockPlacementEngine(Plugin plugin, GameConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Notified of every chunk a submitted batch is going to write to
+     */
+    public interface ChunkWriteListener {
+        void onChunkWrite(World world, int chunkX, int chunkZ);
+    }
+
+    public void addWriteListener(ChunkWriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Start a new batch of writes in a world
+     */
+    public Batch newBatch(World world) {
+        return new Batch(world);
+    }
+
+    /**
+     * Queue a batch; the future completes on the main thread once every block has been written
+     */
+    public CompletableFuture<Void> submit(Batch batch) {
+        if (batch.submitted) {
+            throw new IllegalStateException("Batch already submitted");
+        }
+        batch.submitted = true;
+        batch.pending = batch.sections.values().iterator();
+
+        for (Section section : batch.sections.values()) {
+            for (ChunkWriteListener listener : writeListeners) {
+                listener.onChunkWrite(batch.world, section.chunkX, section.chunkZ);
+            }
+        }
+
+        if (batch.size == 0) {
+            batch.completion.complete(null);
+            return batch.completion;
+        }
+
+        queue.add(batch);
+        if (task == null) {
+            task = new ProfiledRunnable("BlockPlacementEngine") {
+                @Override
+                protected void process() {
+                    tick();
+                }
+            }.runTaskTimer(plugin, 0L, 1L);
+        }
+        return batch.completion;
+    }
+
+    /**
+     * Number of blocks still waiting to be written
+     */
+    public int getPendingBlocks() {
+        int pending = 0;
+        for (Batch batch : queue) {
+            pending += batch.size - batch.written;
+        }
+        return pending;
+    }
+
+    private void tick() {
+        int budget = Math.max(1, config.getBlocksPerTick());
+
+        while (budget > 0 && !queue.isEmpty()) {
+            Batch batch = queue.peek();
+            try {
+                budget -= batch.apply(budget);
+            } catch (Exception e) {
+                logger.severe("Block placement batch failed: " + e.getMessage());
+                queue.poll();
+                batch.completion.completeExceptionally(e);
+                continue;
+            }
+
+            if (batch.isDone()) {
+                queue.poll();
+                batch.completion.complete(null);
+            }
+        }
+
+        if (queue.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Pack chunk section coordinates into a single map key
+     */
+    private static long sectionKey(int x, int y, int z) {
+        return ((long) (x >> 4) & 0x3FFFFFL) << 42 | ((long) (z >> 4) & 0x3FFFFFL) << 20 | ((long) (y >> 4) & 0xFFFFFL);
+    }
+
+    /**
+     * A set of block writes, grouped by chunk section in insertion order
+     */
+    public static class Batch {
+        private final World world;
+        private final Map<Long, Section> sections = new LinkedHashMap<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private int size;
+        private int written;
+        private boolean submitted;
+        private Iterator<Section> pending;
+        private Section current;
+
+        private Batch(World world) {
+            this.world = world;
+        }
+
+        /**
+         * Write a block
+         */
+        public Batch set(int x, int y, int z, BlockData data) {
+            return add(x, y, z, data, false);
+        }
+
+        /**
+         * Replace a block with the given data only if it is not air or bedrock (used to clear space)
+         */
+        public Batch clear(int x, int y, int z, BlockData air) {
+            return add(x, y, z, air, true);
+        }
+
+        private Batch add(int x, int y, int z, BlockData data, boolean clearOnly) {
+            if (submitted) {
+                throw new IllegalStateException("Batch already submitted");
+            }
+            sections.computeIfAbsent(sectionKey(x, y, z), k -> new Section(x >> 4, z >> 4)).add(x, y, z, data, clearOnly);
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private boolean isDone() {
+            return written >= size;
+        }
+
+        /**
+         * Write up to budget blocks, returning how many were processed
+         */
+        private int apply(int budget) {
+            int processed = 0;
+            while (processed < budget) {
+                if (current == null || current.isDone()) {
+                    if (!pending.hasNext()) {
+                        break;
+                    }
+                    current = pending.next();
+                }
+                int count = current.apply(world, budget - processed);
+                processed += count;
+                written += count;
+            }
+            return processed;
+        }
+    }
+
+    /**
+     * Writes falling into one 16x16x16 chunk section
+     */
+    private static class Section {
+        private final int chunkX;
+        private final int chunkZ;
+        private int[] positions = new int[16];
+        private final List<BlockData> data = new ArrayList<>();
+        private boolean[] clearOnly = new boolean[8];
+        private int next;
+
+        private Section(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private void add(int x, int y, int z, BlockData blockData, boolean clear) {
+            int index = data.size();
+            if (index * 3 + 3 > positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+            if (index >= clearOnly.length) {
+                clearOnly = Arrays.copyOf(clearOnly, clearOnly.length * 2);
+            }
+            positions[index * 3] = x;
+            positions[index * 3 + 1] = y;
+            positions[index * 3 + 2] = z;
+            clearOnly[index] = clear;
+            data.add(blockData);
+        }
+
+        private boolean isDone() {
+            return next >= data.size();
+        }
+
+        private static boolean isClearable(Material type) {
+            return !type.isAir() && type != Material.BEDROCK;
+        }
+
+        private int apply(World world, int budget) {
+            int count = 0;
+            while (count < budget && next < data.size()) {
+                Block block = world.getBlockAt(positions[next * 3], positions[next * 3 + 1], positions[next * 3 + 2]);
+                if (!clearOnly[next] || isClearable(block.getType())) {
+                    block.setBlockData(data.get(next), false);
+                }
+                next++;
+                count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.api_d.hungerGames.world;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.game.BorderSchedule;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pre-generates the bordered arena chunks asynchronously (Paper's getChunkAtAsync),
+ * walking outwards from the center in a square spiral so the spawn area is ready first.
+ * With a border plan, chunks the border keeps for the most phases go first instead, and
+ * chunks outside the initial border or leaving it with the first shrink are skipped.
+ */
+public class ChunkPregenerator {
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final HGLogger logger;
+
+    private World world;
+    private int centerChunkX;
+    private int centerChunkZ;
+    private int radiusChunks;
+    private int totalChunks;
+
+    // Spiral walk state
+    private int spiralX;
+    private int spiralZ;
+    private int spiralDx;
+    private int spiralDz;
+    private int spiralLegLength;
+    private int spiralLegProgress;
+    private int spiralLegsDone;
+    // Packed chunk offsets in generation order when following a border plan, null for the spiral
+    private long[] order;
+    private int dispatched;
+
+    // Incremented on every start, so requests of a previous run are ignored when they complete
+    private int run;
+    private int inFlight;
+    private int completed;
+    private int lastReportedPercent;
+    private boolean paused;
+    private BukkitTask driverTask;
+    private CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    public ChunkPregenerator(Plugin plugin, GameConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Start pre-generating a square of the given size (in blocks) around the center
+     */
+    public void start(World world, int centerX, int centerZ, int size) {
+        start(world, centerX, centerZ, size, null);
+    }
+
+    /**
+     * Start pre-generating a square of the given size (in blocks) around the center,
+     * ordered by how long the planned border keeps each chunk inside when a schedule is given
+     */
+    public void start(World world, int centerX, int centerZ, int size, BorderSchedule schedule) {
+        stop();
+
+        this.world = world;
+        this.centerChunkX = centerX >> 4;
+        this.centerChunkZ = centerZ >> 4;
+        this.radiusChunks = (int) Math.ceil(size / 2.0 / 16.0) + 1;
+        int diameter = radiusChunks * 2 + 1;
+        this.totalChunks = diameter * diameter;
+
+        this.spiralX = 0;
+        this.spiralZ = 0;
+        this.spiralDx = 1;
+        this.spiralDz = 0;
+        this.spiralLegLength = 1;
+        this.spiralLegProgress = 0;
+        this.spiralLegsDone = 0;
+        this.order = schedule != null ? planOrder(schedule) : null;
+        if (order != null) {
+            this.totalChunks = order.length;
+        }
+        this.dispatched = 0;
+        this.run++;
+        this.inFlight = 0;
+        this.completed = 0;
+        this.lastReportedPercent = 0;
+        this.paused = false;
+        this.completion = new CompletableFuture<>();
+
+        logger.info("Pre-generating " + totalChunks + " chunks around " + centerX + ", " + centerZ +
+                    " in world " + world.getName());
+
+        driverTask = new ProfiledRunnable("ChunkPregenerator") {
+            @Override
+            protected void process() {
+                dispatch();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Request as many chunks as the concurrency limit allows
+     */
+    private void dispatch() {
+        if (paused) {
+            return;
+        }
+
+        int maxConcurrent = Math.max(1, config.getPregenMaxConcurrentChunks());
+        while (inFlight < maxConcurrent && dispatched < totalChunks) {
+            int chunkX;
+            int chunkZ;
+            if (order != null) {
+                chunkX = centerChunkX + (short) (order[dispatched] >> 16);
+                chunkZ = centerChunkZ + (short) order[dispatched];
+            } else {
+                chunkX = centerChunkX + spiralX;
+                chunkZ = centerChunkZ + spiralZ;
+                advanceSpiral();
+            }
+            dispatched++;
+            inFlight++;
+
+            int requestRun = run;
+            world.getChunkAtAsync(chunkX, chunkZ, true).whenComplete((chunk, error) -> {
+                if (requestRun != run) {
+                    return;
+                }
+                inFlight--;
+                completed++;
+                if (error != null) {
+                    logger.warning("Failed to pre-generate chunk " + chunkX + ", " + chunkZ + ": " + error.getMessage());
+                }
+                reportProgress();
+            });
+        }
+
+        if (dispatched >= totalChunks && inFlight == 0) {
+            finish();
+        }
+    }
+
+    /**
+     * Chunk offsets sorted by the number of border phases they stay inside (most first), then by
+     * distance from the center. Each entry packs the sort keys in its high bits and the offsets in
+     * the low 32 bits, so a plain sort of the array gives the generation order. Chunks the border
+     * never or only briefly covers are left out.
+     */
+    private long[] planOrder(BorderSchedule schedule) {
+        int phases = schedule.getZones().size();
+        // Without a shrink every chunk of the initial border is kept
+        int minInside = phases > 1 ? 1 : 0;
+        long[] entries = new long[totalChunks];
+        int i = 0;
+        for (int dx = -radiusChunks; dx <= radiusChunks; dx++) {
+            for (int dz = -radiusChunks; dz <= radiusChunks; dz++) {
+                double x = ((centerChunkX + dx) << 4) + 8;
+                double z = ((centerChunkZ + dz) << 4) + 8;
+                // A chunk counts as inside a zone while its center is, -1 is outside the initial border
+                int inside = schedule.getPhasesInside(x, z, 0);
+                if (inside < minInside) {
+                    continue;
+                }
+                long rank = phases - inside;
+                long ring = Math.max(Math.abs(dx), Math.abs(dz));
+                entries[i++] = (rank << 48) | (ring << 32) | ((dx & 0xFFFFL) << 16) | (dz & 0xFFFFL);
+            }
+        }
+        entries = Arrays.copyOf(entries, i);
+        Arrays.sort(entries);
+        return entries;
+    }
+
+    /**
+     * Move to the next chunk of the square spiral (legs of length 1, 1, 2, 2, 3, 3, ...)
+     */
+    private void advanceSpiral() {
+        spiralX += spiralDx;
+        spiralZ += spiralDz;
+        spiralLegProgress++;
+        if (spiralLegProgress == spiralLegLength) {
+            spiralLegProgress = 0;
+            int previousDx = spiralDx;
+            spiralDx = -spiralDz;
+            spiralDz = previousDx;
+            spiralLegsDone++;
+            if (spiralLegsDone % 2 == 0) {
+                spiralLegLength++;
+            }
+        }
+    }
+
+    /**
+     * Send progress to admins every configured percentage step
+     */
+    private void reportProgress() {
+        int percent = getProgressPercent();
+        int step = Math.max(1, config.getPregenReportInterval());
+        if (percent < lastReportedPercent + step && percent < 100) {
+            return;
+        }
+        lastReportedPercent = percent - (percent % step);
+
+        String message = "§7[Pregen] §e" + percent + "% §7(" + completed + "/" + totalChunks + " chunks)";
+        logger.info("Arena pre-generation " + percent + "% (" + completed + "/" + totalChunks + " chunks)");
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (player.hasPermission("hungergames.admin")) {
+                player.sendMessage(Component.text(config.getPrefix() + message));
+            }
+        }
+    }
+
+    private void finish() {
+        if (driverTask != null) {
+            driverTask.cancel();
+            driverTask = null;
+        }
+        if (!completion.isDone()) {
+            logger.info("Arena pre-generation complete (" + completed + " chunks)");
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * Pause or resume dispatching new chunk requests (in-flight requests still complete)
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Stop pre-generation entirely
+     */
+    public void stop() {
+        if (driverTask != null) {
+            driverTask.cancel();
+            driverTask = null;
+        }
+    }
+
+    /**
+     * Check if the given chunk lies inside the pre-generated area
+     */
+    public boolean isInArea(int chunkX, int chunkZ) {
+        return world != null &&
+               Math.abs(chunkX - centerChunkX) <= radiusChunks &&
+               Math.abs(chunkZ - centerChunkZ) <= radiusChunks;
+    }
+
+    public int getProgressPercent() {
+        if (totalChunks == 0) {
+            return completion.isDone() ? 100 : 0;
+        }
+        return (int) ((completed * 100L) / totalChunks);
+    }
+
+    /**
+     * Check if at least the given percentage of the arena is generated (always true if never started)
+     */
+    public boolean isReady(int requiredPercent) {
+        return requiredPercent <= 0 || world == null || completion.isDone() || getProgressPercent() >= requiredPercent;
+    }
+
+    public boolean isRunning() {
+        return driverTask != null;
+    }
+
+    public int getCompletedChunks() {
+        return completed;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Future completed once every chunk of the area has been generated
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+}
@@ -0,0 +1,80 @@
+package com.api_d.hungerGames.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Reference-counted plugin chunk tickets.
+ *
+ * Bukkit keeps at most one ticket per plugin and chunk, so removing it drops the ticket for every
+ * holder at once. Holders (feast site, loot seeding, spawn teleports) go through this class instead,
+ * and the Bukkit ticket is only added on the first acquire and removed on the last release.
+ * Counts are kept per world instance, so a world reloaded by an arena reset starts from zero.
+ * Main thread only.
+ */
+public class ChunkTickets {
+
+    private static final ChunkTickets INSTANCE = new ChunkTickets();
+
+    private Plugin plugin;
+
+    // World -> chunk key -> number of holders
+    private final Map<World, Map<Long, Integer>> counts = new WeakHashMap<>();
+
+    private ChunkTickets() {
+    }
+
+    /**
+     * Get the shared ticket registry
+     */
+    public static ChunkTickets get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Set the plugin owning the tickets
+     */
+    public void initialize(Plugin plugin) {
+        this.plugin = plugin;
+        counts.clear();
+    }
+
+    /**
+     * Keep a chunk loaded until the matching release, loading it if needed
+     */
+    public void acquire(World world, int chunkX, int chunkZ) {
+        Map<Long, Integer> worldCounts = counts.computeIfAbsent(world, ignored -> new HashMap<>());
+        if (worldCounts.merge(ProtectedZoneRegistry.chunkKey(chunkX, chunkZ), 1, Integer::sum) == 1) {
+            world.addPluginChunkTicket(chunkX, chunkZ, plugin);
+        }
+    }
+
+    /**
+     * Release a chunk acquired earlier, removing the ticket once no holder is left
+     */
+    public void release(World world, int chunkX, int chunkZ) {
+        Map<Long, Integer> worldCounts = counts.get(world);
+        if (worldCounts == null) {
+            return;
+        }
+        long key = ProtectedZoneRegistry.chunkKey(chunkX, chunkZ);
+        Integer count = worldCounts.get(key);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            worldCounts.put(key, count - 1);
+            return;
+        }
+        worldCounts.remove(key);
+        // Tickets of an unloaded world are already gone
+        if (Bukkit.getWorld(world.getUID()) == world) {
+            world.removePluginChunkTicket(chunkX, chunkZ, plugin);
+        }
+    }
+}
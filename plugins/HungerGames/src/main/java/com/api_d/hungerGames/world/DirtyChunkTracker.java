@@ -0,0 +1,248 @@
+package com.api_d.hungerGames.world;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.block.DoubleChest;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFertilizeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.entity.ItemSpawnEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.bukkit.inventory.BlockInventoryHolder;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records which chunks of an arena world differ from its template.
+ *
+ * Chunks are marked by player edits (blocks, buckets, containers they looted), explosions, fire, fluids,
+ * mobs and natural block changes (growth, forming, spreading, pistons), dropped items, platform writes
+ * and chunks generated during the match (which do not exist in the template), so a reset only needs to
+ * restore those chunks. Entities are not tracked: the reset always restores all of them from the template.
+ * Any other change not going through these events is only undone by a full restore.
+ */
+public class DirtyChunkTracker implements Listener, BlockPlacementEngine.ChunkWriteListener {
+
+    private final String worldName;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public DirtyChunkTracker(String worldName) {
+        this.worldName = worldName;
+    }
+
+    /**
+     * Mark a chunk of the tracked world as modified
+     */
+    public void mark(World world, int chunkX, int chunkZ) {
+        if (world.getName().equals(worldName)) {
+            dirty.add(ProtectedZoneRegistry.chunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Mark the chunk containing a block as modified
+     */
+    public void mark(Block block) {
+        mark(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+    }
+
+    /**
+     * Mark the chunk containing a location as modified
+     */
+    public void mark(Location location) {
+        if (location.getWorld() != null) {
+            mark(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        }
+    }
+
+    /**
+     * Number of chunks modified since the last reset
+     */
+    public int size() {
+        return dirty.size();
+    }
+
+    /**
+     * Take the modified chunks and start tracking from scratch
+     */
+    public Set<Long> drain() {
+        Set<Long> chunks = new HashSet<>(dirty);
+        dirty.removeAll(chunks);
+        return chunks;
+    }
+
+    @Override
+    public void onChunkWrite(World world, int chunkX, int chunkZ) {
+        mark(world, chunkX, chunkZ);
+    }
+
+    private void markAll(List<Block> blocks) {
+        for (Block block : blocks) {
+            mark(block);
+        }
+    }
+
+    private void markStates(List<BlockState> states) {
+        for (BlockState state : states) {
+            mark(state.getBlock());
+        }
+    }
+
+    private void markHolder(InventoryHolder holder) {
+        if (holder instanceof BlockInventoryHolder blockHolder) {
+            mark(blockHolder.getBlock());
+        } else if (holder instanceof DoubleChest doubleChest) {
+            markHolder(doubleChest.getLeftSide());
+            markHolder(doubleChest.getRightSide());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        if (event instanceof BlockMultiPlaceEvent multiPlace) {
+            markStates(multiPlace.getReplacedBlockStates());
+        }
+        mark(event.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        // Explosive arrows and Berserker deaths go through here
+        mark(event.getLocation());
+        markAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        mark(event.getBlock());
+        markAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        mark(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(BlockIgniteEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        // Falling blocks, endermen, trampled farmland, ravagers...
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFertilize(BlockFertilizeEvent event) {
+        mark(event.getBlock());
+        markStates(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        mark(event.getLocation());
+        markStates(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        mark(event.getBlock());
+        markAll(event.getBlocks());
+        for (Block block : event.getBlocks()) {
+            mark(block.getRelative(event.getDirection()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        mark(event.getBlock());
+        markAll(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        // Containers of the template (structure chests) keep their contents in the chunk
+        markHolder(event.getInventory().getHolder(false));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemSpawn(ItemSpawnEvent event) {
+        mark(event.getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        // Generated during the match, so missing from the template
+        if (event.isNewChunk()) {
+            mark(event.getWorld(), event.getChunk().getX(), event.getChunk().getZ());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.api_d.hungerGames.world;
+
+import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.ProfiledRunnable;
+import com.api_d.hungerGames.util.TemporaryEntities;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.AbstractArrow;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ExperienceOrb;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Tameable;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the entity count of an arena bounded during a match.
+ *
+ * A few loaded chunks are visited per tick on a rotating schedule, so the whole world is swept
+ * every few seconds at a constant cost. In each chunk, close item stacks of the same kind are merged,
+ * arrows stuck in blocks for too long are removed, and items, arrows, experience orbs and mobs above
+ * their per-chunk cap are culled, oldest first. Items dropped by players (death loot) or dropped
+ * recently, tamed mobs and entities already handled by {@link TemporaryEntities} are never culled.
+ */
+public class EntityCuller {
+
+    private static final Comparator<Entity> OLDEST_FIRST = Comparator.comparingInt(Entity::getTicksLived).reversed();
+
+    private final Plugin plugin;
+    private final GameConfig config;
+    private final HGLogger logger;
+
+    private World world;
+    private Chunk[] sweep = new Chunk[0];
+    private int cursor;
+    private long removed;
+    private BukkitTask task;
+
+    public EntityCuller(Plugin plugin, GameConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Start sweeping a world
+     */
+    public void start(World world) {
+        stop();
+        if (!config.isEntityCullingEnabled()) {
+            return;
+        }
+
+        this.world = world;
+        this.sweep = new Chunk[0];
+        this.cursor = 0;
+        this.removed = 0;
+        task = new ProfiledRunnable("EntityCuller") {
+            @Override
+            protected void process() {
+                tick();
+            }
+        }.runTaskTimer(plugin, 20L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+            logger.info("Entity culler stopped after removing " + removed + " entities");
+        }
+    }
+
+    /**
+     * Number of entities removed or merged away since the culler started
+     */
+    public long getRemoved() {
+        return removed;
+    }
+
+    private void tick() {
+        int budget = Math.max(1, config.getCullingChunksPerTick());
+        for (int i = 0; i < budget; i++) {
+            if (cursor >= sweep.length) {
+                // Start a new pass over the chunks loaded right now
+                sweep = world.getLoadedChunks();
+                cursor = 0;
+                if (sweep.length == 0) {
+                    return;
+                }
+            }
+            Chunk chunk = sweep[cursor];
+            // Drop the reference so unloaded chunks can be collected during the pass
+            sweep[cursor++] = null;
+            if (chunk.isLoaded()) {
+                cullChunk(chunk);
+            }
+        }
+    }
+
+    private void cullChunk(Chunk chunk) {
+        List<Item> items = new ArrayList<>();
+        List<AbstractArrow> arrows = new ArrayList<>();
+        List<ExperienceOrb> orbs = new ArrayList<>();
+        List<Mob> mobs = new ArrayList<>();
+
+        int staleArrowTicks = config.getStaleArrowSeconds() * 20;
+        int itemGraceTicks = config.getItemGraceSeconds() * 20;
+        TemporaryEntities temporary = TemporaryEntities.get();
+        List<Item> protectedItems = new ArrayList<>();
+        for (Entity entity : chunk.getEntities()) {
+            if (!entity.isValid() || temporary.isTracked(entity)) {
+                continue;
+            }
+            if (entity instanceof Item item) {
+                if (item.getThrower() != null || item.getTicksLived() < itemGraceTicks) {
+                    protectedItems.add(item);
+                } else {
+                    items.add(item);
+                }
+            } else if (entity instanceof AbstractArrow arrow) {
+                // Lifetime only counts while the arrow is stuck
+                if (arrow.isInBlock() && arrow.getLifetimeTicks() > staleArrowTicks) {
+                    remove(arrow);
+                } else {
+                    arrows.add(arrow);
+                }
+            } else if (entity instanceof ExperienceOrb orb) {
+                orbs.add(orb);
+            } else if (entity instanceof Mob mob && mob.customName() == null
+                       && !(mob instanceof Tameable tameable && tameable.isTamed())) {
+                mobs.add(mob);
+            }
+        }
+
+        // Merged separately, so loot never ends up in a stack that can be culled
+        mergeItems(items);
+        mergeItems(protectedItems);
+        enforceCap(items, config.getMaxItemsPerChunk());
+        enforceCap(arrows, config.getMaxArrowsPerChunk());
+        enforceCap(orbs, config.getMaxOrbsPerChunk());
+        enforceCap(mobs, config.getMaxMobsPerChunk());
+    }
+
+    /**
+     * Fold stacks of the same item lying close together into the oldest one
+     */
+    private void mergeItems(List<Item> items) {
+        if (items.size() < 2) {
+            return;
+        }
+        double radius = config.getItemMergeRadius();
+        double radiusSquared = radius * radius;
+        items.sort(OLDEST_FIRST);
+
+        for (int i = 0; i < items.size(); i++) {
+            Item target = items.get(i);
+            if (!target.isValid()) {
+                continue;
+            }
+            ItemStack stack = target.getItemStack();
+            int maxStack = stack.getMaxStackSize();
+            for (int j = i + 1; j < items.size() && stack.getAmount() < maxStack; j++) {
+                Item other = items.get(j);
+                if (!other.isValid() || other.getLocation().distanceSquared(target.getLocation()) > radiusSquared) {
+                    continue;
+                }
+                ItemStack otherStack = other.getItemStack();
+                if (!stack.isSimilar(otherStack) || stack.getAmount() + otherStack.getAmount() > maxStack) {
+                    continue;
+                }
+                stack.setAmount(stack.getAmount() + otherStack.getAmount());
+                target.setItemStack(stack);
+                remove(other);
+            }
+        }
+        items.removeIf(item -> !item.isValid());
+    }
+
+    private void enforceCap(List<? extends Entity> entities, int cap) {
+        if (cap < 0 || entities.size() <= cap) {
+            return;
+        }
+        entities.sort(OLDEST_FIRST);
+        for (int i = 0; i < entities.size() - cap; i++) {
+            remove(entities.get(i));
+        }
+    }
+
+    private void remove(Entity entity) {
+        entity.remove();
+        removed++;
+    }
+}
@@ -0,0 +1,268 @@
+package com.api_d.hungerGames.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.bukkit.plugin.Plugin;
+import com.api_d.hungerGames.util.HGLogger;
+import com.api_d.hungerGames.util.TickProfiler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Picks the feast platform site ahead of time.
+ *
+ * Once the arena heightmap is built, candidates are scored straight from it. Before that, candidate
+ * chunks are loaded with getChunkAtAsync and copied into ChunkSnapshots on the main thread, and
+ * scoring (flatness, liquid coverage) runs on an async thread. Either way nothing touches the live
+ * world when the feast timer fires.
+ */
+public class FeastSiteSelector {
+
+    private final Plugin plugin;
+    private final HGLogger logger;
+    private final ArenaHeightmap heightmap;
+    private final Random random = new Random();
+
+    public FeastSiteSelector(Plugin plugin, ArenaHeightmap heightmap) {
+        this.plugin = plugin;
+        this.heightmap = heightmap;
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Score candidate sites inside the square zone of the given size around the center and complete
+     * (on the main thread) with the best one, or with null if no candidate is usable
+     */
+    public CompletableFuture<FeastSite> select(World world, Location center, double zoneSize, int borderDistance, int radius, int candidates) {
+        CompletableFuture<FeastSite> result = new CompletableFuture<>();
+
+        // Candidates must keep the whole platform inside the zone minus the configured distance, and inside the border
+        WorldBorder border = world.getWorldBorder();
+        double borderCenterX = border.getCenter().getX();
+        double borderCenterZ = border.getCenter().getZ();
+        double borderHalfSize = border.getSize() / 2.0 - radius;
+        double halfSize = zoneSize / 2.0 - borderDistance - radius;
+        if (halfSize <= 0) {
+            logger.warning("Zone too small to pre-select a feast site (size " + zoneSize + ")");
+            result.complete(null);
+            return result;
+        }
+
+        int maxDistance = (int) halfSize;
+        List<int[]> sites = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            double distance = random.nextDouble() * maxDistance;
+            int x = center.getBlockX() + (int) (Math.cos(angle) * distance);
+            int z = center.getBlockZ() + (int) (Math.sin(angle) * distance);
+            if (Math.abs(x - center.getX()) <= halfSize && Math.abs(z - center.getZ()) <= halfSize &&
+                Math.abs(x - borderCenterX) <= borderHalfSize && Math.abs(z - borderCenterZ) <= borderHalfSize) {
+                sites.add(new int[]{x, z});
+            }
+        }
+
+        if (sites.isEmpty()) {
+            result.complete(null);
+            return result;
+        }
+
+        // The heightmap already covers the arena once it is built, no chunk access needed
+        if (heightmap != null && heightmap.isReady()) {
+            ColumnSource source = new ColumnSource() {
+                @Override
+                public int surfaceY(int x, int z) {
+                    return heightmap.isKnown(world, x, z) ? heightmap.getHighestBlockYAt(world, x, z) : Integer.MIN_VALUE;
+                }
+
+                @Override
+                public byte surface(int x, int y, int z) {
+                    return heightmap.getSurface(world, x, z);
+                }
+            };
+            result.complete(pickBest(source, sites, radius));
+            return result;
+        }
+
+        // Collect every chunk overlapped by a candidate platform
+        Map<Long, int[]> chunks = new HashMap<>();
+        for (int[] site : sites) {
+            for (int cx = (site[0] - radius) >> 4; cx <= (site[0] + radius) >> 4; cx++) {
+                for (int cz = (site[1] - radius) >> 4; cz <= (site[1] + radius) >> 4; cz++) {
+                    chunks.putIfAbsent(ProtectedZoneRegistry.chunkKey(cx, cz), new int[]{cx, cz});
+                }
+            }
+        }
+
+        Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (Map.Entry<Long, int[]> entry : chunks.entrySet()) {
+            int[] coords = entry.getValue();
+            // Paper completes chunk futures on the main thread, so the snapshot is taken there
+            loads.add(world.getChunkAtAsync(coords[0], coords[1], true).thenAccept(chunk ->
+                snapshots.put(entry.getKey(), chunk.getChunkSnapshot(true, false, false))));
+        }
+
+        int minHeight = world.getMinHeight();
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.warning("Failed to load feast candidate chunks: " + error.getMessage());
+                result.complete(null);
+                return;
+            }
+
+            ColumnSource source = new ColumnSource() {
+                @Override
+                public int surfaceY(int x, int z) {
+                    ChunkSnapshot snapshot = snapshots.get(ProtectedZoneRegistry.chunkKey(x >> 4, z >> 4));
+                    if (snapshot == null) {
+                        return Integer.MIN_VALUE;
+                    }
+                    int y = snapshot.getHighestBlockYAt(x & 15, z & 15);
+                    while (y > minHeight && snapshot.getBlockType(x & 15, y, z & 15).isAir()) {
+                        y--;
+                    }
+                    return y;
+                }
+
+                @Override
+                public byte surface(int x, int y, int z) {
+                    ChunkSnapshot snapshot = snapshots.get(ProtectedZoneRegistry.chunkKey(x >> 4, z >> 4));
+                    return ArenaHeightmap.classify(snapshot.getBlockType(x & 15, y, z & 15));
+                }
+            };
+
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, TickProfiler.wrap("FeastSiteSelector.pickBest", () -> {
+                FeastSite selected = pickBest(source, sites, radius);
+                Bukkit.getScheduler().runTask(plugin, TickProfiler.wrap("FeastSiteSelector.complete",
+                                                                        () -> result.complete(selected)));
+            }));
+        });
+
+        return result;
+    }
+
+    private FeastSite pickBest(ColumnSource source, List<int[]> sites, int radius) {
+        FeastSite best = null;
+        for (int[] site : sites) {
+            FeastSite scored = score(source, site[0], site[1], radius);
+            if (scored != null && (best == null || scored.getScore() < best.getScore())) {
+                best = scored;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Score one candidate: height spread plus a heavy penalty per liquid column.
+     * Returns null if the center is unusable or too much of the platform sits on liquid.
+     */
+    private FeastSite score(ColumnSource source, int centerX, int centerZ, int radius) {
+        int minHeight = Integer.MAX_VALUE;
+        int maxHeight = Integer.MIN_VALUE;
+        int columns = 0;
+        int liquidColumns = 0;
+        int centerY = 0;
+        long radiusSquared = (long) radius * radius;
+
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if ((long) dx * dx + (long) dz * dz > radiusSquared) {
+                    continue;
+                }
+                int x = centerX + dx;
+                int z = centerZ + dz;
+                int y = source.surfaceY(x, z);
+                if (y == Integer.MIN_VALUE) {
+                    return null;
+                }
+
+                byte surface = source.surface(x, y, z);
+                boolean liquid = surface == ArenaHeightmap.SURFACE_WATER || surface == ArenaHeightmap.SURFACE_LAVA;
+                if (dx == 0 && dz == 0) {
+                    // Same rules as the live-world check in PlatformGenerator
+                    if (liquid || surface == ArenaHeightmap.SURFACE_UNSAFE || surface == ArenaHeightmap.SURFACE_UNKNOWN) {
+                        return null;
+                    }
+                    centerY = y;
+                }
+
+                columns++;
+                if (liquid) {
+                    liquidColumns++;
+                }
+                minHeight = Math.min(minHeight, y);
+                maxHeight = Math.max(maxHeight, y);
+            }
+        }
+
+        // Reject sites that are mostly lake or ocean
+        if (columns == 0 || liquidColumns * 4 > columns) {
+            return null;
+        }
+
+        double score = (maxHeight - minHeight) + liquidColumns * 2.0;
+        return new FeastSite(centerX, centerY, centerZ, maxHeight, score);
+    }
+
+    /**
+     * Terrain columns read either from the arena heightmap or from chunk snapshots
+     */
+    private interface ColumnSource {
+        /**
+         * Highest non-air block, or Integer.MIN_VALUE if the column is not available
+         */
+        int surfaceY(int x, int z);
+
+        byte surface(int x, int y, int z);
+    }
+
+    /**
+     * A scored feast platform site
+     */
+    public static class FeastSite {
+        private final int x;
+        private final int surfaceY;
+        private final int z;
+        private final int maxHeight;
+        private final double score;
+
+        public FeastSite(int x, int surfaceY, int z, int maxHeight, double score) {
+            this.x = x;
+            this.surfaceY = surfaceY;
+            this.z = z;
+            this.maxHeight = maxHeight;
+            this.score = score;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getSurfaceY() {
+            return surfaceY;
+        }
+
+        public int getZ() {
+            return z;
+        }
+
+        /**
+         * Highest surface block under the platform footprint
+         */
+        public int getMaxHeight() {
+            return maxHeight;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.api_d.hungerGames.world;
 
 import com.api_d.hungerGames.config.GameConfig;
+import com.api_d.hungerGames.loot.LootChestRegistry;
+import com.api_d.hungerGames.loot.LootGenerator;
+import com.api_d.hungerGames.world.schematic.Schematic;
+import com.api_d.hungerGames.world.schematic.SchematicLoader;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.block.BlockState;
-import org.bukkit.block.Chest;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemStack;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Item;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import com.api_d.hungerGames.util.HGLogger;
 
 /**
@@ -23,57 +27,86 @@ public class PlatformGenerator {
     private final GameConfig config;
     private final HGLogger logger;
     private final Random random;
+    private final BlockPlacementEngine placementEngine;
+    private final SchematicLoader schematics;
+    private final LootChestRegistry lootChests;
+    private final ArenaHeightmap heightmap;
     
-    public PlatformGenerator(GameConfig config, java.util.logging.Logger logger) {
+    public PlatformGenerator(GameConfig config, java.util.logging.Logger logger, BlockPlacementEngine placementEngine,
+                             SchematicLoader schematics, LootChestRegistry lootChests) {
+        this(config, logger, placementEngine, schematics, lootChests, null);
+    }
+    
+    public PlatformGenerator(GameConfig config, java.util.logging.Logger logger, BlockPlacementEngine placementEngine,
+                             SchematicLoader schematics, LootChestRegistry lootChests, ArenaHeightmap heightmap) {
         this.config = config;
         this.logger = new HGLogger(logger);
         this.random = new Random();
+        this.placementEngine = placementEngine;
+        this.schematics = schematics;
+        this.lootChests = lootChests;
+        this.heightmap = heightmap;
+    }
+    
+    /**
+     * Get a platform schematic if schematics are enabled and the file loads
+     */
+    private Schematic getSchematic(String path) {
+        if (!config.useSchematics() || schematics == null) {
+            return null;
+        }
+        return schematics.get(path);
+    }
+    
+    /**
+     * Surface height from the arena heightmap when available, otherwise from the live world
+     */
+    private int getHighestBlockYAt(World world, int x, int z) {
+        return heightmap != null ? heightmap.getHighestBlockYAt(world, x, z) : world.getHighestBlockYAt(x, z);
     }
     
     /**
-     * Generate the spawn platform at the given location
+     * Generate the spawn platform at the given location.
+     * Blocks are placed over several ticks; the future completes once the chests are registered for loot.
      */
-    public void generateSpawnPlatform(Location center) {
+    public CompletableFuture<Void> generateSpawnPlatform(Location center) {
         logger.info("Generating spawn platform at " + center.toString());
         
         World world = center.getWorld();
         int radius = config.getSpawnRadius();
         
-        // Create the platform
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                double distance = Math.sqrt(x * x + z * z);
-                
-                if (distance <= radius) {
-                    // Create wooden platform
-                    Block block = world.getBlockAt(center.getBlockX() + x, center.getBlockY(), center.getBlockZ() + z);
-                    block.setType(Material.OAK_PLANKS);
-                    
-                    // Clear blocks above the platform
-                    for (int y = 1; y <= 10; y++) {
-                        Block above = world.getBlockAt(center.getBlockX() + x, center.getBlockY() + y, center.getBlockZ() + z);
-                        if (above.getType() != Material.AIR) {
-                            above.setType(Material.AIR);
-                        }
-                    }
-                }
-            }
-        }
-        
         // Get spawn items for debugging
         List<String> spawnItems = config.getSpawnItems();
         logger.info("Spawn items configured: " + spawnItems.size() + " items");
         for (String item : spawnItems) {
-            logger.info("  - " + item);
+            logger.debug("  - " + item);
         }
         
-        // Generate central fountain/pillar with chests
-        generateCentralStructure(center, spawnItems);
-        
-        // Clear any dropped items around the platform
-        clearDroppedItemsAroundPlatform(center, radius + 2);
+        BlockPlacementEngine.Batch batch = placementEngine.newBatch(world);
+        List<Location> chests;
+        int extent;
+        Schematic schematic = getSchematic(config.getSpawnSchematicFile());
+        if (schematic != null) {
+            chests = addSchematic(batch, schematic, center, center.getBlockY());
+            extent = Math.max(schematic.getWidth(), schematic.getLength()) / 2;
+        } else {
+            // Create the wooden platform and clear the space above it
+            addFlatDisc(batch, center, center.getBlockY(), radius, Material.OAK_PLANKS);
+            
+            // Generate central fountain/pillar with chests
+            chests = addCentralStructure(batch, center);
+            extent = radius;
+        }
         
-        logger.info("Spawn platform generated successfully");
+        return placementEngine.submit(batch).thenRun(() -> {
+            registerChests(chests, LootGenerator.SPAWN);
+            
+            // Clear any dropped items around the platform
+            clearDroppedItemsAroundPlatform(center, extent + 2);
+            markHeightmapDirty(center, extent);
+            
+            logger.info("Spawn platform generated successfully");
+        });
     }
     
     /**
@@ -94,7 +127,7 @@ public class PlatformGenerator {
             for (int z = -radius; z <= radius; z++) {
                 double distance = Math.sqrt(x * x + z * z);
                 if (distance <= radius) {
-                    int height = world.getHighestBlockYAt(feastCenter.getBlockX() + x, feastCenter.getBlockZ() + z);
+                    int height = getHighestBlockYAt(world, feastCenter.getBlockX() + x, feastCenter.getBlockZ() + z);
                     if (height > maxHeight) {
                         maxHeight = height;
                     }
@@ -102,50 +135,140 @@ public class PlatformGenerator {
             }
         }
         
+        return buildFeastPlatform(feastCenter, maxHeight);
+    }
+    
+    /**
+     * Generate the feast platform on a site pre-selected by the {@link FeastSiteSelector}
+     */
+    public Location generateFeastPlatform(World world, FeastSiteSelector.FeastSite site) {
+        logger.info("Generating feast platform on pre-selected site (score " + site.getScore() + ")...");
+        
+        Location feastCenter = new Location(world, site.getX(), site.getSurfaceY(), site.getZ());
+        return buildFeastPlatform(feastCenter, site.getMaxHeight());
+    }
+    
+    /**
+     * Build the flat feast platform above the given maximum terrain height
+     */
+    private Location buildFeastPlatform(Location feastCenter, int maxHeight) {
+        World world = feastCenter.getWorld();
+        int radius = config.getFeastRadius();
+        
         // Set platform height to be above the highest point in the area
         int platformHeight = maxHeight + 2;
         feastCenter.setY(platformHeight);
         
         logger.info("Creating flat feast platform at height " + platformHeight + " with radius " + radius);
         
-        // Create the platform as a flat surface
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                double distance = Math.sqrt(x * x + z * z);
-                
-                if (distance <= radius) {
-                    // Create stone platform at consistent height
-                    Block block = world.getBlockAt(feastCenter.getBlockX() + x, platformHeight, feastCenter.getBlockZ() + z);
-                    block.setType(Material.STONE);
-                    
-                    // Clear blocks above the platform
-                    for (int clearY = platformHeight + 1; clearY <= platformHeight + 10; clearY++) {
-                        Block above = world.getBlockAt(feastCenter.getBlockX() + x, clearY, feastCenter.getBlockZ() + z);
-                        if (above.getType() != Material.AIR) {
-                            above.setType(Material.AIR);
-                        }
-                    }
-                }
-            }
-        }
-        
         // Get feast items for debugging
         List<String> feastItems = config.getFeastItems();
         logger.info("Feast items configured: " + feastItems.size() + " items");
         for (String item : feastItems) {
-            logger.info("  - " + item);
+            logger.debug("  - " + item);
         }
         
-        // Generate central structure with feast loot
-        generateCentralStructure(feastCenter, feastItems);
+        BlockPlacementEngine.Batch batch = placementEngine.newBatch(world);
+        List<Location> chests;
+        int extent;
+        Schematic schematic = getSchematic(config.getFeastSchematicFile());
+        if (schematic != null) {
+            chests = addSchematic(batch, schematic, feastCenter, platformHeight);
+            extent = Math.max(schematic.getWidth(), schematic.getLength()) / 2;
+        } else {
+            // Create the stone platform at a consistent height and clear the space above it
+            addFlatDisc(batch, feastCenter, platformHeight, radius, Material.STONE);
+            
+            // Generate central structure with feast loot
+            chests = addCentralStructure(batch, feastCenter);
+            extent = radius;
+        }
         
-        // Clear any dropped items around the platform
-        clearDroppedItemsAroundPlatform(feastCenter, radius + 2);
+        // The location is known now, chests are registered once the blocks are in place
+        Location center = feastCenter.clone();
+        placementEngine.submit(batch).thenRun(() -> {
+            registerChests(chests, LootGenerator.FEAST);
+            
+            // Clear any dropped items around the platform
+            clearDroppedItemsAroundPlatform(center, extent + 2);
+            markHeightmapDirty(center, extent);
+            
+            logger.info("Feast platform generated successfully at " + center.toString());
+        });
         
-        logger.info("Feast platform generated successfully at " + feastCenter.toString());
         return feastCenter;
     }
     
+    /**
+     * Queue a flat disc of the given material and clear 10 blocks of space above it
+     */
+    private void addFlatDisc(BlockPlacementEngine.Batch batch, Location center, int y, int radius, Material material) {
+        BlockData floor = material.createBlockData();
+        BlockData air = Material.AIR.createBlockData();
+        
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                if (x * x + z * z > radius * radius) {
+                    continue;
+                }
+                int blockX = center.getBlockX() + x;
+                int blockZ = center.getBlockZ() + z;
+                batch.set(blockX, y, blockZ, floor);
+                for (int clearY = y + 1; clearY <= y + 10; clearY++) {
+                    batch.clear(blockX, clearY, blockZ, air);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Queue a schematic centered on the given column with its lowest layer at baseY.
+     * Structure voids are skipped; returns the positions of the chests it contains.
+     */
+    private List<Location> addSchematic(BlockPlacementEngine.Batch batch, Schematic schematic, Location center, int baseY) {
+        World world = center.getWorld();
+        String[] palette = schematic.getPalette();
+        BlockData[] blockData = new BlockData[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            try {
+                BlockData data = Bukkit.createBlockData(palette[i]);
+                blockData[i] = data.getMaterial() == Material.STRUCTURE_VOID ? null : data;
+            } catch (IllegalArgumentException e) {
+                logger.warning("Skipping unknown block " + palette[i] + " in schematic " + schematic.getName());
+            }
+        }
+        
+        int originX = center.getBlockX() - schematic.getWidth() / 2;
+        int originZ = center.getBlockZ() - schematic.getLength() / 2;
+        List<Location> chests = new ArrayList<>();
+        for (int y = 0; y < schematic.getHeight(); y++) {
+            for (int z = 0; z < schematic.getLength(); z++) {
+                for (int x = 0; x < schematic.getWidth(); x++) {
+                    BlockData data = blockData[schematic.getPaletteIndex(x, y, z)];
+                    if (data == null) {
+                        continue;
+                    }
+                    batch.set(originX + x, baseY + y, originZ + z, data);
+                    if (data.getMaterial() == Material.CHEST || data.getMaterial() == Material.TRAPPED_CHEST) {
+                        chests.add(new Location(world, originX + x, baseY + y, originZ + z));
+                    }
+                }
+            }
+        }
+        
+        logger.info("Pasting schematic " + schematic.getName() + " (" + batch.size() + " blocks, " + chests.size() + " chests)");
+        return chests;
+    }
+    
+    /**
+     * Platforms are placed without block events, refresh their heightmap columns
+     */
+    private void markHeightmapDirty(Location center, int radius) {
+        if (heightmap != null) {
+            heightmap.markDirty(center.getWorld(), center.getBlockX(), center.getBlockZ(), radius);
+        }
+    }
+    
     /**
      * Find a suitable location for the feast platform
      */
@@ -162,13 +285,17 @@ public class PlatformGenerator {
             int z = center.getBlockZ() + (int) (Math.sin(angle) * distance);
             
             // Find the highest block at this location
-            int y = world.getHighestBlockYAt(x, z);
+            int y = getHighestBlockYAt(world, x, z);
             
             Location candidate = new Location(world, x, y, z);
             
             // Check if this location is suitable (not in water, lava, etc.)
-            Block block = world.getBlockAt(x, y, z);
-            if (isSuitableForPlatform(block)) {
+            byte surface = heightmap != null ? heightmap.getSurface(world, x, z) : ArenaHeightmap.SURFACE_UNKNOWN;
+            if (surface != ArenaHeightmap.SURFACE_UNKNOWN) {
+                if (surface == ArenaHeightmap.SURFACE_SOLID || surface == ArenaHeightmap.SURFACE_FOLIAGE) {
+                    return candidate;
+                }
+            } else if (isSuitableForPlatform(world.getBlockAt(x, y, z))) {
                 return candidate;
             }
         }
@@ -191,176 +318,79 @@ public class PlatformGenerator {
     }
     
     /**
-     * Generate the central fountain/pillar structure with chests
+     * Queue the central pillar and the chest blocks around it, returning the chest positions
      */
-    private void generateCentralStructure(Location center, List<String> lootItems) {
-        World world = center.getWorld();
+    private List<Location> addCentralStructure(BlockPlacementEngine.Batch batch, Location center) {
         int centerX = center.getBlockX();
         int centerY = center.getBlockY();
         int centerZ = center.getBlockZ();
         
-        logger.info("Generating central structure at " + center.toString() + " with " + lootItems.size() + " loot items");
-        
         // Create a small pillar in the center
+        BlockData bricks = Material.STONE_BRICKS.createBlockData();
+        BlockData wall = Material.COBBLESTONE_WALL.createBlockData();
         for (int y = 1; y <= 4; y++) {
-            Block pillarBlock = world.getBlockAt(centerX, centerY + y, centerZ);
-            if (y <= 2) {
-                pillarBlock.setType(Material.STONE_BRICKS);
-                logger.info("Placed stone brick at " + centerX + ", " + (centerY + y) + ", " + centerZ);
-            } else {
-                pillarBlock.setType(Material.COBBLESTONE_WALL);
-                logger.info("Placed cobblestone wall at " + centerX + ", " + (centerY + y) + ", " + centerZ);
-            }
+            batch.set(centerX, centerY + y, centerZ, y <= 2 ? bricks : wall);
         }
         
-        // Add chests around the pillar (two levels)
-        addChestsAroundPillar(center, lootItems, 1); // Ground level
-        addChestsAroundPillar(center, lootItems, 2); // Upper level
-        
-        logger.info("Central structure generation completed");
+        // Add chests around the pillar (two levels), each on a small platform
+        BlockData chest = Material.CHEST.createBlockData();
+        List<Location> chests = new ArrayList<>();
+        for (int level = 1; level <= 2; level++) {
+            for (Location chestLocation : getChestLocations(center, level)) {
+                batch.set(chestLocation.getBlockX(), chestLocation.getBlockY() - 1, chestLocation.getBlockZ(), bricks);
+                batch.set(chestLocation.getBlockX(), chestLocation.getBlockY(), chestLocation.getBlockZ(), chest);
+                chests.add(chestLocation);
+            }
+        }
+        return chests;
     }
     
     /**
-     * Add chests around the central pillar at a specific level
+     * Chest positions at the four cardinal directions around the pillar at a specific level
      */
-    private void addChestsAroundPillar(Location center, List<String> lootItems, int level) {
+    private Location[] getChestLocations(Location center, int level) {
         World world = center.getWorld();
         int centerX = center.getBlockX();
         int centerY = center.getBlockY() + level;
         int centerZ = center.getBlockZ();
         
-        // Place chests at the four cardinal directions
-        Location[] chestLocations = {
+        return new Location[] {
             new Location(world, centerX + 2, centerY, centerZ),     // East
             new Location(world, centerX - 2, centerY, centerZ),     // West
             new Location(world, centerX, centerY, centerZ + 2),     // South
             new Location(world, centerX, centerY, centerZ - 2)      // North
         };
-        
-        for (Location chestLocation : chestLocations) {
-            // Create a small platform for the chest if needed
-            Block platform = world.getBlockAt(chestLocation.getBlockX(), chestLocation.getBlockY() - 1, chestLocation.getBlockZ());
-            platform.setType(Material.STONE_BRICKS);
-            
-            // Place the chest
-            Block chestBlock = world.getBlockAt(chestLocation);
-            chestBlock.setType(Material.CHEST);
-            
-            // Get the block state and ensure it's a chest
-            BlockState state = chestBlock.getState();
-            if (state instanceof Chest chest) {
-                logger.info("Creating and filling chest at " + chestLocation.toString() + " with " + lootItems.size() + " items");
-                
-                // Fill the chest inventory
-                fillChestWithLoot(chest, lootItems);
-                logger.info("Chest successfully created and filled at " + chestLocation.toString());
-            } else {
-                logger.warning("Failed to create chest at " + chestLocation.toString() + " - block state is not a chest");
-            }
-        }
-        
-        logger.info("Added " + chestLocations.length + " chests at level " + level + " around center " + center.toString());
     }
     
     /**
-     * Fill a chest with loot items
+     * Register platform chests once they have been placed, their loot is rolled when first opened
      */
-    private void fillChestWithLoot(Chest chest, List<String> lootItems) {
-        Inventory inv = chest.getInventory();
-
-        // Build a richer loot pool using configured items + extra defaults
-        java.util.List<String> pool = new java.util.ArrayList<>(lootItems);
-        // Extra items to add variety
-        java.util.List<String> extras = java.util.Arrays.asList(
-            "GOLDEN_APPLE:1",
-            "COOKED_BEEF:8",
-            "ARROW:16",
-            "BOW:1",
-            "IRON_SWORD:1",
-            "SHIELD:1",
-            "IRON_HELMET:1",
-            "IRON_CHESTPLATE:1",
-            "IRON_LEGGINGS:1",
-            "IRON_BOOTS:1",
-            "ENDER_PEARL:2",
-            "WATER_BUCKET:1",
-            "LAVA_BUCKET:1",
-            "EXP_BOTTLE:16",
-            "COOKED_CHICKEN:6",
-            "SNOWBALL:16",
-            "TNT:2",
-            "FISHING_ROD:1"
-        );
-        pool.addAll(extras);
-
-        // Decide a random number of items per chest (e.g., 6-10)
-        int itemsToPlace = 6 + random.nextInt(5);
-        java.util.Collections.shuffle(pool, random);
-
-        int placed = 0;
-        int poolIndex = 0;
-        while (placed < itemsToPlace && poolIndex < pool.size()) {
-            String itemString = pool.get(poolIndex++);
-            String[] parts = itemString.split(":");
-            if (parts.length != 2) {
-                continue;
-            }
-            Material material;
-            try {
-                material = Material.valueOf(parts[0].toUpperCase());
-            } catch (IllegalArgumentException e) {
-                continue;
-            }
-            int amount;
-            try {
-                amount = Integer.parseInt(parts[1]);
-            } catch (NumberFormatException e) {
-                continue;
-            }
-
-            // Slight randomization of stack sizes (+/- up to 25% for stackables)
-            if (material.getMaxStackSize() > 1) {
-                double delta = (random.nextDouble() * 0.5) - 0.25; // -25% to +25%
-                amount = Math.max(1, Math.min(material.getMaxStackSize(), (int)Math.round(amount * (1 + delta))));
-            }
-
-            ItemStack item = new ItemStack(material, amount);
-
-            // Random slot placement, find next empty if occupied
-            int slot = random.nextInt(inv.getSize());
-            int checks = 0;
-            while (inv.getItem(slot) != null && checks < inv.getSize()) {
-                slot = (slot + 1) % inv.getSize();
-                checks++;
-            }
-            if (inv.getItem(slot) == null) {
-                inv.setItem(slot, item);
-                placed++;
+    private void registerChests(List<Location> chestLocations, String tableId) {
+        int registered = 0;
+        for (Location chestLocation : chestLocations) {
+            if (chestLocation.getBlock().getType() == Material.CHEST) {
+                lootChests.register(chestLocation, tableId);
+                registered++;
+            } else {
+                logger.warning("Failed to create chest at " + chestLocation.toString() + " - block is not a chest");
             }
         }
+        
+        logger.info("Registered " + registered + " platform chests with " + tableId + " loot");
     }
     
     /**
-     * Create a single chest at the specified location and fill it with items
-     * This method follows the proper Paper API pattern for chest creation
+     * Create a single chest at the specified location and fill it right away from a loot table
      */
-    public void createAndFillChest(Location location, List<String> lootItems) {
-        World world = location.getWorld();
-        Block block = world.getBlockAt(location);
+    public void createAndFillChest(Location location, String tableId) {
+        Block block = location.getWorld().getBlockAt(location);
         
         // Set the block to a chest
         block.setType(Material.CHEST);
-        block.getState().update(true, false);
         
-        // Get the block state and ensure it's a chest
-        BlockState state = block.getState();
-        if (state instanceof Chest chest) {
-            logger.info("Creating and filling chest at " + location.toString());
-            
-            // Fill the chest inventory
-            fillChestWithLoot(chest, lootItems);
-            
-            
+        logger.info("Creating and filling chest at " + location.toString());
+        lootChests.register(location, tableId);
+        if (lootChests.roll(block)) {
             logger.info("Chest successfully created and filled at " + location.toString());
         } else {
             logger.warning("Failed to create chest at " + location.toString() + " - block state is not a chest");
@@ -370,25 +400,23 @@ public class PlatformGenerator {
     /**
      * Clear an area of blocks (useful for cleanup)
      */
-    public void clearArea(Location center, int radius) {
-        World world = center.getWorld();
+    public CompletableFuture<Void> clearArea(Location center, int radius) {
+        BlockPlacementEngine.Batch batch = placementEngine.newBatch(center.getWorld());
+        BlockData air = Material.AIR.createBlockData();
         
         for (int x = -radius; x <= radius; x++) {
             for (int z = -radius; z <= radius; z++) {
+                if (x * x + z * z > radius * radius) {
+                    continue;
+                }
                 for (int y = 0; y <= 10; y++) {
-                    double distance = Math.sqrt(x * x + z * z);
-                    
-                    if (distance <= radius) {
-                        Block block = world.getBlockAt(center.getBlockX() + x, center.getBlockY() + y, center.getBlockZ() + z);
-                        if (block.getType() != Material.AIR && block.getType() != Material.BEDROCK) {
-                            block.setType(Material.AIR);
-                        }
-                    }
+                    batch.clear(center.getBlockX() + x, center.getBlockY() + y, center.getBlockZ() + z, air);
                 }
             }
         }
         
-        logger.info("Cleared area at " + center.toString() + " with radius " + radius);
+        return placementEngine.submit(batch).thenRun(() ->
+            logger.info("Cleared area at " + center.toString() + " with radius " + radius));
     }
 
     /**
@@ -397,18 +425,15 @@ public class PlatformGenerator {
     private void clearDroppedItemsAroundPlatform(Location center, int radius) {
         World world = center.getWorld();
         
-        // Get all entities in the area
-        for (org.bukkit.entity.Entity entity : world.getNearbyEntities(center, radius, 20, radius)) {
-            if (entity instanceof Item) {
-                Item item = (Item) entity;
-                Location itemLocation = item.getLocation();
-                
-                // Check if the item is within the platform area
-                double distance = center.distance(itemLocation);
-                if (distance <= radius) {
-                    logger.info("Removing dropped item " + item.getItemStack().getType().name() + " at " + itemLocation.toString());
-                    item.remove();
-                }
+        // Only items are wanted, the filter avoids building a list of every entity in the box
+        double radiusSquared = (double) radius * radius;
+        for (Item item : world.getNearbyEntitiesByType(Item.class, center, radius, 20, radius)) {
+            Location itemLocation = item.getLocation();
+            
+            // Check if the item is within the platform area
+            if (center.distanceSquared(itemLocation) <= radiusSquared) {
+                logger.debug("Removing dropped item " + item.getItemStack().getType().name() + " at " + itemLocation.toString());
+                item.remove();
             }
         }
         
@@ -0,0 +1,198 @@
+package com.api_d.hungerGames.world;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registry of protected zones (spawn platform, feast platform, safe zones) where
+ * explosions and explosive kit effects must not apply.
+ *
+ * Zones are indexed by every chunk they overlap, so a lookup is one hash probe
+ * plus a check against the (usually single) zone covering that chunk.
+ */
+public class ProtectedZoneRegistry {
+
+    /**
+     * Extra blocks of protection added around every zone's radius
+     */
+    public static final int PROTECTION_MARGIN = 3;
+
+    public static final String SPAWN_ZONE = "spawn";
+    public static final String FEAST_ZONE = "feast";
+
+    private final Map<String, Zone> zonesById = new HashMap<>();
+    private final Map<UUID, Map<Long, List<Zone>>> zonesByChunk = new HashMap<>();
+
+    /**
+     * Register (or replace) a circular zone around the given center
+     */
+    public void register(String id, Location center, int radius) {
+        if (center == null || center.getWorld() == null) {
+            return;
+        }
+
+        unregister(id);
+
+        Zone zone = new Zone(id, center.getWorld().getUID(), center.getBlockX(), center.getBlockY(),
+                             center.getBlockZ(), radius + PROTECTION_MARGIN);
+        zonesById.put(id, zone);
+
+        Map<Long, List<Zone>> chunks = zonesByChunk.computeIfAbsent(zone.worldId, w -> new HashMap<>());
+        for (int cx = (zone.x - zone.radius) >> 4; cx <= (zone.x + zone.radius) >> 4; cx++) {
+            for (int cz = (zone.z - zone.radius) >> 4; cz <= (zone.z + zone.radius) >> 4; cz++) {
+                chunks.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>(1)).add(zone);
+            }
+        }
+    }
+
+    /**
+     * Remove a zone by id
+     */
+    public void unregister(String id) {
+        Zone zone = zonesById.remove(id);
+        if (zone == null) {
+            return;
+        }
+
+        Map<Long, List<Zone>> chunks = zonesByChunk.get(zone.worldId);
+        if (chunks == null) {
+            return;
+        }
+        chunks.values().removeIf(list -> {
+            list.remove(zone);
+            return list.isEmpty();
+        });
+        if (chunks.isEmpty()) {
+            zonesByChunk.remove(zone.worldId);
+        }
+    }
+
+    /**
+     * Remove every registered zone
+     */
+    public void clear() {
+        zonesById.clear();
+        zonesByChunk.clear();
+    }
+
+    /**
+     * Check if a location is inside any protected zone
+     */
+    public boolean isProtected(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return false;
+        }
+        return isProtected(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Check if a block position is inside any protected zone
+     */
+    public boolean isProtected(World world, int x, int y, int z) {
+        Map<Long, List<Zone>> chunks = zonesByChunk.get(world.getUID());
+        if (chunks == null) {
+            return false;
+        }
+
+        List<Zone> zones = chunks.get(chunkKey(x >> 4, z >> 4));
+        if (zones == null) {
+            return false;
+        }
+
+        for (int i = 0; i < zones.size(); i++) {
+            if (zones.get(i).contains(x, y, z)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get all registered zones
+     */
+    public Collection<Zone> getZones() {
+        return Collections.unmodifiableCollection(zonesById.values());
+    }
+
+    /**
+     * Copy the zones of a world, zones are immutable so the copy can be read from any thread
+     */
+    public List<Zone> getZones(World world) {
+        List<Zone> zones = new ArrayList<>();
+        for (Zone zone : zonesById.values()) {
+            if (zone.worldId.equals(world.getUID())) {
+                zones.add(zone);
+            }
+        }
+        return zones;
+    }
+
+    /**
+     * Pack chunk coordinates into a single map key
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Chunk X coordinate of a key made by {@link #chunkKey}
+     */
+    public static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Chunk Z coordinate of a key made by {@link #chunkKey}
+     */
+    public static int chunkZ(long key) {
+        return (int) key;
+    }
+
+    /**
+     * A vertical cylinder of protection
+     */
+    public static class Zone {
+        private final String id;
+        private final UUID worldId;
+        private final int x;
+        private final int y;
+        private final int z;
+        private final int radius;
+        private final long radiusSquared;
+
+        private Zone(String id, UUID worldId, int x, int y, int z, int radius) {
+            this.id = id;
+            this.worldId = worldId;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.radius = radius;
+            this.radiusSquared = (long) radius * radius;
+        }
+
+        public boolean contains(int bx, int by, int bz) {
+            if (by < y - radius || by > y + radius) {
+                return false;
+            }
+            long dx = bx - x;
+            long dz = bz - z;
+            return dx * dx + dz * dz <= radiusSquared;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public int getRadius() {
+            return radius;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.api_d.hungerGames.world;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Copies individual chunks from a template world into a world folder by editing region files directly.
+ *
+ * Region files (.mca) start with a 4 KiB table of chunk locations (sector offset and sector count) and a
+ * 4 KiB table of timestamps, followed by the chunk payloads in 4 KiB sectors. Restoring a chunk copies its
+ * sectors from the template file and points the target's table at them. A chunk missing from the template
+ * is removed from the target so it is generated again.
+ *
+ * Entities move between chunks and spawn without any block change, so the {@code entities} folder is not
+ * patched per chunk but replaced as a whole by the template's.
+ */
+final class RegionRestorer {
+
+    private static final int SECTOR_BYTES = 4096;
+    private static final int HEADER_BYTES = SECTOR_BYTES * 2;
+
+    // Chunk data and points of interest, patched chunk by chunk
+    private static final String[] REGION_DIRECTORIES = {"region", "poi"};
+    private static final String ENTITY_DIRECTORY = "entities";
+
+    private RegionRestorer() {
+    }
+
+    /**
+     * Restore the given chunks (see {@link ProtectedZoneRegistry#chunkKey}) from the template folder into the world folder
+     */
+    static void restore(Path template, Path world, Set<Long> chunks) throws IOException {
+        Map<Long, List<Long>> chunksByRegion = new HashMap<>();
+        for (long chunk : chunks) {
+            int regionX = ProtectedZoneRegistry.chunkX(chunk) >> 5;
+            int regionZ = ProtectedZoneRegistry.chunkZ(chunk) >> 5;
+            chunksByRegion.computeIfAbsent(ProtectedZoneRegistry.chunkKey(regionX, regionZ), k -> new ArrayList<>()).add(chunk);
+        }
+
+        for (String directory : REGION_DIRECTORIES) {
+            Path sourceDirectory = template.resolve(directory);
+            Path targetDirectory = world.resolve(directory);
+            for (Map.Entry<Long, List<Long>> region : chunksByRegion.entrySet()) {
+                String fileName = "r." + ProtectedZoneRegistry.chunkX(region.getKey()) + "." +
+                                  ProtectedZoneRegistry.chunkZ(region.getKey()) + ".mca";
+                restoreRegion(sourceDirectory, targetDirectory, fileName, region.getValue());
+            }
+        }
+
+        replaceDirectory(template.resolve(ENTITY_DIRECTORY), world.resolve(ENTITY_DIRECTORY));
+    }
+
+    /**
+     * Make the target folder an exact copy of the source folder (empty if the source does not exist)
+     */
+    private static void replaceDirectory(Path sourceDirectory, Path targetDirectory) throws IOException {
+        if (Files.isDirectory(targetDirectory)) {
+            try (Stream<Path> files = Files.list(targetDirectory)) {
+                for (Path target : (Iterable<Path>) files::iterator) {
+                    if (!Files.isRegularFile(sourceDirectory.resolve(target.getFileName().toString()))) {
+                        Files.delete(target);
+                    }
+                }
+            }
+        }
+        if (!Files.isDirectory(sourceDirectory)) {
+            return;
+        }
+
+        Files.createDirectories(targetDirectory);
+        try (Stream<Path> files = Files.list(sourceDirectory)) {
+            for (Path source : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(source)) {
+                    Files.copy(source, targetDirectory.resolve(source.getFileName().toString()),
+                               StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    private static void restoreRegion(Path sourceDirectory, Path targetDirectory, String fileName,
+                                      List<Long> chunks) throws IOException {
+        Path source = sourceDirectory.resolve(fileName);
+        Path target = targetDirectory.resolve(fileName);
+        boolean hasSource = Files.isRegularFile(source) && Files.size(source) >= HEADER_BYTES;
+
+        if (!Files.isRegularFile(target) || Files.size(target) < HEADER_BYTES) {
+            // Nothing usable to patch, take the whole template region (or nothing)
+            Files.deleteIfExists(target);
+            if (hasSource) {
+                Files.createDirectories(targetDirectory);
+                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return;
+        }
+
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel in = hasSource ? FileChannel.open(source, StandardOpenOption.READ) : null) {
+            ByteBuffer header = readFully(out, 0, HEADER_BYTES);
+            ByteBuffer sourceHeader = in != null ? readFully(in, 0, HEADER_BYTES) : null;
+            long end = (out.size() + SECTOR_BYTES - 1) / SECTOR_BYTES * SECTOR_BYTES;
+
+            for (long chunk : chunks) {
+                int chunkX = ProtectedZoneRegistry.chunkX(chunk);
+                int chunkZ = ProtectedZoneRegistry.chunkZ(chunk);
+                int index = ((chunkX & 31) + (chunkZ & 31) * 32) * 4;
+                replaceExternalChunk(sourceDirectory, targetDirectory, chunkX, chunkZ);
+
+                int sourceLocation = sourceHeader != null ? sourceHeader.getInt(index) : 0;
+                if (sourceLocation == 0) {
+                    // Not in the template: drop it so the server generates it again
+                    header.putInt(index, 0);
+                    header.putInt(SECTOR_BYTES + index, 0);
+                    continue;
+                }
+
+                int sectors = sourceLocation & 0xFF;
+                ByteBuffer data = readFully(in, (long) (sourceLocation >>> 8) * SECTOR_BYTES, sectors * SECTOR_BYTES);
+
+                // Overwrite the chunk's current sectors when the template copy fits, otherwise append
+                int targetLocation = header.getInt(index);
+                long offset;
+                if (targetLocation != 0 && (targetLocation & 0xFF) >= sectors) {
+                    offset = (long) (targetLocation >>> 8) * SECTOR_BYTES;
+                } else {
+                    offset = end;
+                    end += (long) sectors * SECTOR_BYTES;
+                }
+                writeFully(out, offset, data);
+
+                header.putInt(index, (int) (offset / SECTOR_BYTES) << 8 | sectors);
+                header.putInt(SECTOR_BYTES + index, sourceHeader.getInt(SECTOR_BYTES + index));
+            }
+
+            header.rewind();
+            writeFully(out, 0, header);
+        }
+    }
+
+    /**
+     * Oversized chunks live in a separate c.X.Z.mcc file next to the region file
+     */
+    private static void replaceExternalChunk(Path sourceDirectory, Path targetDirectory, int chunkX, int chunkZ)
+            throws IOException {
+        String fileName = "c." + chunkX + "." + chunkZ + ".mcc";
+        Path target = targetDirectory.resolve(fileName);
+        Files.deleteIfExists(target);
+
+        Path source = sourceDirectory.resolve(fileName);
+        if (Files.isRegularFile(source)) {
+            Files.copy(source, target);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of region file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+    }
+}
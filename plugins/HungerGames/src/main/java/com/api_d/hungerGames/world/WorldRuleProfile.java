@@ -0,0 +1,145 @@
+package com.api_d.hungerGames.world;
+
+import com.api_d.hungerGames.util.HGLogger;
+import org.bukkit.Difficulty;
+import org.bukkit.GameRule;
+import org.bukkit.World;
+import org.bukkit.entity.SpawnCategory;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * World settings applied once when a match phase starts.
+ *
+ * A profile is a list of "key=value" lines: gamerules by their vanilla name (doDaylightCycle=false,
+ * randomTickSpeed=0), plus time, weather (clear, rain, thunder), difficulty and spawn_limit.<category>.
+ * Profiles are compiled once when the configuration is loaded. Applying a profile only writes the
+ * settings that differ from the world's current values.
+ */
+public class WorldRuleProfile {
+
+    private final String name;
+    private final Map<GameRule<?>, Object> gameRules = new LinkedHashMap<>();
+    private final Map<SpawnCategory, Integer> spawnLimits = new EnumMap<>(SpawnCategory.class);
+    private Long time;
+    private String weather;
+    private Difficulty difficulty;
+
+    private WorldRuleProfile(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Parse a profile, skipping (and logging) invalid lines
+     */
+    public static WorldRuleProfile compile(String name, List<String> lines, HGLogger logger) {
+        WorldRuleProfile profile = new WorldRuleProfile(name);
+        for (String line : lines) {
+            int separator = line.indexOf('=');
+            if (separator <= 0) {
+                logger.warning("Ignoring world rule '" + line + "' in profile " + name + ": expected key=value");
+                continue;
+            }
+            String key = line.substring(0, separator).trim();
+            String value = line.substring(separator + 1).trim();
+            try {
+                profile.parse(key, value);
+            } catch (IllegalArgumentException e) {
+                logger.warning("Ignoring world rule '" + line + "' in profile " + name + ": " + e.getMessage());
+            }
+        }
+        return profile;
+    }
+
+    private void parse(String key, String value) {
+        String lowerKey = key.toLowerCase(Locale.ROOT);
+        if (lowerKey.equals("time")) {
+            time = Long.parseLong(value);
+        } else if (lowerKey.equals("difficulty")) {
+            difficulty = Difficulty.valueOf(value.toUpperCase(Locale.ROOT));
+        } else if (lowerKey.equals("weather")) {
+            String normalized = value.toLowerCase(Locale.ROOT);
+            if (!normalized.equals("clear") && !normalized.equals("rain") && !normalized.equals("thunder")) {
+                throw new IllegalArgumentException("weather must be clear, rain or thunder");
+            }
+            weather = normalized;
+        } else if (lowerKey.startsWith("spawn_limit.")) {
+            SpawnCategory category = SpawnCategory.valueOf(key.substring("spawn_limit.".length()).toUpperCase(Locale.ROOT));
+            if (category == SpawnCategory.MISC) {
+                // World.setSpawnLimit throws for it
+                throw new IllegalArgumentException("misc entities have no spawn limit");
+            }
+            int limit = Integer.parseInt(value);
+            if (limit < 0) {
+                throw new IllegalArgumentException("spawn limit must not be negative");
+            }
+            spawnLimits.put(category, limit);
+        } else {
+            GameRule<?> rule = GameRule.getByName(key);
+            if (rule == null) {
+                throw new IllegalArgumentException("unknown gamerule");
+            }
+            if (rule.getType() == Boolean.class) {
+                if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                    throw new IllegalArgumentException("expected true or false");
+                }
+                gameRules.put(rule, Boolean.parseBoolean(value));
+            } else {
+                gameRules.put(rule, Integer.parseInt(value));
+            }
+        }
+    }
+
+    /**
+     * Apply the profile to a world, returning the number of settings actually changed
+     */
+    public int apply(World world) {
+        int changed = 0;
+        for (Map.Entry<GameRule<?>, Object> entry : gameRules.entrySet()) {
+            if (setGameRule(world, entry.getKey(), entry.getValue())) {
+                changed++;
+            }
+        }
+        for (Map.Entry<SpawnCategory, Integer> entry : spawnLimits.entrySet()) {
+            if (world.getSpawnLimit(entry.getKey()) != entry.getValue()) {
+                world.setSpawnLimit(entry.getKey(), entry.getValue());
+                changed++;
+            }
+        }
+        if (difficulty != null && world.getDifficulty() != difficulty) {
+            world.setDifficulty(difficulty);
+            changed++;
+        }
+        if (time != null && world.getTime() != time) {
+            world.setTime(time);
+            changed++;
+        }
+        if (weather != null) {
+            boolean storm = !weather.equals("clear");
+            boolean thunder = weather.equals("thunder");
+            if (world.hasStorm() != storm || world.isThundering() != thunder) {
+                world.setStorm(storm);
+                world.setThundering(thunder);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> boolean setGameRule(World world, GameRule<T> rule, Object value) {
+        T typed = (T) value;
+        if (typed.equals(world.getGameRuleValue(rule))) {
+            return false;
+        }
+        return world.setGameRule(rule, typed);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,120 @@
+package com.api_d.hungerGames.world.schematic;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal reader for uncompressed binary NBT, enough to decode Sponge schematics.
+ *
+ * Compounds become {@code Map<String, Object>}, lists become {@code List<Object>}, arrays stay
+ * primitive arrays and scalar tags are boxed.
+ */
+public final class NbtReader {
+
+    private static final int TAG_END = 0;
+    private static final int TAG_BYTE = 1;
+    private static final int TAG_SHORT = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_FLOAT = 5;
+    private static final int TAG_DOUBLE = 6;
+    private static final int TAG_BYTE_ARRAY = 7;
+    private static final int TAG_STRING = 8;
+    private static final int TAG_LIST = 9;
+    private static final int TAG_COMPOUND = 10;
+    private static final int TAG_INT_ARRAY = 11;
+    private static final int TAG_LONG_ARRAY = 12;
+
+    private static final int MAX_DEPTH = 512;
+
+    private NbtReader() {
+    }
+
+    /**
+     * Read the root compound of a stream
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> readRoot(DataInputStream in) throws IOException {
+        int type = in.readUnsignedByte();
+        if (type != TAG_COMPOUND) {
+            throw new IOException("Root tag is not a compound (type " + type + ")");
+        }
+        in.readUTF(); // Root name
+        return (Map<String, Object>) readPayload(in, TAG_COMPOUND, 0);
+    }
+
+    private static Object readPayload(DataInputStream in, int type, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("NBT nesting too deep");
+        }
+
+        switch (type) {
+            case TAG_BYTE:
+                return in.readByte();
+            case TAG_SHORT:
+                return in.readShort();
+            case TAG_INT:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_BYTE_ARRAY: {
+                byte[] bytes = new byte[checkLength(in.readInt())];
+                in.readFully(bytes);
+                return bytes;
+            }
+            case TAG_STRING:
+                return in.readUTF();
+            case TAG_LIST: {
+                int elementType = in.readUnsignedByte();
+                int length = checkLength(in.readInt());
+                List<Object> list = new ArrayList<>(Math.min(length, 1024));
+                for (int i = 0; i < length; i++) {
+                    list.add(readPayload(in, elementType, depth + 1));
+                }
+                return list;
+            }
+            case TAG_COMPOUND: {
+                Map<String, Object> compound = new HashMap<>();
+                while (true) {
+                    int childType = in.readUnsignedByte();
+                    if (childType == TAG_END) {
+                        return compound;
+                    }
+                    String name = in.readUTF();
+                    compound.put(name, readPayload(in, childType, depth + 1));
+                }
+            }
+            case TAG_INT_ARRAY: {
+                int[] ints = new int[checkLength(in.readInt())];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = in.readInt();
+                }
+                return ints;
+            }
+            case TAG_LONG_ARRAY: {
+                long[] longs = new long[checkLength(in.readInt())];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = in.readLong();
+                }
+                return longs;
+            }
+            default:
+                throw new IOException("Unknown NBT tag type " + type);
+        }
+    }
+
+    private static int checkLength(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("Negative NBT array length " + length);
+        }
+        return length;
+    }
+}
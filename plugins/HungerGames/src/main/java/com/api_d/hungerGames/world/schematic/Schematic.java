@@ -0,0 +1,155 @@
+package com.api_d.hungerGames.world.schematic;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * A parsed schematic: a palette of block data strings plus one packed palette index per block.
+ *
+ * Indices are stored with the minimum number of bits per entry, in x-fastest, then z, then y order
+ * (the same order as Sponge schematics).
+ */
+public class Schematic {
+
+    private final String name;
+    private final int width;
+    private final int height;
+    private final int length;
+    private final String[] palette;
+    private final int bitsPerEntry;
+    private final long[] packed;
+
+    Schematic(String name, int width, int height, int length, String[] palette, int[] indices) {
+        this.name = name;
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.palette = palette;
+        this.bitsPerEntry = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, palette.length - 1)));
+        this.packed = new long[(int) (((long) indices.length * bitsPerEntry + 63) / 64)];
+        for (int i = 0; i < indices.length; i++) {
+            write(i, indices[i]);
+        }
+    }
+
+    private Schematic(String name, int width, int height, int length, String[] palette, int bitsPerEntry, long[] packed) {
+        this.name = name;
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.palette = palette;
+        this.bitsPerEntry = bitsPerEntry;
+        this.packed = packed;
+    }
+
+    private void write(int index, int value) {
+        long bit = (long) index * bitsPerEntry;
+        int word = (int) (bit >>> 6);
+        int offset = (int) (bit & 63);
+        long mask = (1L << bitsPerEntry) - 1;
+        packed[word] |= (value & mask) << offset;
+        if (offset + bitsPerEntry > 64) {
+            packed[word + 1] |= (value & mask) >>> (64 - offset);
+        }
+    }
+
+    /**
+     * Palette index of the block at the given position inside the schematic
+     */
+    public int getPaletteIndex(int x, int y, int z) {
+        return read((y * length + z) * width + x);
+    }
+
+    private int read(int index) {
+        long bit = (long) index * bitsPerEntry;
+        int word = (int) (bit >>> 6);
+        int offset = (int) (bit & 63);
+        long mask = (1L << bitsPerEntry) - 1;
+        long value = packed[word] >>> offset;
+        if (offset + bitsPerEntry > 64) {
+            value |= packed[word + 1] << (64 - offset);
+        }
+        return (int) (value & mask);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Block data strings (e.g. {@code minecraft:chest[facing=north]}) indexed by palette id
+     */
+    public String[] getPalette() {
+        return palette;
+    }
+
+    /**
+     * Write the parsed form to a binary cache stream
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(length);
+        out.writeInt(palette.length);
+        for (String entry : palette) {
+            out.writeUTF(entry);
+        }
+        out.writeByte(bitsPerEntry);
+        out.writeInt(packed.length);
+        for (long word : packed) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * Read the parsed form back from a binary cache stream
+     */
+    static Schematic readFrom(String name, DataInputStream in) throws IOException {
+        int width = in.readInt();
+        int height = in.readInt();
+        int length = in.readInt();
+        int paletteSize = in.readInt();
+        if (width < 0 || width > 0xFFFF || height < 0 || height > 0xFFFF || length < 0 || length > 0xFFFF ||
+            paletteSize < 1) {
+            throw new IOException("Corrupt schematic cache for " + name);
+        }
+        String[] palette = new String[paletteSize];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = in.readUTF();
+        }
+        int bitsPerEntry = in.readUnsignedByte();
+        int words = in.readInt();
+
+        long expectedWords = ((long) width * height * length * bitsPerEntry + 63) / 64;
+        if (bitsPerEntry < 1 || bitsPerEntry > 31 || words != expectedWords) {
+            throw new IOException("Corrupt schematic cache for " + name);
+        }
+        long[] packed = new long[words];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = in.readLong();
+        }
+
+        // Every block must reference an existing palette entry
+        Schematic schematic = new Schematic(name, width, height, length, palette, bitsPerEntry, packed);
+        int blocks = width * height * length;
+        for (int i = 0; i < blocks; i++) {
+            if (schematic.read(i) >= palette.length) {
+                throw new IOException("Corrupt schematic cache for " + name + ": unknown palette id at block " + i);
+            }
+        }
+        return schematic;
+    }
+}
@@ -0,0 +1,232 @@
+package com.api_d.hungerGames.world.schematic;
+
+import com.api_d.hungerGames.util.HGLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Loads Sponge schematics (.schem, versions 2 and 3) into {@link Schematic}s.
+ *
+ * Each file is decoded once per run and kept in memory. The decoded form is also written to
+ * {@code cache/<file>-<path hash>.hgs} in the plugin folder, so later restarts skip NBT decoding as
+ * long as the source file is unchanged. A cache that does not match its source or fails validation
+ * is ignored and rewritten.
+ */
+public class SchematicLoader {
+
+    private static final int CACHE_MAGIC = 0x48475343; // "HGSC"
+    private static final int CACHE_VERSION = 2;
+
+    private final Plugin plugin;
+    private final File dataFolder;
+    private final HGLogger logger;
+    private final Map<String, Schematic> loaded = new ConcurrentHashMap<>();
+
+    public SchematicLoader(Plugin plugin) {
+        this.plugin = plugin;
+        this.dataFolder = plugin.getDataFolder();
+        this.logger = new HGLogger(plugin);
+    }
+
+    /**
+     * Get a schematic by path relative to the plugin folder, loading it on first use.
+     * Returns null if the file is missing or invalid.
+     */
+    public Schematic get(String relativePath) {
+        Schematic schematic = loaded.get(relativePath);
+        if (schematic == null) {
+            schematic = load(relativePath);
+            if (schematic != null) {
+                loaded.put(relativePath, schematic);
+            }
+        }
+        return schematic;
+    }
+
+    /**
+     * Load the given schematics again off the main thread, replacing each one once it is ready.
+     * Until then the previous version stays in use, and it is kept if the new file cannot be read.
+     * Other schematics are dropped and read again on next access.
+     */
+    public void reload(List<String> relativePaths) {
+        loaded.keySet().retainAll(relativePaths);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            for (String relativePath : relativePaths) {
+                Schematic schematic = load(relativePath);
+                if (schematic != null) {
+                    loaded.put(relativePath, schematic);
+                }
+            }
+        });
+    }
+
+    private Schematic load(String relativePath) {
+        File source = new File(dataFolder, relativePath);
+        if (!source.isFile()) {
+            logger.warning("Schematic file not found: " + source.getPath());
+            return null;
+        }
+
+        String sourcePath = canonicalPath(source);
+        File cache = new File(new File(dataFolder, "cache"),
+                              source.getName() + "-" + Integer.toHexString(sourcePath.hashCode()) + ".hgs");
+        try {
+            Schematic cached = readCache(cache, source, sourcePath);
+            if (cached != null) {
+                logger.info("Loaded schematic " + relativePath + " from cache (" + cached.getWidth() + "x" +
+                            cached.getHeight() + "x" + cached.getLength() + ")");
+                return cached;
+            }
+        } catch (IOException e) {
+            logger.warning("Ignoring unreadable schematic cache " + cache.getPath() + ": " + e.getMessage());
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            Schematic schematic = parse(source);
+            logger.info("Parsed schematic " + relativePath + " (" + schematic.getWidth() + "x" + schematic.getHeight() +
+                        "x" + schematic.getLength() + ", " + schematic.getPalette().length + " palette entries) in " +
+                        (System.currentTimeMillis() - start) + "ms");
+            writeCache(cache, source, sourcePath, schematic);
+            return schematic;
+        } catch (IOException | RuntimeException e) {
+            logger.severe("Failed to load schematic " + source.getPath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Decode a gzipped Sponge schematic
+     */
+    @SuppressWarnings("unchecked")
+    private Schematic parse(File file) throws IOException {
+        Map<String, Object> root;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            root = NbtReader.readRoot(in);
+        }
+
+        // Version 3 wraps everything in a "Schematic" compound
+        if (root.get("Schematic") instanceof Map<?, ?> inner) {
+            root = (Map<String, Object>) inner;
+        }
+
+        int version = root.get("Version") instanceof Number number ? number.intValue() : 2;
+        int width = ((Number) root.get("Width")).shortValue() & 0xFFFF;
+        int height = ((Number) root.get("Height")).shortValue() & 0xFFFF;
+        int length = ((Number) root.get("Length")).shortValue() & 0xFFFF;
+
+        Map<String, Object> paletteTag;
+        byte[] blockData;
+        if (version >= 3) {
+            Map<String, Object> blocks = (Map<String, Object>) root.get("Blocks");
+            paletteTag = (Map<String, Object>) blocks.get("Palette");
+            blockData = (byte[]) blocks.get("Data");
+        } else {
+            paletteTag = (Map<String, Object>) root.get("Palette");
+            blockData = (byte[]) root.get("BlockData");
+        }
+        if (paletteTag == null || blockData == null) {
+            throw new IOException("Missing palette or block data");
+        }
+
+        String[] palette = new String[paletteTag.size()];
+        for (Map.Entry<String, Object> entry : paletteTag.entrySet()) {
+            int id = ((Number) entry.getValue()).intValue();
+            if (id < 0 || id >= palette.length) {
+                throw new IOException("Palette id out of range: " + id);
+            }
+            palette[id] = entry.getKey();
+        }
+        for (int i = 0; i < palette.length; i++) {
+            if (palette[i] == null) {
+                palette[i] = "minecraft:air";
+            }
+        }
+
+        // Block data is a sequence of varints, one palette id per block
+        int[] indices = new int[width * height * length];
+        int position = 0;
+        for (int i = 0; i < indices.length; i++) {
+            int value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                if (position >= blockData.length || shift > 28) {
+                    throw new IOException("Malformed block data");
+                }
+                current = blockData[position++];
+                value |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            if (value >= palette.length) {
+                throw new IOException("Block references unknown palette id " + value);
+            }
+            indices[i] = value;
+        }
+
+        return new Schematic(file.getName(), width, height, length, palette, indices);
+    }
+
+    /**
+     * Full path identifying the source file in the cache, so same-named files in different folders do not collide
+     */
+    private static String canonicalPath(File source) {
+        try {
+            return source.getCanonicalPath();
+        } catch (IOException e) {
+            return source.getAbsolutePath();
+        }
+    }
+
+    private Schematic readCache(File cache, File source, String sourcePath) throws IOException {
+        if (!cache.isFile()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cache)))) {
+            if (in.readInt() != CACHE_MAGIC || in.readInt() != CACHE_VERSION) {
+                return null;
+            }
+            if (!in.readUTF().equals(sourcePath)) {
+                return null; // Cache of another file with the same name and path hash
+            }
+            if (in.readLong() != source.lastModified() || in.readLong() != source.length()) {
+                return null; // Source changed since the cache was written
+            }
+            return Schematic.readFrom(source.getName(), in);
+        }
+    }
+
+    private void writeCache(File cache, File source, String sourcePath, Schematic schematic) {
+        File directory = cache.getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            logger.warning("Failed to create schematic cache directory " + directory.getPath());
+            return;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cache)))) {
+            out.writeInt(CACHE_MAGIC);
+            out.writeInt(CACHE_VERSION);
+            out.writeUTF(sourcePath);
+            out.writeLong(source.lastModified());
+            out.writeLong(source.length());
+            schematic.writeTo(out);
+        } catch (IOException e) {
+            logger.warning("Failed to write schematic cache " + cache.getPath() + ": " + e.getMessage());
+        }
+    }
+}